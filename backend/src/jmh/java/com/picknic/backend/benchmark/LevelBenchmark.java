@@ -0,0 +1,41 @@
+package com.picknic.backend.benchmark;
+
+import com.picknic.backend.domain.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레벨 계산 (Level.fromPoints) - 사용자 정보 조회, 랭킹 응답마다 호출됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    private long[] points;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        points = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            points[i] = random.nextInt(8000);
+        }
+    }
+
+    @Benchmark
+    public Level fromPoints() {
+        return Level.fromPoints(points[cursor++ & (SAMPLES - 1)]);
+    }
+}
@@ -0,0 +1,129 @@
+package com.picknic.backend.benchmark;
+
+import com.picknic.backend.util.DatabaseMigration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+/**
+ * 알림 INSERT 처리량 비교 (./gradlew benchmarkNotificationInsert)
+ *
+ * Hot 투표 알림처럼 사용자 수만큼 알림을 한 번에 만드는 경우를 재현한다.
+ * - before: IDENTITY 방식 - 행마다 INSERT ... RETURNING id (Hibernate가 배치를 못 씀)
+ * - after : SEQUENCE(pooled, 50) 방식 - ID를 50개씩 미리 받고 JDBC 배치 + reWriteBatchedInserts
+ *
+ * JMH가 아닌 main으로 실행하는 DB 벤치마크지만 운영 jar에 들어가지 않도록 jmh 소스셋에 둔다.
+ * 임시 테이블(세션 종료 시 삭제)에 쓰므로 실제 notifications 테이블에는 영향이 없다.
+ * 인자: [행 수] (기본 100000)
+ */
+public class NotificationInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final String COLUMNS =
+            "user_id VARCHAR(255) NOT NULL, type VARCHAR(50) NOT NULL, title VARCHAR(255) NOT NULL, " +
+            "message TEXT NOT NULL, vote_id BIGINT, is_read BOOLEAN NOT NULL, created_at TIMESTAMP NOT NULL";
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long identityMillis = runIdentity(rows);
+        long sequenceMillis = runSequenceBatch(rows);
+
+        System.out.printf("행 수: %,d%n", rows);
+        System.out.printf("before (IDENTITY, 행마다 INSERT)     : %,6d ms  (%,.0f rows/s)%n",
+                identityMillis, rows * 1000.0 / identityMillis);
+        System.out.printf("after  (SEQUENCE pooled + JDBC 배치) : %,6d ms  (%,.0f rows/s)%n",
+                sequenceMillis, rows * 1000.0 / sequenceMillis);
+        System.out.printf("개선: %.1fx%n", (double) identityMillis / sequenceMillis);
+    }
+
+    private static long runIdentity(int rows) throws SQLException {
+        try (Connection connection = DatabaseMigration.openConnection(new Properties())) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE bench_notifications_identity (" +
+                        "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + COLUMNS + ")");
+            }
+            connection.setAutoCommit(false);
+
+            String sql = "INSERT INTO bench_notifications_identity " +
+                    "(user_id, type, title, message, vote_id, is_read, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING id";
+
+            long startedAt = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (int i = 0; i < rows; i++) {
+                    bind(insert, 1, i);
+                    try (ResultSet generated = insert.executeQuery()) {
+                        generated.next();
+                    }
+                }
+            }
+            connection.commit();
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+    }
+
+    private static long runSequenceBatch(int rows) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("reWriteBatchedInserts", "true");
+
+        try (Connection connection = DatabaseMigration.openConnection(properties)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP SEQUENCE bench_notifications_seq INCREMENT BY " + BATCH_SIZE);
+                statement.execute("CREATE TEMP TABLE bench_notifications_sequence (" +
+                        "id BIGINT PRIMARY KEY, " + COLUMNS + ")");
+            }
+            connection.setAutoCommit(false);
+
+            String sql = "INSERT INTO bench_notifications_sequence " +
+                    "(id, user_id, type, title, message, vote_id, is_read, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+            long startedAt = System.nanoTime();
+            try (PreparedStatement nextBlock = connection.prepareStatement("SELECT nextval('bench_notifications_seq')");
+                 PreparedStatement insert = connection.prepareStatement(sql)) {
+                long nextId = 0;
+                long blockEnd = -1;
+
+                for (int i = 0; i < rows; i++) {
+                    if (nextId > blockEnd) {
+                        // pooled optimizer와 같은 방식: 시퀀스 값 하나로 ID 50개 확보
+                        try (ResultSet block = nextBlock.executeQuery()) {
+                            block.next();
+                            blockEnd = block.getLong(1);
+                            nextId = blockEnd - BATCH_SIZE + 1;
+                        }
+                    }
+
+                    insert.setLong(1, nextId++);
+                    bind(insert, 2, i);
+                    insert.addBatch();
+
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+    }
+
+    private static void bind(PreparedStatement insert, int from, int i) throws SQLException {
+        insert.setString(from, "bench-user-" + i + "@picknic.test");
+        insert.setString(from + 1, "HOT_VOTE");
+        insert.setString(from + 2, "🔥 HOT 투표!");
+        insert.setString(from + 3, "\"벤치마크\" 투표가 인기 급상승 중이에요! 지금 바로 참여해보세요!");
+        insert.setLong(from + 4, 1L);
+        insert.setBoolean(from + 5, false);
+        insert.setTimestamp(from + 6, Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
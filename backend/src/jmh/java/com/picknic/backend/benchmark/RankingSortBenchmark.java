@@ -0,0 +1,92 @@
+package com.picknic.backend.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개인 랭킹 정렬 (포인트 내림차순, 동점이면 userId 오름차순)
+ *
+ * 리더보드(LeaderboardService) 도입 전에는 요청마다 전체 사용자를 메모리에서 정렬했다.
+ * - fullSort: 이전 방식 (전체 정렬 후 상위 N명)
+ * - topK    : 상위 N명만 힙으로 유지하는 경우
+ * 사용자 수에 따른 비용을 리더보드 조회(O(log n + N))와 비교하기 위한 기준값이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingSortBenchmark {
+
+    private static final int TOP = 20;
+
+    private static final Comparator<Ranker> RANKING_ORDER = Comparator
+            .comparingLong(Ranker::points).reversed()
+            .thenComparing(Ranker::userId);
+
+    @Param({"1000", "100000"})
+    private int users;
+
+    private List<Ranker> rankers;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rankers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            // 동점이 충분히 생기도록 포인트 범위를 제한
+            rankers.add(new Ranker("user" + i + "@picknic.com", random.nextInt(5000)));
+        }
+    }
+
+    @Benchmark
+    public List<Ranker> fullSort() {
+        List<Ranker> sorted = new ArrayList<>(rankers);
+        sorted.sort(RANKING_ORDER);
+        return sorted.subList(0, Math.min(TOP, sorted.size()));
+    }
+
+    @Benchmark
+    public List<Ranker> topK() {
+        PriorityQueue<Ranker> heap = new PriorityQueue<>(TOP + 1, RANKING_ORDER.reversed());
+        for (Ranker ranker : rankers) {
+            heap.offer(ranker);
+            if (heap.size() > TOP) {
+                heap.poll();
+            }
+        }
+        List<Ranker> top = new ArrayList<>(heap);
+        top.sort(RANKING_ORDER);
+        return top;
+    }
+
+    static final class Ranker {
+
+        private final String userId;
+        private final long points;
+
+        Ranker(String userId, long points) {
+            this.userId = userId;
+            this.points = points;
+        }
+
+        String userId() {
+            return userId;
+        }
+
+        long points() {
+            return points;
+        }
+    }
+}
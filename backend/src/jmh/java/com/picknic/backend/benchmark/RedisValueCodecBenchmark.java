@@ -0,0 +1,150 @@
+package com.picknic.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.domain.VoteOption;
+import com.picknic.backend.dto.vote.VoteAnalysisDto;
+import com.picknic.backend.dto.vote.VoteDemographics;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.service.VoteAnalysisBuilder;
+import com.picknic.backend.util.JsonValueCodec;
+import com.picknic.backend.util.RedisValueCodec;
+import com.picknic.backend.util.SmileValueCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 객체 캐시 코덱 (RedisValueCodec)
+ *
+ * 참여자 10만 명 카운터로 만든 실제 분석 결과(VoteAnalysisDto, 한글 라벨 + 선택지별 분석)를
+ * 코덱별로 인코딩/디코딩하는 시간을 측정한다.
+ * 저장 크기는 encode의 보조 지표(@AuxCounters)로 결과 파일에 함께 남는다:
+ * encodedBytes / calls = 호출당 저장 크기(헤더 포함), jsonBytes / calls = 같은 값의 JSON 원문 크기.
+ *
+ * - json      : 기존 형식 (JSON, 압축 없음)
+ * - smile     : Jackson Smile
+ * - json+lz4  : JSON + LZ4 (항상 압축)
+ * - smile+lz4 : Smile + LZ4 (항상 압축)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisValueCodecBenchmark {
+
+    private static final String KEY = "cache:vote-analysis:1";
+    private static final String[] INTERESTS = {
+            "게임", "음악", "스포츠", "독서", "영화", "여행", "요리", "패션", "코딩", "그림"
+    };
+    private static final int VOTERS = 100_000;
+
+    @Param({"json", "smile", "json+lz4", "smile+lz4"})
+    private String codec;
+
+    private RedisValueCodec valueCodec;
+    private VoteAnalysisDto analysis;
+    private byte[] encoded;
+    private int jsonLength;
+
+    @Setup
+    public void setUp() throws Exception {
+        analysis = buildAnalysis();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        String[] parts = codec.split("\\+");
+        boolean lz4 = parts.length > 1;
+        valueCodec = new RedisValueCodec(
+                List.of(new JsonValueCodec(objectMapper), new SmileValueCodec(objectMapper)),
+                parts[0],
+                "",
+                lz4 ? 0 : Integer.MAX_VALUE,
+                Integer.MAX_VALUE);
+
+        encoded = valueCodec.encode(KEY, analysis);
+        jsonLength = objectMapper.writeValueAsBytes(analysis).length;
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize size) throws Exception {
+        byte[] result = valueCodec.encode(KEY, analysis);
+        size.calls++;
+        size.encodedBytes += result.length;
+        size.jsonBytes += jsonLength;
+        return result;
+    }
+
+    @Benchmark
+    public VoteAnalysisDto decode() throws Exception {
+        return valueCodec.decode(encoded, VoteAnalysisDto.class);
+    }
+
+    // 저장 크기 보조 지표 (반복마다 초기화, 결과 파일의 secondaryMetrics에 기록)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long calls;
+        public long encodedBytes;
+        public long jsonBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            encodedBytes = 0;
+            jsonBytes = 0;
+        }
+    }
+
+    // VoteAnalysisBenchmark와 같은 방식으로 만든 카운터 → 분석 결과
+    private VoteAnalysisDto buildAnalysis() {
+        Random random = new Random(42);
+
+        Vote vote = Vote.builder()
+                .id(1L)
+                .title("급식 만족도")
+                .createdAt(LocalDateTime.now())
+                .build();
+        for (long i = 1; i <= 4; i++) {
+            vote.addOption(VoteOption.builder().id(i).optionText("선택지 " + i + " - 오늘 급식 메뉴 중 가장 좋았던 것").build());
+        }
+        List<VoteOption> options = vote.getOptions();
+
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < VOTERS; i++) {
+            List<String> interests = new ArrayList<>();
+            for (int j = 0, n = 1 + random.nextInt(3); j < n; j++) {
+                interests.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+            }
+            User user = User.builder()
+                    .email("user" + i + "@picknic.com")
+                    .gender(random.nextBoolean() ? "MALE" : "FEMALE")
+                    .birthYear(VoteDemographics.MIN_BIRTH_YEAR + random.nextInt(6))
+                    .interests(interests)
+                    .build();
+            Long optionId = options.get(random.nextInt(options.size())).getId();
+            for (String field : VoteDemographics.fieldsFor(user, optionId)) {
+                counts.merge(field, 1L, Long::sum);
+            }
+        }
+
+        Map<String, String> hash = new HashMap<>();
+        counts.forEach((field, count) -> hash.put(field, String.valueOf(count)));
+        return VoteAnalysisBuilder.build(VoteDemographics.fromHash(hash), options, VOTERS, Year.now().getValue());
+    }
+}
@@ -0,0 +1,140 @@
+package com.picknic.backend.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.dto.auth.TokenVerification;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.util.CognitoTokenValidator;
+import com.picknic.backend.util.JwtTokenProvider;
+import com.picknic.backend.util.TokenDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 토큰 검증
+ *
+ * - JwtTokenProvider: 자체 발급 토큰 (HS512) 검증 + 이메일 추출 - JwtAuthenticationFilter가 요청마다 두 번 파싱함
+ * - CognitoTokenValidator: Cognito ID 토큰 (RS256) 검증
+ * - TokenDispatcher: 헤더로 발급처를 판별해 해당 검증기로만 검증 (인증 필터에서 사용)
+ *
+ * Cognito JWKS는 네트워크 대신 벤치마크에서 생성한 RSA 키를 로컬 파일(aws.cognito.jwks-file)로 읽는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenValidationBenchmark {
+
+    private static final String ISSUER = "https://cognito-idp.ap-northeast-2.amazonaws.com/ap-northeast-2_bench";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String jwtToken;
+
+    private CognitoTokenValidator cognitoTokenValidator;
+    private JWKSet jwkSet;
+    private TokenDispatcher tokenDispatcher;
+    private String cognitoToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "secretKeyMustBeAtLeast256BitsLongForHS512AlgorithmSoThisIsJustAPlaceholderString");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationInMs", 86400000L);
+        jwtTokenProvider.init();
+        jwtToken = jwtTokenProvider.generateTokenForUser(User.builder().email("user@picknic.com").build());
+
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID("bench-key").generate();
+        Path jwksFile = Files.createTempFile("bench-jwks", ".json");
+        jwksFile.toFile().deleteOnExit();
+        jwkSet = new JWKSet(rsaKey.toPublicJWK());
+        Files.writeString(jwksFile, jwkSet.toString());
+
+        cognitoTokenValidator = new CognitoTokenValidator();
+        ReflectionTestUtils.setField(cognitoTokenValidator, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(cognitoTokenValidator, "userPoolId", "ap-northeast-2_bench");
+        ReflectionTestUtils.setField(cognitoTokenValidator, "jwksFile", jwksFile.toString());
+        ReflectionTestUtils.setField(cognitoTokenValidator, "minRefreshIntervalMs", 60000L);
+        cognitoTokenValidator.init();
+
+        tokenDispatcher = new TokenDispatcher(cognitoTokenValidator, jwtTokenProvider, new ObjectMapper());
+        cognitoToken = JWT.create()
+                .withKeyId("bench-key")
+                .withIssuer(ISSUER)
+                .withSubject("bench-sub")
+                .withClaim("token_use", "id")
+                .withClaim("email", "user@picknic.com")
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .sign(Algorithm.RSA256(rsaKey.toRSAPublicKey(), rsaKey.toRSAPrivateKey()));
+    }
+
+    @Benchmark
+    public boolean jwtValidate() {
+        return jwtTokenProvider.validateToken(jwtToken);
+    }
+
+    @Benchmark
+    public String jwtValidateAndExtractEmail() {
+        // JwtAuthenticationFilter와 같은 순서 (검증 후 이메일 추출)
+        jwtTokenProvider.validateToken(jwtToken);
+        return jwtTokenProvider.getEmailFromToken(jwtToken);
+    }
+
+    @Benchmark
+    public DecodedJWT cognitoValidate() {
+        return cognitoTokenValidator.validateAndDecode(cognitoToken);
+    }
+
+    @Benchmark
+    public DecodedJWT cognitoValidateUncached() throws Exception {
+        // 검증기 캐시 도입 전 방식 (요청마다 키 변환 + 검증기 생성) - 비교 기준
+        DecodedJWT jwt = JWT.decode(cognitoToken);
+        RSAPublicKey publicKey = ((RSAKey) jwkSet.getKeyByKeyId(jwt.getKeyId())).toRSAPublicKey();
+        return JWT.require(Algorithm.RSA256(publicKey, null))
+                .withIssuer(ISSUER)
+                .withClaim("token_use", "id")
+                .acceptLeeway(60)
+                .build()
+                .verify(cognitoToken);
+    }
+
+    @Benchmark
+    public TokenVerification dispatchLocalToken() {
+        return tokenDispatcher.verify(jwtToken);
+    }
+
+    @Benchmark
+    public TokenVerification dispatchCognitoToken() {
+        return tokenDispatcher.verify(cognitoToken);
+    }
+
+    @Benchmark
+    public String localTokenAfterCognitoMiss() {
+        // TokenDispatcher 도입 전 필터 순서 (Cognito 검증 실패 예외 → 검증 → 이메일 추출, 두 번 파싱) - 비교 기준
+        try {
+            cognitoTokenValidator.validateAndDecode(jwtToken);
+        } catch (JWTVerificationException e) {
+            if (jwtTokenProvider.validateToken(jwtToken)) {
+                return jwtTokenProvider.getEmailFromToken(jwtToken);
+            }
+        }
+        return null;
+    }
+}
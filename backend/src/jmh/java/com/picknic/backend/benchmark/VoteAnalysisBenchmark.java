@@ -0,0 +1,109 @@
+package com.picknic.backend.benchmark;
+
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.domain.VoteOption;
+import com.picknic.backend.dto.vote.VoteAnalysisDto;
+import com.picknic.backend.dto.vote.VoteDemographics;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.service.VoteAnalysisBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투표 분석 (GET /votes/{id}/results)
+ *
+ * 분석은 인구통계 카운터(vote:demo:{voteId})를 읽어 VoteAnalysisBuilder로 계산한다.
+ * 참여자 1천 / 10만 / 100만 명의 카운터를 미리 만들어 두고
+ * - analyze   : 카운터 → 분석 결과 (참여자 수가 아니라 버킷 수에 비례해야 함)
+ * - recordVote: 투표 1건이 증가시킬 카운터 필드 계산 (투표 시 비용)
+ * 을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoteAnalysisBenchmark {
+
+    private static final String[] INTERESTS = {
+            "게임", "음악", "스포츠", "독서", "영화", "여행", "요리", "패션", "코딩", "그림"
+    };
+    private static final int PROFILE_COUNT = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int voters;
+
+    private List<VoteOption> options;
+    private User[] profiles;
+    private Map<String, String> hash;
+    private int currentYear;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        currentYear = Year.now().getValue();
+
+        Vote vote = Vote.builder()
+                .id(1L)
+                .title("급식 만족도")
+                .createdAt(LocalDateTime.now())
+                .build();
+        for (long i = 1; i <= 4; i++) {
+            vote.addOption(VoteOption.builder().id(i).optionText("선택지 " + i).build());
+        }
+        options = vote.getOptions();
+
+        // 사용자 프로필은 조합 수가 제한적이므로 일부만 만들어 재사용
+        profiles = new User[PROFILE_COUNT];
+        for (int i = 0; i < PROFILE_COUNT; i++) {
+            List<String> interests = new ArrayList<>();
+            for (int j = 0, n = 1 + random.nextInt(3); j < n; j++) {
+                interests.add(INTERESTS[random.nextInt(INTERESTS.length)]);
+            }
+            profiles[i] = User.builder()
+                    .id((long) i)
+                    .email("user" + i + "@picknic.com")
+                    .gender(random.nextBoolean() ? "MALE" : "FEMALE")
+                    .birthYear(VoteDemographics.MIN_BIRTH_YEAR + random.nextInt(6))
+                    .interests(interests)
+                    .build();
+        }
+
+        // 참여자 수만큼 투표를 반영한 카운터 (Redis 해시와 같은 형태)
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < voters; i++) {
+            User user = profiles[random.nextInt(PROFILE_COUNT)];
+            Long optionId = options.get(random.nextInt(options.size())).getId();
+            for (String field : VoteDemographics.fieldsFor(user, optionId)) {
+                counts.merge(field, 1L, Long::sum);
+            }
+        }
+        hash = new HashMap<>();
+        counts.forEach((field, count) -> hash.put(field, String.valueOf(count)));
+    }
+
+    @Benchmark
+    public VoteAnalysisDto analyze() {
+        return VoteAnalysisBuilder.build(VoteDemographics.fromHash(hash), options, voters, currentYear);
+    }
+
+    @Benchmark
+    public List<String> recordVote() {
+        int next = cursor++ & (PROFILE_COUNT - 1);
+        return VoteDemographics.fieldsFor(profiles[next], options.get(next & 3).getId());
+    }
+}
@@ -0,0 +1,82 @@
+package com.picknic.backend.benchmark;
+
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.domain.VoteOption;
+import com.picknic.backend.dto.vote.VoteOptionResponse;
+import com.picknic.backend.dto.vote.VoteResponse;
+import com.picknic.backend.dto.vote.VoteTally;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 응답 변환 (VoteResponse.from, VoteOptionResponse.from)
+ *
+ * 피드 한 페이지마다 투표 수만큼 호출되므로 남은 시간 계산(calculateTimeLeft),
+ * 투표 타입 판별(determineVoteType)을 포함한 변환 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VoteResponseBenchmark {
+
+    private Vote multipleVote;
+    private Vote oxVote;
+    private VoteTally tally;
+    private VoteOption option;
+
+    @Setup
+    public void setUp() {
+        multipleVote = vote(1L, List.of("짜장면", "짬뽕", "탕수육", "볶음밥"), LocalDateTime.now().plusDays(3));
+        oxVote = vote(2L, List.of("O", "X"), LocalDateTime.now().plusMinutes(45));
+        tally = new VoteTally(7L, Map.of(11L, 3L, 12L, 4L));
+        option = multipleVote.getOptions().get(0);
+    }
+
+    @Benchmark
+    public VoteResponse multipleChoiceWithTally() {
+        return VoteResponse.from(multipleVote, true, 11L, tally);
+    }
+
+    @Benchmark
+    public VoteResponse oxWithoutTally() {
+        return VoteResponse.from(oxVote, false, null);
+    }
+
+    @Benchmark
+    public VoteOptionResponse optionResponse() {
+        return VoteOptionResponse.from(option, 1234, 5678);
+    }
+
+    private static Vote vote(Long id, List<String> optionTexts, LocalDateTime expiresAt) {
+        Vote vote = Vote.builder()
+                .id(id)
+                .title("점심 메뉴 투표")
+                .description("오늘 점심은?")
+                .creatorId("creator@picknic.com")
+                .category("음식")
+                .schoolName("픽닉고등학교")
+                .createdAt(LocalDateTime.now().minusHours(2))
+                .expiresAt(expiresAt)
+                .totalVotes(5678)
+                .build();
+
+        for (int i = 0; i < optionTexts.size(); i++) {
+            vote.addOption(VoteOption.builder()
+                    .id(id * 10 + i + 1)
+                    .optionText(optionTexts.get(i))
+                    .voteCount(1000 + i * 100)
+                    .build());
+        }
+        return vote;
+    }
+}
@@ -1,11 +1,16 @@
 package com.picknic.backend.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
@@ -23,7 +28,7 @@ public class AsyncConfig {
      * @return ThreadPoolTaskExecutor
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // 기본 스레드 수 (항상 유지)
@@ -38,6 +43,80 @@ public class AsyncConfig {
         // 스레드 이름 접두사 (로그에서 식별 용이)
         executor.setThreadNamePrefix("async-event-");
 
+        // 큐까지 가득 차서 거절된 작업 수 기록 (거절 동작 자체는 기본값 AbortPolicy 유지)
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("taskExecutor 에서 거절된 작업 수")
+                .tag("name", "taskExecutor")
+                .register(meterRegistry);
+        RejectedExecutionHandler abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            abortPolicy.rejectedExecution(task, pool);
+        });
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실시간 알림 전달(SSE fan-out) 스레드 풀
+     *
+     * Redis 구독 스레드는 모든 채널이 함께 쓰므로 연결마다 쓰는 작업은 이 풀로 넘긴다.
+     * 큐가 가득 차면 거절하고(executor.rejected) 호출 측은 그 알림의 실시간 전달만 건너뛴다
+     * (클라이언트는 재연결 시 Last-Event-ID로 다시 받음).
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "sseFanoutExecutor")
+    public Executor sseFanoutExecutor(MeterRegistry meterRegistry,
+                                      @Value("${notification.stream.fanout-threads:2}") int threads,
+                                      @Value("${notification.stream.fanout-queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-fanout-");
+
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("sseFanoutExecutor 에서 거절된 작업 수")
+                .tag("name", "sseFanoutExecutor")
+                .register(meterRegistry);
+        RejectedExecutionHandler abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            abortPolicy.rejectedExecution(task, pool);
+        });
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 새벽 배치(학교 동기화, 분석 카운터 재구축, 학교 포인트 점검) 스레드 풀
+     *
+     * @Scheduled 스레드는 투표 수 집계, 투표 기록 저장 같은 짧은 주기 작업이 함께 쓰므로
+     * 수 분씩 걸리는 배치는 이 풀로 넘긴다. 한 스레드로 차례대로 실행해서 배치끼리 DB 부하가 겹치지 않게 한다.
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    @Bean(name = "nightlyJobExecutor")
+    public Executor nightlyJobExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("nightly-job-");
+
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("nightlyJobExecutor 에서 거절된 작업 수")
+                .tag("name", "nightlyJobExecutor")
+                .register(meterRegistry);
+        RejectedExecutionHandler abortPolicy = new ThreadPoolExecutor.AbortPolicy();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            abortPolicy.rejectedExecution(task, pool);
+        });
+
         executor.initialize();
         return executor;
     }
@@ -4,6 +4,8 @@ import com.picknic.backend.domain.Reward;
 import com.picknic.backend.entity.User;
 import com.picknic.backend.repository.RewardRepository;
 import com.picknic.backend.repository.UserRepository;
+import com.picknic.backend.service.RewardService;
+import com.picknic.backend.util.TwoTierCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -18,6 +20,7 @@ public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final RewardRepository rewardRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TwoTierCache twoTierCache;
 
     @Override
     public void run(String... args) throws Exception {
@@ -80,5 +83,6 @@ public class DataInitializer implements CommandLineRunner {
         );
 
         rewardRepository.saveAll(Arrays.asList(starbucksReward, gs25Reward));
+        twoTierCache.evict(RewardService.LIST_CACHE, RewardService.LIST_CACHE_KEY);
     }
 }
@@ -1,12 +1,11 @@
 package com.picknic.backend.config;
 
-import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
+import com.picknic.backend.dto.auth.TokenVerification;
 import com.picknic.backend.entity.User;
 import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.service.CustomUserDetailsService;
-import com.picknic.backend.util.CognitoTokenValidator;
-import com.picknic.backend.util.JwtTokenProvider;
+import com.picknic.backend.util.PrincipalCache;
+import com.picknic.backend.util.TokenDispatcher;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,11 +26,11 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
-    private final CognitoTokenValidator cognitoValidator;
+    private final TokenDispatcher tokenDispatcher;
     private final CustomUserDetailsService customUserDetailsService;
     private final UserRepository userRepository;
     private final com.picknic.backend.service.OAuthUserService oauthUserService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -40,34 +39,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                // 1단계: Cognito ID 토큰 시도
-                try {
-                    DecodedJWT cognitoToken = cognitoValidator.validateAndDecode(jwt);
-                    String email = cognitoValidator.getEmailFromToken(cognitoToken);
-                    String providerId = cognitoValidator.getCognitoSubFromToken(cognitoToken);
+            // 0단계: 이미 검증한 토큰이면 캐시된 인증 주체 사용 (검증, DB 조회 생략)
+            UserDetails cachedPrincipal = StringUtils.hasText(jwt) ? principalCache.get(jwt) : null;
 
-                    // OAuth 사용자 자동 생성 또는 조회
+            if (cachedPrincipal != null) {
+                setAuthentication(cachedPrincipal, request);
+            } else if (StringUtils.hasText(jwt)) {
+                // 1단계: 헤더로 발급처를 판별해 해당 검증기로만 검증 (Cognito ID 토큰 / 자체 발급 토큰)
+                TokenVerification verification = tokenDispatcher.verify(jwt);
+
+                if (!verification.isValid()) {
+                    logger.debug("Token validation failed: " + verification.getFailureReason());
+                } else if (verification.getSource() == TokenVerification.Source.COGNITO) {
+                    // 2단계: OAuth 사용자 자동 생성 또는 조회
                     User user = oauthUserService.getOrCreateOAuthUser(
-                            email,
-                            providerId,
+                            verification.getEmail(),
+                            verification.getSubject(),
                             User.AuthProvider.GOOGLE
                     );
 
                     // 인증 컨텍스트 설정 (프로필 미완성 사용자도 인증됨)
-                    setAuthentication(user, request);
-
-                } catch (JWTVerificationException cognitoEx) {
-                    // 2단계: 커스텀 JWT 시도 (LOCAL 사용자)
-                    try {
-                        if (tokenProvider.validateToken(jwt)) {
-                            String email = tokenProvider.getEmailFromToken(jwt);
-                            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-                            setAuthentication(userDetails, request);
-                        }
-                    } catch (Exception jwtEx) {
-                        logger.error("Both token validation methods failed", jwtEx);
-                    }
+                    UserDetails userDetails = setAuthentication(user, request);
+                    principalCache.put(jwt, userDetails, verification.getExpiresAt());
+                } else {
+                    // 2단계: LOCAL 사용자 조회
+                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(verification.getEmail());
+                    setAuthentication(userDetails, request);
+                    principalCache.put(jwt, userDetails, verification.getExpiresAt());
                 }
             }
         } catch (Exception ex) {
@@ -77,14 +75,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(User user, HttpServletRequest request) {
+    private UserDetails setAuthentication(User user, HttpServletRequest request) {
         UserDetails userDetails = new org.springframework.security.core.userdetails.User(
             user.getEmail(), "", new ArrayList<>()
         );
-        UsernamePasswordAuthenticationToken authentication =
-            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        setAuthentication(userDetails, request);
+        return userDetails;
     }
 
     private void setAuthentication(UserDetails userDetails, HttpServletRequest request) {
@@ -0,0 +1,22 @@
+package com.picknic.backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ *
+ * 서비스 메서드와 RedisUtil의 @Timed 어노테이션을 타이머로 기록하도록 TimedAspect를 등록
+ * 컨트롤러 엔드포인트(http.server.requests), Hikari 커넥션 풀(hikaricp.connections.*),
+ * taskExecutor 스레드 풀(executor.*)은 Spring Boot 자동 설정으로 수집됨
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -5,11 +5,19 @@ import com.picknic.backend.entity.User;
 import com.picknic.backend.domain.Vote;
 import com.picknic.backend.domain.VoteOption;
 import com.picknic.backend.domain.VoteRecord;
+import com.picknic.backend.dto.vote.VoteTally;
 import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.repository.VoteRecordRepository;
 import com.picknic.backend.repository.VoteRepository;
 import com.picknic.backend.repository.VoteOptionRepository;
+import com.picknic.backend.service.LeaderboardService;
+import com.picknic.backend.service.SchoolPointsService;
+import com.picknic.backend.service.VoteDemographicsRebuildScheduler;
+import com.picknic.backend.service.VoteDemographicsService;
+import com.picknic.backend.service.VoteTallyService;
+import com.picknic.backend.service.VoterIndexService;
 import com.picknic.backend.util.SecurityUtils;
+import com.picknic.backend.util.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +36,13 @@ public class AdminController {
     private final VoteRecordRepository voteRecordRepository;
     private final VoteRepository voteRepository;
     private final VoteOptionRepository voteOptionRepository;
+    private final VoteTallyService voteTallyService;
+    private final VoterIndexService voterIndexService;
+    private final VoteDemographicsService voteDemographicsService;
+    private final VoteDemographicsRebuildScheduler voteDemographicsRebuildScheduler;
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
+    private final PrincipalCache principalCache;
     private final SecurityUtils securityUtils;
 
     /**
@@ -48,6 +63,11 @@ public class AdminController {
 
         log.info("=== 데이터 정리 시작 ===");
 
+        // 재계산이 끝날 때까지 투표 수 반영과 투표 기록 저장을 멈춤 (큐에서 저장 대기 중인 투표도 세기 위해)
+        if (!voteTallyService.lockForRecount()) {
+            throw new IllegalStateException("투표 기록을 저장하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
         // 2. 2007~2012년생이 아닌 사용자 찾기 (시스템 계정 제외)
         List<User> invalidUsers = userRepository.findAll().stream()
                 .filter(user -> !user.getIsSystemAccount())
@@ -76,8 +96,9 @@ public class AdminController {
                 .map(VoteRecord::getVoteId)
                 .collect(Collectors.toSet());
 
-        // 6. 투표 기록 삭제
+        // 6. 투표 기록 삭제 (투표 분석 카운터에서도 차감)
         voteRecordRepository.deleteAll(invalidRecords);
+        voteDemographicsService.remove(invalidRecords, voteDemographicsService.findUsers(invalidUserEmails));
         log.info("투표 기록 {}개 삭제 완료", invalidRecords.size());
 
         // 7. 각 투표의 totalVotes와 각 옵션의 voteCount 재계산
@@ -90,9 +111,11 @@ public class AdminController {
 
             // 해당 투표의 모든 투표 기록 가져오기
             List<VoteRecord> validRecords = voteRecordRepository.findByVoteId(voteId);
+            // 아직 큐에서 저장을 기다리는 투표 (커밋 후 읽은 시점까지의 증분만 차감)
+            VoteTally queued = voteTallyService.snapshotForRecount(voteId, voterIdsOf(validRecords));
 
             // totalVotes 재설정
-            vote.setTotalVotes(validRecords.size());
+            vote.setTotalVotes(validRecords.size() + (int) queued.getTotalDelta());
             updatedVotes++;
 
             // 각 옵션의 voteCount 재계산
@@ -100,7 +123,8 @@ public class AdminController {
                     .collect(Collectors.groupingBy(VoteRecord::getSelectedOptionId, Collectors.counting()));
 
             for (VoteOption option : vote.getOptions()) {
-                int newCount = optionVoteCounts.getOrDefault(option.getId(), 0L).intValue();
+                int newCount = optionVoteCounts.getOrDefault(option.getId(), 0L).intValue()
+                        + queued.getOptionDeltas().getOrDefault(option.getId(), 0L).intValue();
                 option.setVoteCount(newCount);
                 voteOptionRepository.save(option);
                 updatedOptions++;
@@ -108,11 +132,17 @@ public class AdminController {
 
             voteRepository.save(vote);
         }
+        // 삭제된 기록이 참여자 인덱스에 남지 않도록 모든 서버에서 다시 구축 (커밋 후)
+        voterIndexService.invalidateVotes(affectedVoteIds);
 
         log.info("투표 {}개, 옵션 {}개 재계산 완료", updatedVotes, updatedOptions);
 
         // 8. 유효하지 않은 사용자 삭제
         userRepository.deleteAll(invalidUsers);
+        invalidUserEmails.forEach(leaderboardService::remove);
+        invalidUsers.forEach(schoolPointsService::leave);
+        // 삭제된 사용자의 토큰이 캐시로 계속 인증되지 않도록 제거
+        invalidUserEmails.forEach(principalCache::invalidate);
         log.info("사용자 {}명 삭제 완료", invalidUsers.size());
 
         log.info("=== 데이터 정리 완료 ===");
@@ -148,6 +178,11 @@ public class AdminController {
 
         log.info("=== 투표 재계산 시작 ===");
 
+        // 재계산이 끝날 때까지 투표 수 반영과 투표 기록 저장을 멈춤 (큐에서 저장 대기 중인 투표도 세기 위해)
+        if (!voteTallyService.lockForRecount()) {
+            throw new IllegalStateException("투표 기록을 저장하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
         // 2. 모든 투표 가져오기
         List<Vote> allVotes = voteRepository.findAll();
         int updatedVotes = 0;
@@ -156,13 +191,16 @@ public class AdminController {
         for (Vote vote : allVotes) {
             // 해당 투표의 모든 투표 기록 가져오기
             List<VoteRecord> records = voteRecordRepository.findByVoteId(vote.getId());
+            // 아직 큐에서 저장을 기다리는 투표 (커밋 후 읽은 시점까지의 증분만 차감)
+            VoteTally queued = voteTallyService.snapshotForRecount(vote.getId(), voterIdsOf(records));
 
             // totalVotes 재설정
             int oldTotal = vote.getTotalVotes();
-            vote.setTotalVotes(records.size());
+            int newTotal = records.size() + (int) queued.getTotalDelta();
+            vote.setTotalVotes(newTotal);
 
-            if (oldTotal != records.size()) {
-                log.info("투표 ID {}: totalVotes {} -> {}", vote.getId(), oldTotal, records.size());
+            if (oldTotal != newTotal) {
+                log.info("투표 ID {}: totalVotes {} -> {}", vote.getId(), oldTotal, newTotal);
             }
 
             // 각 옵션의 voteCount 재계산
@@ -172,7 +210,8 @@ public class AdminController {
             Vote voteWithOptions = voteRepository.findByIdWithOptions(vote.getId()).orElse(vote);
             for (VoteOption option : voteWithOptions.getOptions()) {
                 int oldCount = option.getVoteCount();
-                int newCount = optionVoteCounts.getOrDefault(option.getId(), 0L).intValue();
+                int newCount = optionVoteCounts.getOrDefault(option.getId(), 0L).intValue()
+                        + queued.getOptionDeltas().getOrDefault(option.getId(), 0L).intValue();
                 option.setVoteCount(newCount);
 
                 if (oldCount != newCount) {
@@ -319,6 +358,12 @@ public class AdminController {
         Vote vote = voteRepository.findByIdWithOptions(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
 
+        // 입력한 값을 지금까지의 투표 수로 확정 - 읽은 시점까지의 증분만 커밋 후 차감하고 이후 투표는 남김
+        if (!voteTallyService.lockForRecount()) {
+            throw new IllegalStateException("투표 기록을 저장하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        voteTallyService.snapshotForRecount(voteId, Set.of());
+
         int totalVotes = 0;
         for (Map<String, Object> optionData : optionVotes) {
             Long optionId = Long.valueOf(optionData.get("optionId").toString());
@@ -340,4 +385,84 @@ public class AdminController {
         log.info("투표 ID {} 투표수 수정 완료: 총 {}표", voteId, totalVotes);
         return ApiResponse.success("투표수가 수정되었습니다.");
     }
+
+    /**
+     * 투표 분석 카운터 재구축 (vote_records 기준)
+     * voteId를 지정하면 해당 투표만, 없으면 진행 중인 투표 전체
+     */
+    @PostMapping("/rebuild-vote-demographics")
+    public ApiResponse<Map<String, Object>> rebuildVoteDemographics(@RequestParam(required = false) Long voteId) {
+        String currentUserId = securityUtils.getCurrentUserId();
+        User currentUser = userRepository.findByEmail(currentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        if (!currentUser.getIsSystemAccount()) {
+            throw new IllegalStateException("시스템 계정만 실행할 수 있습니다.");
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        if (voteId != null) {
+            if (!voteDemographicsService.rebuild(voteId)) {
+                throw new IllegalStateException("이미 재구축 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            result.put("rebuiltVotes", 1);
+        } else {
+            result.put("rebuiltVotes", voteDemographicsRebuildScheduler.rebuildActiveVotes());
+        }
+
+        log.info("투표 분석 카운터 재구축 - voteId: {}, 결과: {}", voteId, result);
+        return ApiResponse.success(result);
+    }
+
+    /**
+     * 누적 포인트 리더보드 재구축 (user_points 기준)
+     */
+    @PostMapping("/rebuild-leaderboard")
+    public ApiResponse<Map<String, Object>> rebuildLeaderboard() {
+        String currentUserId = securityUtils.getCurrentUserId();
+        User currentUser = userRepository.findByEmail(currentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        if (!currentUser.getIsSystemAccount()) {
+            throw new IllegalStateException("시스템 계정만 실행할 수 있습니다.");
+        }
+
+        int rebuilt = leaderboardService.rebuild();
+        if (rebuilt < 0) {
+            throw new IllegalStateException("리더보드를 재구축하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("rankedUsers", rebuilt);
+        return ApiResponse.success(result);
+    }
+
+    /**
+     * 학교별 포인트 합계·학생 수 점검 및 보정 (users, user_points 기준)
+     */
+    @PostMapping("/reconcile-school-points")
+    public ApiResponse<Map<String, Object>> reconcileSchoolPoints() {
+        String currentUserId = securityUtils.getCurrentUserId();
+        User currentUser = userRepository.findByEmail(currentUserId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        if (!currentUser.getIsSystemAccount()) {
+            throw new IllegalStateException("시스템 계정만 실행할 수 있습니다.");
+        }
+
+        int drifted = schoolPointsService.reconcile();
+        if (drifted < 0) {
+            throw new IllegalStateException("학교 포인트를 점검하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("correctedSchools", drifted);
+        return ApiResponse.success(result);
+    }
+
+    private Set<String> voterIdsOf(List<VoteRecord> records) {
+        return records.stream()
+                .map(VoteRecord::getUserId)
+                .collect(Collectors.toSet());
+    }
 }
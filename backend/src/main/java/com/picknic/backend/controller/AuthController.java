@@ -8,7 +8,10 @@ import com.picknic.backend.dto.auth.UserSignupDto;
 import com.picknic.backend.entity.User;
 import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.service.AuthService;
+import com.picknic.backend.service.LeaderboardService;
+import com.picknic.backend.service.SchoolPointsService;
 import com.picknic.backend.service.StudentCardService;
+import com.picknic.backend.util.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +31,9 @@ public class AuthController {
     private final AuthService authService;
     private final UserRepository userRepository;
     private final StudentCardService studentCardService;
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
+    private final PrincipalCache principalCache;
 
     @Value("${aws.cognito.domain}")
     private String cognitoDomain;
@@ -87,6 +93,8 @@ public class AuthController {
             User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+            String previousSchoolName = user.getSchoolName();
+
             // 프로필 정보 업데이트
             user.setNickname(dto.getNickname());
             user.setGender(dto.getGender());
@@ -96,6 +104,11 @@ public class AuthController {
 
             userRepository.save(user);
 
+            // 학교 정보가 바뀌었을 수 있으므로 누적 랭킹 대상 여부 동기화
+            leaderboardService.syncUser(user);
+            schoolPointsService.changeSchool(user, previousSchoolName);
+            principalCache.invalidate(email);
+
             return ResponseEntity.ok(user);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
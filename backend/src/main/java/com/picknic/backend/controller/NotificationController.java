@@ -1,13 +1,14 @@
 package com.picknic.backend.controller;
 
-import com.picknic.backend.domain.Notification;
 import com.picknic.backend.dto.common.ApiResponse;
+import com.picknic.backend.dto.notification.NotificationPageResponse;
 import com.picknic.backend.service.NotificationService;
+import com.picknic.backend.service.NotificationStreamService;
 import com.picknic.backend.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 알림 관련 REST API 컨트롤러
@@ -18,18 +19,40 @@ import java.util.List;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     private final SecurityUtils securityUtils;
 
     /**
-     * 내 알림 목록 조회
+     * 내 알림 목록 조회 (개인 + 전체 알림, 키셋 페이지네이션 - nextCursor로 다음 페이지 조회)
      */
     @GetMapping
-    public ApiResponse<List<Notification>> getMyNotifications() {
+    public ApiResponse<NotificationPageResponse> getMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
         String userId = securityUtils.getCurrentUserId();
-        List<Notification> notifications = notificationService.getMyNotifications(userId);
+        NotificationPageResponse notifications = notificationService.getMyNotifications(userId, cursor, limit);
         return ApiResponse.success(notifications);
     }
 
+    /**
+     * 안 읽은 알림 수 조회 (폴링용 - Redis 조회 한 번)
+     */
+    @GetMapping("/unread-count")
+    public ApiResponse<Long> getUnreadCount() {
+        String userId = securityUtils.getCurrentUserId();
+        return ApiResponse.success(notificationService.getUnreadCount(userId));
+    }
+
+    /**
+     * 새 알림 실시간 수신 (SSE)
+     * 재연결 시 브라우저/클라이언트가 보내는 Last-Event-ID 이후의 알림을 먼저 보냄
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        String userId = securityUtils.getCurrentUserId();
+        return notificationStreamService.connect(userId, lastEventId);
+    }
+
     /**
      * 알림 읽음 처리
      */
@@ -39,4 +62,24 @@ public class NotificationController {
         notificationService.markAsRead(id, userId);
         return ApiResponse.success("알림이 읽음 처리되었습니다.");
     }
+
+    /**
+     * 전체 알림 읽음 처리
+     */
+    @PatchMapping("/broadcasts/{id}/read")
+    public ApiResponse<String> markBroadcastAsRead(@PathVariable Long id) {
+        String userId = securityUtils.getCurrentUserId();
+        notificationService.markBroadcastAsRead(id, userId);
+        return ApiResponse.success("알림이 읽음 처리되었습니다.");
+    }
+
+    /**
+     * 알림 모두 읽음 처리
+     */
+    @PatchMapping("/read-all")
+    public ApiResponse<String> markAllAsRead() {
+        String userId = securityUtils.getCurrentUserId();
+        notificationService.markAllAsRead(userId);
+        return ApiResponse.success("모든 알림이 읽음 처리되었습니다.");
+    }
 }
@@ -1,9 +1,11 @@
 package com.picknic.backend.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.picknic.backend.domain.School;
 import com.picknic.backend.domain.SchoolRepository;
 import com.picknic.backend.dto.school.SchoolDto;
 import com.picknic.backend.service.NEISService;
+import com.picknic.backend.util.TwoTierCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,6 +24,7 @@ public class SchoolController {
 
     private final SchoolRepository schoolRepository;
     private final NEISService neisService;
+    private final TwoTierCache twoTierCache;
 
     /**
      * [LEGACY] 학교 목록 조회 API (이름만 반환)
@@ -36,11 +40,17 @@ public class SchoolController {
             @RequestParam("type") String type
     ) {
         // DB에서 해당 타입(HIGH/MIDDLE)의 학교를 가나다순으로 다 가져옴
-        List<School> schools = schoolRepository.findByTypeOrderByNameAsc(type);
         // 학교 정보(ID, 타입 등)는 필요 없고, '이름'만 뽑아서 리스트로 만듦
-        return schools.stream()
+        Supplier<List<String>> loader = () -> schoolRepository.findByTypeOrderByNameAsc(type).stream()
                 .map(School::getName)
                 .collect(Collectors.toList());
+
+        // 알려진 타입만 2단 캐시 사용 (임의의 type 값으로 캐시 키가 늘어나지 않도록)
+        String cacheKey = "type:" + type;
+        if (!NEISService.SCHOOL_LIST_CACHE_KEYS.contains(cacheKey)) {
+            return loader.get();
+        }
+        return twoTierCache.get(NEISService.SCHOOL_LIST_CACHE, cacheKey, new TypeReference<List<String>>() {}, loader);
     }
 
     /**
@@ -58,10 +68,10 @@ public class SchoolController {
         }
     )
     public List<SchoolDto> getAllSchools() {
-        List<School> schools = schoolRepository.findAllByOrderByNameAsc();
-        return schools.stream()
-                .map(SchoolDto::from)
-                .collect(Collectors.toList());
+        return twoTierCache.get(NEISService.SCHOOL_LIST_CACHE, "all", new TypeReference<List<SchoolDto>>() {},
+                () -> schoolRepository.findAllByOrderByNameAsc().stream()
+                        .map(SchoolDto::from)
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -3,15 +3,20 @@ package com.picknic.backend.controller;
 import com.picknic.backend.dto.common.ApiResponse;
 import com.picknic.backend.dto.vote.CastVoteRequest;
 import com.picknic.backend.dto.vote.CreateVoteRequest;
+import com.picknic.backend.dto.vote.VoteFeedFilter;
+import com.picknic.backend.dto.vote.VoteFeedResponse;
 import com.picknic.backend.dto.vote.VoteResponse;
 import com.picknic.backend.dto.vote.VoteResultResponse;
 import com.picknic.backend.service.S3Service;
+import com.picknic.backend.service.VoteLiveService;
 import com.picknic.backend.service.VoteService;
 import com.picknic.backend.util.SecurityUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -22,6 +27,7 @@ import java.util.Map;
 public class VoteController {
 
     private final VoteService voteService;
+    private final VoteLiveService voteLiveService;
     private final SecurityUtils securityUtils;
     private final S3Service s3Service;
 
@@ -48,13 +54,29 @@ public class VoteController {
 //        return ApiResponse.success(votes);
 //    }
 
+    // 투표 피드 (키셋 페이지네이션, nextCursor로 다음 페이지 조회)
+    // hot, schoolName, creatorId, category, excludeVoted 조건은 함께 지정 가능 (모두 만족하는 투표만)
     @GetMapping
-    public ApiResponse<List<VoteResponse>> getVotes(
+    public ApiResponse<VoteFeedResponse> getVotes(
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String creatorId) {
+            @RequestParam(required = false) String creatorId,
+            @RequestParam(required = false) Boolean hot,
+            @RequestParam(required = false) String schoolName,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean excludeVoted,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         String userId = securityUtils.getCurrentUserId();
-        List<VoteResponse> votes = voteService.getVotes(userId, status, creatorId);
-        return ApiResponse.success(votes);
+        VoteFeedFilter filter = VoteFeedFilter.builder()
+                .status(status)
+                .creatorId(creatorId)
+                .hot(hot)
+                .schoolName(schoolName)
+                .category(category)
+                .excludeVotedBy(Boolean.TRUE.equals(excludeVoted) ? userId : null)
+                .build();
+        VoteFeedResponse feed = voteService.getVoteFeed(userId, filter, cursor, size);
+        return ApiResponse.success(feed);
     }
 
     // 투표 상세 조회
@@ -130,4 +152,11 @@ public class VoteController {
         VoteResultResponse response = voteService.getVoteResults(id);
         return ApiResponse.success(response);
     }
+
+    // 실시간 투표 현황 (SSE - 인기 투표 결과 폴링 대신 사용, 투표 수가 바뀌면 interval-ms 간격으로 전송)
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(@PathVariable Long id) {
+        String userId = securityUtils.getCurrentUserId();
+        return voteLiveService.connect(id, userId);
+    }
 }
\ No newline at end of file
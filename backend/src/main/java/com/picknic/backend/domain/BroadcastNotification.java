@@ -0,0 +1,52 @@
+package com.picknic.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 사용자 대상 알림 (Hot 투표 등)
+ *
+ * 사용자 수와 무관하게 알림 하나당 한 행만 저장하고, 조회 시 개인 알림과 합쳐서 보여준다.
+ * 읽음 여부는 사용자별 커서(NotificationCursor)와 개별 읽음 기록(BroadcastNotificationRead)으로 판단한다.
+ * 같은 투표의 같은 알림은 한 번만 저장된다 (백엔드와 Lambda가 함께 만들어도 중복되지 않음).
+ */
+@Entity
+@Table(name = "broadcast_notifications",
+    indexes = @Index(name = "idx_broadcast_notifications_created_at_id", columnList = "created_at, id"),
+    uniqueConstraints = @UniqueConstraint(name = "uk_broadcast_notifications_type_vote", columnNames = {"type", "vote_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BroadcastNotification {
+
+    // Lambda도 nextval로 직접 INSERT 하므로 미리 할당받지 않음
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "broadcast_notifications_seq_gen")
+    @SequenceGenerator(name = "broadcast_notifications_seq_gen", sequenceName = "broadcast_notifications_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String type;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    @Column(name = "vote_id")
+    private Long voteId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.picknic.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 알림 개별 읽음 기록 (사용자 커서보다 뒤의 알림만)
+ *
+ * 모두 읽음 처리로 커서가 앞으로 가면 커서 이하의 기록은 삭제되므로 작게 유지된다.
+ */
+@Entity
+@Table(name = "broadcast_notification_reads",
+    uniqueConstraints = @UniqueConstraint(name = "uk_broadcast_notification_reads_user_broadcast",
+        columnNames = {"user_id", "broadcast_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class BroadcastNotificationRead {
+
+    // 중복 없이 nextval로 직접 INSERT 하므로 미리 할당받지 않음
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "broadcast_notification_reads_seq_gen")
+    @SequenceGenerator(name = "broadcast_notification_reads_seq_gen", sequenceName = "broadcast_notification_reads_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "broadcast_id", nullable = false)
+    private Long broadcastId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
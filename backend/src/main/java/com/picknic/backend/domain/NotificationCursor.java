@@ -0,0 +1,26 @@
+package com.picknic.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 전체 알림 읽음 커서
+ *
+ * lastReadBroadcastId 이하의 전체 알림은 모두 읽은 것으로 본다.
+ * 커서보다 뒤의 알림을 하나씩 읽은 기록은 BroadcastNotificationRead에 남는다.
+ */
+@Entity
+@Table(name = "notification_cursors")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationCursor {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "last_read_broadcast_id", nullable = false)
+    private Long lastReadBroadcastId;
+}
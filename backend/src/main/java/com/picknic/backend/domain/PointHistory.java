@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class PointHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_history_seq_gen")
+    @SequenceGenerator(name = "point_history_seq_gen", sequenceName = "point_history_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -32,6 +33,9 @@ public class PointHistory {
 
     private String referenceId; // voteId 또는 rewardId
 
+    @Column(name = "event_id", unique = true)
+    private String eventId; // 포인트 적립 이벤트 ID (outbox 중복 적립 방지, 직접 적립은 null)
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -43,4 +47,10 @@ public class PointHistory {
         this.description = description;
         this.referenceId = referenceId;
     }
+
+    public PointHistory(String userId, PointType type, long amount, String description, String referenceId,
+                        String eventId) {
+        this(userId, type, amount, description, referenceId);
+        this.eventId = eventId;
+    }
 }
\ No newline at end of file
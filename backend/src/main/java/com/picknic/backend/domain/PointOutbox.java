@@ -0,0 +1,54 @@
+package com.picknic.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 적립 대기 이벤트 (transactional outbox)
+ *
+ * 투표 참여·생성 트랜잭션 안에서 함께 저장되고,
+ * PointOutboxDispatchScheduler가 모아서 적립(PointService.settleOutbox)한 뒤 삭제한다.
+ * eventId는 point_history.event_id로 남아 같은 이벤트가 두 번 적립되지 않게 한다.
+ */
+@Entity
+@Table(name = "point_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PointOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_outbox_seq_gen")
+    @SequenceGenerator(name = "point_outbox_seq_gen", sequenceName = "point_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private String eventId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointType type;
+
+    @Column(nullable = false)
+    private int amount;
+
+    private String schoolName;
+
+    private String referenceId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class School {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "school_seq_gen")
+    @SequenceGenerator(name = "school_seq_gen", sequenceName = "school_seq", allocationSize = 50)
     private Long id;
 
     private String name; // 학교 이름
@@ -8,7 +8,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "votes")
+@Table(name = "votes", indexes = {
+    @Index(name = "idx_votes_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_votes_creator_created_at_id", columnList = "creator_id, created_at, id"),
+    @Index(name = "idx_votes_hot_created_at_id", columnList = "is_hot, created_at, id"),
+    @Index(name = "idx_votes_school_created_at_id", columnList = "school_name, created_at, id"),
+    @Index(name = "idx_votes_category_created_at_id", columnList = "category, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -16,7 +22,8 @@ import java.util.List;
 public class Vote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "votes_seq_gen")
+    @SequenceGenerator(name = "votes_seq_gen", sequenceName = "votes_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
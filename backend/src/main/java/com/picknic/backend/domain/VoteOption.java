@@ -13,7 +13,8 @@ import lombok.*;
 public class VoteOption {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_options_seq_gen")
+    @SequenceGenerator(name = "vote_options_seq_gen", sequenceName = "vote_options_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
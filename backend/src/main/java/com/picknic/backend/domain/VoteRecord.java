@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class VoteRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vote_records_seq_gen")
+    @SequenceGenerator(name = "vote_records_seq_gen", sequenceName = "vote_records_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "vote_id", nullable = false)
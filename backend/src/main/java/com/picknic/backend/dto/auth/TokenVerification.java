@@ -0,0 +1,40 @@
+package com.picknic.backend.dto.auth;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 토큰 검증 결과 (TokenDispatcher)
+ *
+ * 검증 실패도 예외 대신 값으로 돌려주므로 인증 필터가 try/catch로 분기하지 않아도 됨
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+    public enum Source {
+        COGNITO, LOCAL
+    }
+
+    private final boolean valid;
+    private final Source source;
+    private final String email;
+    private final String subject;  // Cognito sub (LOCAL은 email과 동일)
+    private final Date expiresAt;
+    private final String failureReason;
+
+    public static TokenVerification cognito(String email, String subject, Date expiresAt) {
+        return new TokenVerification(true, Source.COGNITO, email, subject, expiresAt, null);
+    }
+
+    public static TokenVerification local(String email, Date expiresAt) {
+        return new TokenVerification(true, Source.LOCAL, email, email, expiresAt, null);
+    }
+
+    public static TokenVerification invalid(String failureReason) {
+        return new TokenVerification(false, null, null, null, null, failureReason);
+    }
+}
@@ -0,0 +1,60 @@
+package com.picknic.backend.dto.common;
+
+import com.picknic.backend.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (createdAt, id)
+ *
+ * 클라이언트에는 Base64 URL-safe 문자열로만 전달되며 내부 형식은 노출하지 않음
+ * 다음 페이지 = (createdAt, id)가 커서보다 작은 행 (createdAt DESC, id DESC 정렬 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    /**
+     * 첫 페이지 조회용 커서 (모든 행보다 뒤)
+     */
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 불투명 커서 문자열로 변환
+     */
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (null 또는 빈 값이면 첫 페이지)
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @return KeysetCursor
+     * @throws BadRequestException 형식이 잘못된 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
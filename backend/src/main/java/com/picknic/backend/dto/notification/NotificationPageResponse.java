@@ -0,0 +1,24 @@
+package com.picknic.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알림 목록 응답 (키셋 페이지네이션)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPageResponse {
+
+    /**
+     * 현재 페이지의 알림 목록 (최신순, 개인 + 전체 알림)
+     */
+    private List<NotificationResponse> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,56 @@
+package com.picknic.backend.dto.notification;
+
+import com.picknic.backend.domain.BroadcastNotification;
+import com.picknic.backend.domain.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 응답 DTO (개인 알림 + 전체 알림)
+ *
+ * 두 알림의 ID는 서로 다른 테이블에서 나오므로 broadcast로 구분한다.
+ * 읽음 처리: 개인 알림은 PATCH /notifications/{id}/read, 전체 알림은 PATCH /notifications/broadcasts/{id}/read
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationResponse {
+
+    private Long id;
+    private boolean broadcast;
+    private String type;
+    private String title;
+    private String message;
+    private Long voteId;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .broadcast(false)
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .voteId(notification.getVoteId())
+                .isRead(notification.getIsRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+
+    public static NotificationResponse from(BroadcastNotification notification, boolean read) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .broadcast(true)
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .voteId(notification.getVoteId())
+                .isRead(read)
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
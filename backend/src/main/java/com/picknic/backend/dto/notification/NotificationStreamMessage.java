@@ -0,0 +1,29 @@
+package com.picknic.backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 스트림 메시지 (서버 간 Redis pub/sub로 전달)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationStreamMessage {
+
+    /**
+     * 이벤트 ID (모든 서버에서 공통으로 증가, SSE Last-Event-ID)
+     */
+    private long id;
+
+    /**
+     * 받는 사용자 ID (전체 알림이면 null)
+     */
+    private String userId;
+
+    /**
+     * 알림 (직렬화된 NotificationResponse JSON)
+     */
+    private String data;
+}
@@ -3,6 +3,7 @@ package com.picknic.backend.dto.reward;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 개별 리워드 정보 DTO
@@ -11,6 +12,7 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class RewardDto {
 
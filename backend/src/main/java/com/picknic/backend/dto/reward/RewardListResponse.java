@@ -3,6 +3,7 @@ package com.picknic.backend.dto.reward;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
@@ -13,6 +14,7 @@ import java.util.List;
  */
 @Getter
 @Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class RewardListResponse {
 
@@ -1,11 +1,15 @@
 package com.picknic.backend.dto.school;
 
 import com.picknic.backend.domain.School;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SchoolDto {
     private Long id;
     private String name;
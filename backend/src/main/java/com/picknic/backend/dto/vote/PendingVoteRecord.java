@@ -0,0 +1,24 @@
+package com.picknic.backend.dto.vote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB 저장 대기 중인 투표 기록
+ *
+ * 투표 승인 스크립트가 Redis 큐(vote:records:queue)에 JSON으로 적재하고
+ * VoteRecordWriter가 모아서 vote_records에 저장함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingVoteRecord {
+    private Long voteId;
+    private Long optionId;
+    private String userId;
+    private LocalDateTime votedAt;
+    private boolean pointsAdmitted;  // 일일 제한 내라서 포인트를 지급해야 하는지
+}
@@ -0,0 +1,149 @@
+package com.picknic.backend.dto.vote;
+
+import com.picknic.backend.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표 참여자 인구통계 카운터 (Redis 해시 vote:demo:{voteId})
+ *
+ * 투표 분석을 참여자 전체를 다시 읽지 않고 버킷 수만큼의 카운터로 계산하기 위한 값
+ * 2007~2012년생 참여자만 집계함 (분석 대상과 동일)
+ *
+ * 해시 필드:
+ * - n                      전체 집계 대상 참여자 수
+ * - g:{성별}               성별 참여자 수 (남성/여성)
+ * - a:{출생연도}:{성별}    연령대 참여자 수 (나이는 조회 시점 기준으로 계산)
+ * - i:{관심사}             관심사별 참여자 수
+ * - o:{optionId}:n / o:{optionId}:g:{성별} / o:{optionId}:i:{관심사}  선택지별 카운터
+ */
+@Getter
+public class VoteDemographics {
+
+    public static final int MIN_BIRTH_YEAR = 2007;
+    public static final int MAX_BIRTH_YEAR = 2012;
+
+    private long participants;
+    private final Map<String, Long> genderCounts = new HashMap<>();
+    private final Map<AgeGroupKey, Long> ageGroupCounts = new HashMap<>();
+    private final Map<String, Long> interestCounts = new HashMap<>();
+    private final Map<Long, OptionCounters> optionCounters = new HashMap<>();
+
+    /**
+     * 분석 대상 사용자인지 (2007~2012년생)
+     */
+    public static boolean isEligible(User user) {
+        return user != null
+                && user.getBirthYear() != null
+                && user.getBirthYear() >= MIN_BIRTH_YEAR
+                && user.getBirthYear() <= MAX_BIRTH_YEAR;
+    }
+
+    /**
+     * 성별 표시 이름
+     */
+    public static String genderLabel(String gender) {
+        return "MALE".equals(gender) ? "남성" : "여성";
+    }
+
+    /**
+     * 사용자 한 명의 투표가 증가시켜야 할 카운터 필드 목록
+     *
+     * @param user 참여자 (관심사 포함)
+     * @param optionId 선택한 선택지 ID
+     * @return 필드 목록 (분석 대상이 아니면 빈 목록)
+     */
+    public static List<String> fieldsFor(User user, Long optionId) {
+        List<String> fields = new ArrayList<>();
+        if (!isEligible(user)) {
+            return fields;
+        }
+
+        String optionPrefix = "o:" + optionId + ":";
+        fields.add("n");
+        fields.add(optionPrefix + "n");
+
+        if (user.getGender() != null) {
+            String label = genderLabel(user.getGender());
+            fields.add("g:" + label);
+            fields.add("a:" + user.getBirthYear() + ":" + label);
+            fields.add(optionPrefix + "g:" + label);
+        }
+
+        if (user.getInterests() != null) {
+            for (String interest : user.getInterests()) {
+                fields.add("i:" + interest);
+                fields.add(optionPrefix + "i:" + interest);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Redis 해시 내용으로 생성
+     *
+     * @param entries 필드 → 값
+     * @return VoteDemographics
+     */
+    public static VoteDemographics fromHash(Map<String, String> entries) {
+        VoteDemographics demographics = new VoteDemographics();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            demographics.apply(entry.getKey(), Long.parseLong(entry.getValue()));
+        }
+        return demographics;
+    }
+
+    private void apply(String field, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        if ("n".equals(field)) {
+            participants = count;
+        } else if (field.startsWith("g:")) {
+            genderCounts.put(field.substring(2), count);
+        } else if (field.startsWith("a:")) {
+            String[] parts = field.split(":", 3);
+            ageGroupCounts.put(new AgeGroupKey(Integer.parseInt(parts[1]), parts[2]), count);
+        } else if (field.startsWith("i:")) {
+            interestCounts.put(field.substring(2), count);
+        } else if (field.startsWith("o:")) {
+            String[] parts = field.split(":", 4);
+            OptionCounters option = optionCounters.computeIfAbsent(Long.valueOf(parts[1]), id -> new OptionCounters());
+            if ("n".equals(parts[2])) {
+                option.participants = count;
+            } else if ("g".equals(parts[2])) {
+                option.genderCounts.put(parts[3], count);
+            } else if ("i".equals(parts[2])) {
+                option.interestCounts.put(parts[3], count);
+            }
+        }
+    }
+
+    /**
+     * 연령대 버킷 (출생연도 + 성별)
+     */
+    @Getter
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class AgeGroupKey {
+        private final int birthYear;
+        private final String genderLabel;
+    }
+
+    /**
+     * 선택지별 카운터
+     */
+    @Getter
+    public static class OptionCounters {
+        private long participants;
+        private final Map<String, Long> genderCounts = new HashMap<>();
+        private final Map<String, Long> interestCounts = new HashMap<>();
+    }
+}
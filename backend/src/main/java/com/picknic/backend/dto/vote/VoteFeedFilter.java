@@ -0,0 +1,44 @@
+package com.picknic.backend.dto.vote;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 투표 피드 조회 조건 (GET /votes)
+ *
+ * 지정한 조건만 조회 쿼리에 붙고, 모든 값이 null이면 전체 피드
+ */
+@Getter
+@Builder
+public class VoteFeedFilter {
+
+    /**
+     * active (진행 중), closed (종료), null (전체)
+     */
+    private final String status;
+
+    /**
+     * 작성자 ID (내가 만든 투표)
+     */
+    private final String creatorId;
+
+    /**
+     * true면 HOT 투표만
+     */
+    private final Boolean hot;
+
+    /**
+     * 학교명 (우리학교 투표)
+     */
+    private final String schoolName;
+
+    /**
+     * 카테고리
+     */
+    private final String category;
+
+    /**
+     * 이 사용자가 참여한 투표 제외 (참여한 투표 숨기기)
+     */
+    private final String excludeVotedBy;
+}
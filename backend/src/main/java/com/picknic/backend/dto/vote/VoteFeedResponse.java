@@ -0,0 +1,24 @@
+package com.picknic.backend.dto.vote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 투표 피드 응답 (키셋 페이지네이션)
+ */
+@Getter
+@AllArgsConstructor
+public class VoteFeedResponse {
+
+    /**
+     * 현재 페이지의 투표 목록 (최신순)
+     */
+    private List<VoteResponse> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
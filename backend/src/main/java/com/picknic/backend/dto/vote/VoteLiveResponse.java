@@ -0,0 +1,35 @@
+package com.picknic.backend.dto.vote;
+
+import com.picknic.backend.domain.Vote;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 투표 현황 (GET /votes/{id}/live 이벤트)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VoteLiveResponse {
+    private Long id;
+    private Integer totalVotes;
+    private Boolean isActive;
+    private List<VoteOptionResponse> options;
+
+    // tally: 아직 DB에 반영되지 않은 투표 수 증분 (VoteTallyService)
+    public static VoteLiveResponse from(Vote vote, VoteTally tally) {
+        int totalVotes = tally.totalVotes(vote);
+        return VoteLiveResponse.builder()
+                .id(vote.getId())
+                .totalVotes(totalVotes)
+                .isActive(vote.getIsActive())
+                .options(vote.getOptions().stream()
+                        .map(option -> VoteOptionResponse.from(option, tally.voteCount(option), totalVotes))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -16,16 +16,21 @@ public class VoteOptionResponse {
     private Double percentage;  // 득표율
 
     public static VoteOptionResponse from(VoteOption option, Integer totalVotes) {
+        return from(option, option.getVoteCount(), totalVotes);
+    }
+
+    // 실시간 투표 수(DB 값 + 미반영 증분)로 응답 생성
+    public static VoteOptionResponse from(VoteOption option, Integer voteCount, Integer totalVotes) {
         double percentage = totalVotes > 0
-                ? (option.getVoteCount() * 100.0 / totalVotes)
+                ? (voteCount * 100.0 / totalVotes)
                 : 0.0;
 
         return VoteOptionResponse.builder()
                 .id(option.getId())
                 .optionText(option.getOptionText())
-                .voteCount(option.getVoteCount())
+                .voteCount(voteCount)
                 .imageUrl(option.getImageUrl())
                 .percentage(Math.round(percentage * 10) / 10.0)  // 소수점 1자리
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.picknic.backend.dto.vote;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 투표 참여자 인덱스 구축용 조회 결과 (vote_records + users 조인)
+ *
+ * 사용자 이메일 대신 users.id를 정수 ID로 사용해 비트맵에 담음
+ */
+@Getter
+@AllArgsConstructor
+public class VoteRecordIndexRow {
+    private Long recordId;
+    private Long voteId;
+    private Long selectedOptionId;
+    private Long userNo;     // users.id
+    private String userId;   // 이메일
+}
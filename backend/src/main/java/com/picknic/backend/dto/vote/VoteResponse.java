@@ -35,8 +35,14 @@ public class VoteResponse {
     private Boolean isHot;  // HOT 투표 여부
 
     public static VoteResponse from(Vote vote, boolean hasVoted, Long selectedOptionId) {
+        return from(vote, hasVoted, selectedOptionId, VoteTally.EMPTY);
+    }
+
+    // tally: 아직 DB에 반영되지 않은 투표 수 증분 (VoteTallyService)
+    public static VoteResponse from(Vote vote, boolean hasVoted, Long selectedOptionId, VoteTally tally) {
+        int totalVotes = tally.totalVotes(vote);
         List<VoteOptionResponse> optionResponses = vote.getOptions().stream()
-                .map(option -> VoteOptionResponse.from(option, vote.getTotalVotes()))
+                .map(option -> VoteOptionResponse.from(option, tally.voteCount(option), totalVotes))
                 .collect(Collectors.toList());
 
         // Determine vote type based on options
@@ -58,7 +64,7 @@ public class VoteResponse {
                 .createdAt(vote.getCreatedAt())
                 .expiresAt(vote.getExpiresAt())
                 .isActive(vote.getIsActive())
-                .totalVotes(vote.getTotalVotes())
+                .totalVotes(totalVotes)
                 .options(optionResponses)
                 .hasVoted(hasVoted)
                 .userSelectedOptionId(selectedOptionId)
@@ -26,8 +26,14 @@ public class VoteResultResponse {
     private VoteAnalysisDto analysis;  // 투표 분석 데이터
 
     public static VoteResultResponse from(Vote vote, VoteAnalysisDto analysis) {
+        return from(vote, analysis, VoteTally.EMPTY);
+    }
+
+    // tally: 아직 DB에 반영되지 않은 투표 수 증분 (VoteTallyService)
+    public static VoteResultResponse from(Vote vote, VoteAnalysisDto analysis, VoteTally tally) {
+        int totalVotes = tally.totalVotes(vote);
         List<VoteOptionResponse> optionResponses = vote.getOptions().stream()
-                .map(option -> VoteOptionResponse.from(option, vote.getTotalVotes()))
+                .map(option -> VoteOptionResponse.from(option, tally.voteCount(option), totalVotes))
                 .collect(Collectors.toList());
 
         // 1등 찾기
@@ -38,7 +44,7 @@ public class VoteResultResponse {
         return VoteResultResponse.builder()
                 .id(vote.getId())
                 .title(vote.getTitle())
-                .totalVotes(vote.getTotalVotes())
+                .totalVotes(totalVotes)
                 .createdAt(vote.getCreatedAt())
                 .expiresAt(vote.getExpiresAt())
                 .isActive(vote.getIsActive())
@@ -0,0 +1,43 @@
+package com.picknic.backend.dto.vote;
+
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.domain.VoteOption;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 아직 DB에 반영되지 않은 투표 수 증분 (write-behind)
+ *
+ * 실시간 투표 수 = DB에 저장된 값 + 이 증분
+ * VoteTallyService가 Redis에서 읽어 VoteResponse 생성 시 전달함
+ */
+@Getter
+@AllArgsConstructor
+public class VoteTally {
+
+    public static final VoteTally EMPTY = new VoteTally(0L, Map.of());
+
+    /**
+     * 전체 투표 수 증분
+     */
+    private final long totalDelta;
+
+    /**
+     * 선택지별 투표 수 증분 (optionId → delta)
+     */
+    private final Map<Long, Long> optionDeltas;
+
+    public int totalVotes(Vote vote) {
+        return (int) (vote.getTotalVotes() + totalDelta);
+    }
+
+    public int voteCount(VoteOption option) {
+        return (int) (option.getVoteCount() + optionDeltas.getOrDefault(option.getId(), 0L));
+    }
+
+    public boolean isEmpty() {
+        return totalDelta == 0 && optionDeltas.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.picknic.backend.event;
 
 import com.picknic.backend.service.NotificationService;
 import com.picknic.backend.service.SnsService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -35,6 +36,7 @@ public class HotVoteEventListener {
      *
      * @param event HotVoteEvent 객체
      */
+    @Timed(value = "events.handle", extraTags = {"event", "hot_vote"})
     @Async
     @EventListener
     public void handleHotVoteMarked(HotVoteEvent event) {
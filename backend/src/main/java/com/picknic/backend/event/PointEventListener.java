@@ -1,16 +1,23 @@
 package com.picknic.backend.event;
 
+import com.picknic.backend.domain.PointOutbox;
+import com.picknic.backend.repository.PointOutboxRepository;
 import com.picknic.backend.service.PointService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 포인트 이벤트 리스너
  *
- * VoteCompletedEvent를 수신하여 포인트 적립을 처리하는 리스너
+ * VoteCompletedEvent를 수신하여 포인트 적립 대기 이벤트(point_outbox)로 저장하는 리스너
  * 이벤트 기반 아키텍처를 통해 투표 모듈과 포인트 모듈의 결합도를 낮춤
+ *
+ * 실제 적립(UserPoint, PointHistory, 랭킹 갱신)은 PointOutboxDispatchScheduler가 모아서 처리하므로
+ * 투표 요청은 outbox INSERT 한 번만 기다린다.
  */
 @Slf4j
 @Component
@@ -18,42 +25,43 @@ import org.springframework.stereotype.Component;
 public class PointEventListener {
 
     private final PointService pointService;
+    private final PointOutboxRepository pointOutboxRepository;
 
     /**
      * 투표 완료 이벤트 처리
      *
-     * VoteCompletedEvent가 발행되면 자동으로 호출되어 포인트를 적립함
-     * 예외가 발생해도 다른 리스너나 비즈니스 로직에 영향을 주지 않도록 try-catch로 감쌈
+     * 발행한 쪽의 트랜잭션에 참여하므로 투표가 롤백되면 적립 대기 이벤트도 함께 롤백되고,
+     * 투표가 커밋되면 적립이 반드시 한 번 이상 시도된다.
      *
      * @param event VoteCompletedEvent 객체
      */
+    @Timed(value = "events.handle", extraTags = {"event", "vote_completed"})
     @EventListener
+    @Transactional
     public void handleVoteCompleted(VoteCompletedEvent event) {
-        log.info("VoteCompletedEvent 수신 - userId: {}, voteId: {}, type: {}, amount: {}",
+        log.debug("VoteCompletedEvent 수신 - userId: {}, voteId: {}, type: {}, amount: {}",
                 event.getUserId(), event.getVoteId(), event.getType(), event.getAmount());
 
-        try {
-            // 포인트 적립 처리 (voteId를 referenceId로 전달)
-            pointService.earnPoints(
-                    event.getUserId(),
-                    event.getType(),
-                    event.getAmount(),
-                    event.getSchoolName(),
-                    String.valueOf(event.getVoteId()) // referenceId
-            );
-
-            log.info("포인트 적립 완료 - userId: {}, voteId: {}, type: {}, amount: {}",
-                    event.getUserId(), event.getVoteId(), event.getType(), event.getAmount());
+        // 일일 제한 초과 시 포인트만 지급하지 않음 (투표 승인 스크립트에서 이미 차감한 경우 제외)
+        if (!event.isDailyLimitChecked() && !pointService.checkDailyLimit(event.getUserId(), event.getType())) {
+            return;
+        }
 
-        } catch (IllegalStateException e) {
-            // 비즈니스 로직 예외 (일일 제한 초과 등)
-            log.warn("포인트 적립 실패 (비즈니스 규칙 위반) - userId: {}, error: {}",
-                    event.getUserId(), e.getMessage());
+        pointOutboxRepository.save(PointOutbox.builder()
+                .eventId(eventId(event))
+                .userId(event.getUserId())
+                .type(event.getType())
+                .amount(event.getAmount())
+                .schoolName(event.getSchoolName())
+                .referenceId(String.valueOf(event.getVoteId()))
+                .build());
+    }
 
-        } catch (Exception e) {
-            // 시스템 예외 (DB 연결 오류, Redis 오류 등)
-            log.error("포인트 적립 실패 (시스템 오류) - userId: {}, voteId: {}, error: {}",
-                    event.getUserId(), event.getVoteId(), e.getMessage(), e);
-        }
+    /**
+     * 적립 이벤트 ID: {type}:{voteId}:{userId}
+     * 같은 투표에 대한 같은 사용자의 같은 종류 적립은 한 번뿐이므로 재발행되어도 같은 ID가 된다.
+     */
+    private String eventId(VoteCompletedEvent event) {
+        return event.getType().name() + ":" + event.getVoteId() + ":" + event.getUserId();
     }
 }
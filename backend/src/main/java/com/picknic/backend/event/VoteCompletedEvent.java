@@ -38,6 +38,11 @@ public class VoteCompletedEvent extends ApplicationEvent {
      */
     private final String schoolName;
 
+    /**
+     * 일일 포인트 제한을 이미 확인·차감했는지 여부 (투표 승인 스크립트에서 처리한 경우 true)
+     */
+    private final boolean dailyLimitChecked;
+
     /**
      * VoteCompletedEvent 생성자
      *
@@ -50,11 +55,28 @@ public class VoteCompletedEvent extends ApplicationEvent {
      */
     public VoteCompletedEvent(Object source, String userId, Long voteId,
                               PointType type, int amount, String schoolName) {
+        this(source, userId, voteId, type, amount, schoolName, false);
+    }
+
+    /**
+     * VoteCompletedEvent 생성자
+     *
+     * @param source 이벤트를 발행한 객체
+     * @param userId 투표한 사용자 ID
+     * @param voteId 투표 ID
+     * @param type 포인트 타입 (VOTE 또는 CREATE)
+     * @param amount 포인트 양
+     * @param schoolName 학교명 (nullable)
+     * @param dailyLimitChecked 일일 제한을 이미 확인·차감했는지 여부
+     */
+    public VoteCompletedEvent(Object source, String userId, Long voteId,
+                              PointType type, int amount, String schoolName, boolean dailyLimitChecked) {
         super(source);
         this.userId = userId;
         this.voteId = voteId;
         this.type = type;
         this.amount = amount;
         this.schoolName = schoolName;
+        this.dailyLimitChecked = dailyLimitChecked;
     }
 }
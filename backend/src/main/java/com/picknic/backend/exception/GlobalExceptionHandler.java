@@ -52,6 +52,18 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    /**
+     * ServiceUnavailableException 처리
+     * HTTP 503 Service Unavailable로 반환 (클라이언트는 잠시 후 재시도)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<ApiResponse.ErrorData>> handleServiceUnavailableException(ServiceUnavailableException e) {
+        log.warn("Service unavailable exception: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * 기타 예외 처리
      * HTTP 500 Internal Server Error로 반환
@@ -0,0 +1,13 @@
+package com.picknic.backend.exception;
+
+/**
+ * 일시적으로 요청을 받을 수 없는 경우의 예외 (연결 수 상한 등)
+ *
+ * HTTP 503 Service Unavailable로 반환될 예외
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,46 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.BroadcastNotificationRead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BroadcastNotificationReadRepository extends JpaRepository<BroadcastNotificationRead, Long> {
+
+    /**
+     * 개별 읽음 기록 저장 (이미 있으면 무시)
+     *
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO broadcast_notification_reads (id, user_id, broadcast_id, created_at) " +
+           "VALUES (nextval('broadcast_notification_reads_seq'), :userId, :broadcastId, NOW()) " +
+           "ON CONFLICT (user_id, broadcast_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") String userId, @Param("broadcastId") Long broadcastId);
+
+    /**
+     * 주어진 전체 알림 중 사용자가 읽은 알림 ID
+     */
+    @Query("SELECT r.broadcastId FROM BroadcastNotificationRead r " +
+           "WHERE r.userId = :userId AND r.broadcastId IN :broadcastIds")
+    List<Long> findReadIds(@Param("userId") String userId, @Param("broadcastIds") Collection<Long> broadcastIds);
+
+    /**
+     * 커서 뒤의 개별 읽음 기록 수 (안 읽은 알림 카운터 재계산용)
+     */
+    long countByUserIdAndBroadcastIdGreaterThan(String userId, Long broadcastId);
+
+    /**
+     * 커서 이하의 개별 읽음 기록 삭제 (커서로 대체됨)
+     */
+    @Modifying
+    @Query("DELETE FROM BroadcastNotificationRead r WHERE r.userId = :userId AND r.broadcastId <= :broadcastId")
+    int deleteUpTo(@Param("userId") String userId, @Param("broadcastId") long broadcastId);
+}
@@ -0,0 +1,61 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.BroadcastNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    /**
+     * 전체 알림 저장 (같은 투표의 같은 타입 알림이 이미 있으면 무시)
+     *
+     * @return 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO broadcast_notifications (id, type, title, message, vote_id, created_at) " +
+           "VALUES (nextval('broadcast_notifications_seq'), :type, :title, :message, :voteId, NOW()) " +
+           "ON CONFLICT (type, vote_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("type") String type, @Param("title") String title,
+                       @Param("message") String message, @Param("voteId") Long voteId);
+
+    /**
+     * 투표의 전체 알림 조회 (저장 직후 실시간 전달용)
+     */
+    Optional<BroadcastNotification> findByTypeAndVoteId(String type, Long voteId);
+
+    /**
+     * 전체 알림 목록 (키셋 페이지네이션, 최신순)
+     * createdAt <= 조건은 (created_at, id) 인덱스 범위 검색용 (OR 조건만으로는 인덱스를 범위로 타지 못함)
+     */
+    @Query("SELECT b FROM BroadcastNotification b " +
+           "WHERE b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BroadcastNotification> findPage(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * 커서 뒤의 전체 알림 수 (안 읽은 알림 카운터 재계산용)
+     */
+    long countByIdGreaterThan(Long id);
+
+    /**
+     * 커서 이하의 전체 알림 수 (모두 읽음 처리 후 카운터 초기화용)
+     */
+    long countByIdLessThanEqual(Long id);
+
+    /**
+     * 가장 최근 전체 알림 ID (없으면 null)
+     */
+    @Query("SELECT MAX(b.id) FROM BroadcastNotification b")
+    Long findLatestId();
+}
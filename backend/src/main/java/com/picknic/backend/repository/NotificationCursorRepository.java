@@ -0,0 +1,23 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.NotificationCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationCursorRepository extends JpaRepository<NotificationCursor, String> {
+
+    /**
+     * 읽음 커서를 앞으로만 이동 (없으면 생성)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO notification_cursors (user_id, last_read_broadcast_id) " +
+           "VALUES (:userId, :broadcastId) " +
+           "ON CONFLICT (user_id) DO UPDATE SET " +
+           "last_read_broadcast_id = GREATEST(notification_cursors.last_read_broadcast_id, EXCLUDED.last_read_broadcast_id)",
+           nativeQuery = true)
+    void advance(@Param("userId") String userId, @Param("broadcastId") long broadcastId);
+}
@@ -1,9 +1,14 @@
 package com.picknic.backend.repository;
 
 import com.picknic.backend.domain.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,12 +16,39 @@ import java.util.Optional;
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
     /**
-     * 특정 사용자의 알림 목록을 최신순으로 조회
+     * 특정 사용자의 알림 목록 (키셋 페이지네이션, 최신순)
+     * 다음 페이지 = (createdAt, id)가 커서보다 작은 행
+     * createdAt <= 조건은 (user_id, created_at, id) 인덱스 범위 검색용 (OR 조건만으로는 인덱스를 범위로 타지 못함)
      */
-    List<Notification> findByUserIdOrderByCreatedAtDesc(String userId);
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND n.createdAt <= :createdAt AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPage(@Param("userId") String userId, @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 안 읽은 개인 알림 수 (안 읽은 알림 카운터 재계산용)
+     */
+    long countByUserIdAndIsReadFalse(String userId);
 
     /**
      * 특정 알림 조회 (사용자 소유 확인용)
      */
     Optional<Notification> findByIdAndUserId(Long id, String userId);
+
+    /**
+     * 알림 읽음 처리 (안 읽은 경우에만)
+     *
+     * @return 변경된 행 수 (이미 읽었거나 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.userId = :userId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("userId") String userId);
+
+    /**
+     * 특정 사용자의 개인 알림 모두 읽음 처리
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") String userId);
 }
@@ -4,8 +4,17 @@ import com.picknic.backend.domain.PointHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
     // 히스토리 조회 (페이징)
     Page<PointHistory> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
+
+    // 이미 적립된 이벤트 ID 조회 (outbox 중복 적립 방지)
+    @Query("SELECT h.eventId FROM PointHistory h WHERE h.eventId IN :eventIds")
+    List<String> findEventIdsByEventIdIn(@Param("eventIds") Collection<String> eventIds);
 }
\ No newline at end of file
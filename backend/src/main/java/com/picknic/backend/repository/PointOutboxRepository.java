@@ -0,0 +1,17 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.PointOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PointOutboxRepository extends JpaRepository<PointOutbox, Long> {
+
+    /**
+     * 오래된 순으로 적립 대기 이벤트 조회
+     */
+    @Query("SELECT o FROM PointOutbox o ORDER BY o.id")
+    List<PointOutbox> findOldest(Pageable pageable);
+}
@@ -1,8 +1,11 @@
 package com.picknic.backend.repository;
 
 import com.picknic.backend.domain.UserPoint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Map;
@@ -13,28 +16,52 @@ public interface UserPointRepository extends JpaRepository<UserPoint, String> {
 
     List<UserPoint> findAllByUserIdIn(List<String> userIds);
 
+    // 포인트 적립 (엔티티 로딩 없이 원자적으로 더함, 행이 없으면 생성)
+    // 적립끼리는 충돌하지 않도록 version을 올리지 않음 - 차감(deductPoints)은 조건부 UPDATE라 적립과 겹쳐도 안전
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO user_points (user_id, current_points, total_accumulated_points, version) " +
+           "VALUES (:userId, :amount, :amount, 0) " +
+           "ON CONFLICT (user_id) DO UPDATE SET " +
+           "current_points = user_points.current_points + EXCLUDED.current_points, " +
+           "total_accumulated_points = user_points.total_accumulated_points + EXCLUDED.total_accumulated_points",
+           nativeQuery = true)
+    int addPoints(@Param("userId") String userId, @Param("amount") long amount);
+
+    // 포인트 차감 (잔액이 충분할 때만, 엔티티로 읽어 둔 값이 있으면 낙관적 락 충돌로 잡히도록 version 증가)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserPoint up SET up.currentPoints = up.currentPoints - :amount, " +
+           "up.version = COALESCE(up.version, 0) + 1 " +
+           "WHERE up.userId = :userId AND up.currentPoints >= :amount")
+    int deductPoints(@Param("userId") String userId, @Param("amount") long amount);
+
+    // 누적 포인트 조회 (랭킹 갱신용)
+    @Query("SELECT up.totalAccumulatedPoints FROM UserPoint up WHERE up.userId = :userId")
+    Optional<Long> findTotalAccumulatedPoints(@Param("userId") String userId);
+
     /**
-     * 학교별 포인트 합산 조회 (schoolName이 null이 아닌 경우만)
+     * 학교별 누적 포인트 합계와 소속 학생 수 조회 (학교 랭킹 정합성 점검용)
+     * 랭킹 대상 사용자(시스템 계정 제외, 학교가 있는 사용자) 기준이며 포인트 기록이 없는 사용자는 0점으로 포함
      *
-     * @return List of Object[] where [0] = schoolName, [1] = totalPoints
+     * @return List of Object[] where [0] = schoolName, [1] = totalPoints, [2] = memberCount
      */
-    @Query("SELECT u.schoolName, SUM(up.totalAccumulatedPoints) " +
-           "FROM UserPoint up " +
-           "JOIN User u ON up.userId = u.email " +
-           "WHERE u.schoolName IS NOT NULL AND u.schoolName != '' AND u.isSystemAccount = false " +
-           "GROUP BY u.schoolName " +
-           "ORDER BY SUM(up.totalAccumulatedPoints) DESC")
-    List<Object[]> findSchoolPointsRanking();
+    @Query("SELECT u.schoolName, COALESCE(SUM(up.totalAccumulatedPoints), 0), COUNT(u) " +
+           "FROM User u " +
+           "LEFT JOIN UserPoint up ON up.userId = u.email " +
+           "WHERE u.isSystemAccount = false AND u.schoolName IS NOT NULL AND TRIM(u.schoolName) <> '' " +
+           "GROUP BY u.schoolName")
+    List<Object[]> findSchoolTotals();
 
     /**
-     * 특정 학교의 총 포인트 조회
+     * 랭킹 대상 사용자의 누적 포인트 조회 (리더보드 재구축용, 이메일 순 페이지 조회)
+     * 포인트 기록이 없는 사용자는 0점으로 포함
      *
-     * @param schoolName 학교명
-     * @return 총 포인트 (해당 학교가 없으면 0)
+     * @return List of Object[] where [0] = userId(email), [1] = totalAccumulatedPoints
      */
-    @Query("SELECT COALESCE(SUM(up.totalAccumulatedPoints), 0) " +
-           "FROM UserPoint up " +
-           "JOIN User u ON up.userId = u.email " +
-           "WHERE u.schoolName = :schoolName AND u.isSystemAccount = false")
-    Long findTotalPointsBySchool(String schoolName);
-}
\ No newline at end of file
+    @Query("SELECT u.email, COALESCE(up.totalAccumulatedPoints, 0) " +
+           "FROM User u " +
+           "LEFT JOIN UserPoint up ON up.userId = u.email " +
+           "WHERE u.isSystemAccount = false AND u.schoolName IS NOT NULL AND TRIM(u.schoolName) <> '' " +
+           "AND u.email > :afterEmail " +
+           "ORDER BY u.email")
+    List<Object[]> findLeaderboardEntries(@Param("afterEmail") String afterEmail, Pageable pageable);
+}
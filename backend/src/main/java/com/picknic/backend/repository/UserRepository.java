@@ -2,8 +2,11 @@ package com.picknic.backend.repository;
 
 import com.picknic.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNickname(String nickname);
     List<User> findBySchoolNameContaining(String schoolName);
     List<User> findAllByEmailIn(List<String> emails);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    // 관심사까지 함께 조회 (투표 분석 카운터 갱신용, 관심사 지연 로딩 N+1 방지)
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.interests WHERE u.email IN :emails")
+    List<User> findAllWithInterestsByEmailIn(@Param("emails") Collection<String> emails);
 }
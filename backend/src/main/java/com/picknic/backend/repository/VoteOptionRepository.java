@@ -2,6 +2,9 @@ package com.picknic.backend.repository;
 
 import com.picknic.backend.domain.VoteOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -9,4 +12,9 @@ public interface VoteOptionRepository extends JpaRepository<VoteOption, Long> {
 
     // 특정 투표의 모든 선택지 조회
     List<VoteOption> findByVoteId(Long voteId);
-}
\ No newline at end of file
+
+    // 선택지 투표 수 증분 반영 (write-behind flush, 엔티티 로딩 없이 원자적으로 더함)
+    @Modifying
+    @Query("UPDATE VoteOption o SET o.voteCount = o.voteCount + :delta WHERE o.id = :id AND o.vote.id = :voteId")
+    int incrementVoteCount(@Param("voteId") Long voteId, @Param("id") Long id, @Param("delta") int delta);
+}
@@ -1,8 +1,13 @@
 package com.picknic.backend.repository;
 
 import com.picknic.backend.domain.VoteRecord;
+import com.picknic.backend.dto.vote.VoteRecordIndexRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +30,21 @@ public interface VoteRecordRepository extends JpaRepository<VoteRecord, Long> {
 
     // 특정 사용자의 여러 투표에 대한 참여 기록 조회 (N+1 쿼리 방지용 배치 조회)
     List<VoteRecord> findByUserIdAndVoteIdIn(String userId, List<Long> voteIds);
-}
\ No newline at end of file
+
+    // 특정 투표의 참여자 ID 목록 (투표 승인용 참여자 집합 초기화)
+    @Query("SELECT vr.userId FROM VoteRecord vr WHERE vr.voteId = :voteId")
+    List<String> findUserIdsByVoteId(@Param("voteId") Long voteId);
+
+    // 여러 투표에 대해 이미 저장된 참여 기록 조회 (큐 재처리 시 중복 저장 방지)
+    List<VoteRecord> findByVoteIdInAndUserIdIn(Collection<Long> voteIds, Collection<String> userIds);
+
+    // 참여자 인덱스 구축/추적용 조회 (id 순, afterId 이후)
+    @Query("SELECT new com.picknic.backend.dto.vote.VoteRecordIndexRow(vr.id, vr.voteId, vr.selectedOptionId, u.id, u.email) " +
+           "FROM VoteRecord vr, User u WHERE u.email = vr.userId AND vr.id > :afterId ORDER BY vr.id")
+    List<VoteRecordIndexRow> findIndexRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 특정 투표의 참여자 인덱스 재구축용 조회
+    @Query("SELECT new com.picknic.backend.dto.vote.VoteRecordIndexRow(vr.id, vr.voteId, vr.selectedOptionId, u.id, u.email) " +
+           "FROM VoteRecord vr, User u WHERE u.email = vr.userId AND vr.voteId = :voteId")
+    List<VoteRecordIndexRow> findIndexRowsByVoteId(@Param("voteId") Long voteId);
+}
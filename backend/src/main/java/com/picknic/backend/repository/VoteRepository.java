@@ -2,14 +2,16 @@ package com.picknic.backend.repository;
 
 import com.picknic.backend.domain.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface VoteRepository extends JpaRepository<Vote, Long> {
+public interface VoteRepository extends JpaRepository<Vote, Long>, VoteRepositoryCustom {
 
     // 활성화된 투표만 최신순 조회 (with fetch join to avoid N+1)
     @Query("SELECT DISTINCT v FROM Vote v LEFT JOIN FETCH v.options WHERE v.isActive = true ORDER BY v.createdAt DESC")
@@ -43,4 +45,17 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     // Find votes by creator emails
     @Query("SELECT v FROM Vote v WHERE v.creatorId IN :creatorEmails")
     List<Vote> findByCreatorIdIn(@Param("creatorEmails") List<String> creatorEmails);
-}
\ No newline at end of file
+
+    // 투표 수 증분 반영 (write-behind flush, 엔티티 로딩 없이 원자적으로 더함)
+    @Modifying
+    @Query("UPDATE Vote v SET v.totalVotes = v.totalVotes + :delta WHERE v.id = :id")
+    int incrementTotalVotes(@Param("id") Long id, @Param("delta") int delta);
+
+    // 피드 페이지의 투표들을 선택지와 함께 조회 (페이지 크기만큼의 IN 조회)
+    @Query("SELECT DISTINCT v FROM Vote v LEFT JOIN FETCH v.options WHERE v.id IN :ids")
+    List<Vote> findAllWithOptionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 진행 중인 투표 ID 목록 (분석 카운터 재구축 대상)
+    @Query("SELECT v.id FROM Vote v WHERE v.isActive = true")
+    List<Long> findActiveVoteIds();
+}
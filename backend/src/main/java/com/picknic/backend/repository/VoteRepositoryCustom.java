@@ -0,0 +1,21 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.dto.vote.VoteFeedFilter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface VoteRepositoryCustom {
+
+    /**
+     * 피드 키셋 페이지 조회 (createdAt DESC, id DESC)
+     *
+     * @param filter 조회 조건 (지정한 조건만 적용)
+     * @param createdAt 커서 createdAt
+     * @param id 커서 id
+     * @param limit 최대 행 수
+     * @return 커서보다 작은 행 (선택지는 포함하지 않음)
+     */
+    List<Vote> findFeedPage(VoteFeedFilter filter, LocalDateTime createdAt, Long id, int limit);
+}
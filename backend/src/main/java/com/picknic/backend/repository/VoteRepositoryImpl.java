@@ -0,0 +1,67 @@
+package com.picknic.backend.repository;
+
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.dto.vote.VoteFeedFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * VoteRepository 피드 조회 구현
+ *
+ * 필터 조합마다 @Query 메서드를 두는 대신 지정된 조건만 붙여 JPQL을 만든다.
+ * 쓰지 않는 조건을 "(:param IS NULL OR ...)" 로 남겨 두면 PostgreSQL이 조건에 맞는 인덱스를 고르지 못하므로
+ * 문장에서 아예 뺀다.
+ */
+public class VoteRepositoryImpl implements VoteRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Vote> findFeedPage(VoteFeedFilter filter, LocalDateTime createdAt, Long id, int limit) {
+        // 앞의 createdAt <= 조건은 중복이지만, OR 조건만으로는 (created_at, id) 계열 인덱스 범위 검색을 못 하므로 붙임
+        StringBuilder jpql = new StringBuilder("SELECT v FROM Vote v " +
+                "WHERE v.createdAt <= :createdAt AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id))");
+        Map<String, Object> params = new HashMap<>();
+        params.put("createdAt", createdAt);
+        params.put("id", id);
+
+        if ("active".equals(filter.getStatus())) {
+            jpql.append(" AND v.isActive = true AND (v.expiresAt IS NULL OR v.expiresAt > :now)");
+            params.put("now", LocalDateTime.now());
+        } else if ("closed".equals(filter.getStatus())) {
+            jpql.append(" AND v.isActive = false");
+        }
+        if (filter.getCreatorId() != null) {
+            jpql.append(" AND v.creatorId = :creatorId");
+            params.put("creatorId", filter.getCreatorId());
+        }
+        if (Boolean.TRUE.equals(filter.getHot())) {
+            jpql.append(" AND v.isHot = true");
+        }
+        if (filter.getSchoolName() != null) {
+            jpql.append(" AND v.schoolName = :schoolName");
+            params.put("schoolName", filter.getSchoolName());
+        }
+        if (filter.getCategory() != null) {
+            jpql.append(" AND v.category = :category");
+            params.put("category", filter.getCategory());
+        }
+        if (filter.getExcludeVotedBy() != null) {
+            // vote_records (vote_id, user_id) 유니크 인덱스로 확인
+            jpql.append(" AND NOT EXISTS (SELECT 1 FROM VoteRecord r WHERE r.voteId = v.id AND r.userId = :voterId)");
+            params.put("voterId", filter.getExcludeVotedBy());
+        }
+        jpql.append(" ORDER BY v.createdAt DESC, v.id DESC");
+
+        TypedQuery<Vote> query = entityManager.createQuery(jpql.toString(), Vote.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
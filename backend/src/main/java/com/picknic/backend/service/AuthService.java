@@ -27,6 +27,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final CognitoService cognitoService;
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
 
     @Transactional
     public String login(UserLoginDto dto) {
@@ -98,6 +100,12 @@ public class AuthService {
                     .password(passwordEncoder.encode(dto.getPassword()));
         }
 
-        return userRepository.save(builder.build());
+        User savedUser = userRepository.save(builder.build());
+
+        // 학교가 있는 사용자는 0점으로 누적 랭킹에 등록
+        leaderboardService.syncUser(savedUser);
+        schoolPointsService.join(savedUser);
+
+        return savedUser;
     }
 }
@@ -0,0 +1,25 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.util.CognitoTokenValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CognitoJwksRefreshScheduler {
+
+    private final CognitoTokenValidator cognitoTokenValidator;
+
+    /**
+     * 주기적으로 Cognito JWKS를 다시 읽어 키 교체에 대비
+     * (새 kid로 서명된 토큰이 먼저 들어오면 검증 시점에도 재조회함)
+     */
+    @Scheduled(fixedDelayString = "${aws.cognito.jwks-refresh-interval-ms:3600000}",
+            initialDelayString = "${aws.cognito.jwks-refresh-interval-ms:3600000}")
+    public void refreshJwks() {
+        cognitoTokenValidator.refresh();
+    }
+}
@@ -0,0 +1,181 @@
+package com.picknic.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.picknic.backend.domain.PointType;
+import com.picknic.backend.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일일 포인트 제한 (Redis Hash: limit:{date}, 필드: {type}:{userId})
+ *
+ * 하루치 카운터를 해시 하나에 모아 두고 해시 전체에 만료 시각을 한 번만 건다.
+ * 확인과 차감은 스크립트 한 번으로 원자적으로 처리하므로 동시 요청이 제한을 넘지 않는다.
+ *
+ * 한도를 다 쓴 사용자는 서버 로컬 캐시에 표시해 두고 그날은 Redis를 거치지 않고 거절한다.
+ * (카운터는 하루 안에서 줄어들지 않으므로 로컬 캐시가 틀린 거절을 만들지 않음)
+ */
+@Slf4j
+@Service
+public class DailyLimitService {
+
+    static final int VOTE_DAILY_LIMIT = 10;
+    static final int CREATE_DAILY_LIMIT = 5;
+    static final int ATTENDANCE_DAILY_LIMIT = 1;
+
+    private static final String KEY_PREFIX = "limit:";
+    // 날짜가 바뀐 뒤에도 전날 카운터를 잠시 남겨 둠 (자정 직전 요청 처리 중 키가 사라지지 않도록)
+    private static final Duration EXPIRE_GRACE = Duration.ofHours(1);
+
+    private static final long EXHAUSTED = -1L;
+
+    // 한도 미만이면 HINCRBY 후 카운트 반환, 한도에 도달했으면 -1
+    // 해시에 만료 시각이 없으면(그날 첫 차감) 설정
+    private static final RedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local count = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') " +
+            "if count >= tonumber(ARGV[2]) then " +
+            "  return -1 " +
+            "end " +
+            "count = redis.call('HINCRBY', KEYS[1], ARGV[1], 1) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then " +
+            "  redis.call('EXPIREAT', KEYS[1], ARGV[3]) " +
+            "end " +
+            "return count",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final Cache<String, Boolean> exhausted;
+
+    public DailyLimitService(RedisUtil redisUtil,
+                             @Value("${point.daily-limit.local-cache-size:100000}") long localCacheSize) {
+        this.redisUtil = redisUtil;
+        this.exhausted = Caffeine.newBuilder()
+                .maximumSize(localCacheSize)
+                .expireAfterWrite(Duration.ofDays(1).plus(EXPIRE_GRACE))
+                .build();
+    }
+
+    /**
+     * 일일 제한 확인 후 차감 (원자적)
+     *
+     * @param type 포인트 타입
+     * @param userId 사용자 ID
+     * @return 제한 내인 경우 true (카운터 차감), 제한 초과인 경우 false
+     * @throws RuntimeException Redis 스크립트 실행 실패 시 (호출 측에서 처리)
+     */
+    public boolean tryConsume(PointType type, String userId) {
+        int limit = limitOf(type);
+        if (limit < 0) {
+            return true;
+        }
+
+        LocalDate today = LocalDate.now();
+        String field = field(type, userId);
+        if (isExhausted(today, field)) {
+            return false;
+        }
+
+        Long count = redisUtil.executeScript(CONSUME_SCRIPT, List.of(key(today)),
+                field, String.valueOf(limit), String.valueOf(expireAt(today)));
+        if (count == null || count == EXHAUSTED) {
+            markExhausted(today, field);
+            return false;
+        }
+        if (count >= limit) {
+            // 이번 차감으로 한도를 다 씀 - 다음 요청부터 Redis 없이 거절
+            markExhausted(today, field);
+        }
+        return true;
+    }
+
+    /**
+     * VOTE, CREATE 남은 횟수 조회 (HMGET 한 번)
+     *
+     * @param userId 사용자 ID
+     * @return 포인트 타입 → 남은 횟수
+     */
+    public Map<PointType, Integer> getRemaining(String userId) {
+        List<String> counts = redisUtil.getHashValues(key(LocalDate.now()),
+                List.of(field(PointType.VOTE, userId), field(PointType.CREATE, userId)));
+
+        Map<PointType, Integer> remaining = new EnumMap<>(PointType.class);
+        remaining.put(PointType.VOTE, remainingOf(VOTE_DAILY_LIMIT, counts.get(0)));
+        remaining.put(PointType.CREATE, remainingOf(CREATE_DAILY_LIMIT, counts.get(1)));
+        return remaining;
+    }
+
+    /**
+     * 투표 승인 스크립트에서 쓸 인자 (같은 해시, 같은 필드 규칙)
+     */
+    String todayKey() {
+        return key(LocalDate.now());
+    }
+
+    long todayExpireAt() {
+        return expireAt(LocalDate.now());
+    }
+
+    /**
+     * 로컬 캐시에 한도 소진이 표시되어 있는지 (투표 승인 스크립트 호출 전 확인)
+     */
+    boolean isExhaustedToday(PointType type, String userId) {
+        return isExhausted(LocalDate.now(), field(type, userId));
+    }
+
+    /**
+     * 투표 승인 스크립트가 한도 초과로 포인트를 주지 않은 경우 로컬 캐시에 표시
+     */
+    void markExhaustedToday(PointType type, String userId) {
+        markExhausted(LocalDate.now(), field(type, userId));
+    }
+
+    /**
+     * 포인트 타입별 일일 제한
+     *
+     * @return 제한 횟수 (제한이 없는 타입은 -1)
+     */
+    static int limitOf(PointType type) {
+        return switch (type) {
+            case VOTE -> VOTE_DAILY_LIMIT;
+            case CREATE -> CREATE_DAILY_LIMIT;
+            case ATTENDANCE -> ATTENDANCE_DAILY_LIMIT;
+            default -> -1;
+        };
+    }
+
+    static String field(PointType type, String userId) {
+        return type.name() + ":" + userId;
+    }
+
+    private boolean isExhausted(LocalDate date, String field) {
+        return exhausted.getIfPresent(date + ":" + field) != null;
+    }
+
+    private void markExhausted(LocalDate date, String field) {
+        exhausted.put(date + ":" + field, Boolean.TRUE);
+    }
+
+    private String key(LocalDate date) {
+        return KEY_PREFIX + date;
+    }
+
+    // 다음 날 0시 + 여유 시간 (epoch seconds)
+    private long expireAt(LocalDate date) {
+        return date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).plus(EXPIRE_GRACE).toEpochSecond();
+    }
+
+    private int remainingOf(int limit, String count) {
+        return Math.max(0, limit - (count != null ? Integer.parseInt(count) : 0));
+    }
+}
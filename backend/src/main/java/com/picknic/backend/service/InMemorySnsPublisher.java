@@ -0,0 +1,48 @@
+package com.picknic.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메모리에만 보관하는 SNS 발행기 (aws.sns.publisher=memory)
+ *
+ * AWS 없이 로컬에서 실행하거나 테스트에서 발행된 메시지를 확인할 때 사용
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.sns.publisher", havingValue = "memory")
+public class InMemorySnsPublisher implements SnsPublisher {
+
+    private final List<PublishedMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public boolean publish(String subject, String message) {
+        published.add(new PublishedMessage(subject, message));
+        log.info("SNS 메시지 (메모리) - subject: {}, message: {}", subject, message);
+        return true;
+    }
+
+    /**
+     * 지금까지 발행된 메시지 (발행 순서)
+     */
+    public List<PublishedMessage> getPublished() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        published.clear();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PublishedMessage {
+        private final String subject;
+        private final String message;
+    }
+}
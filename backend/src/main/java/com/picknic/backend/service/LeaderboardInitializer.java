@@ -0,0 +1,43 @@
+package com.picknic.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardInitializer {
+
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
+
+    /**
+     * 시작 시 누적 포인트 리더보드와 학교별 합계가 없으면 DB 기준으로 구축
+     * (최초 배포, Redis 초기화 등)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfMissing() {
+        if (!leaderboardService.exists()) {
+            try {
+                int rebuilt = leaderboardService.rebuild();
+                log.info("누적 포인트 리더보드 초기 구축 - 사용자 수: {}", rebuilt);
+            } catch (Exception e) {
+                log.error("누적 포인트 리더보드 초기 구축 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        if (!schoolPointsService.exists()) {
+            try {
+                int built = schoolPointsService.reconcile();
+                log.info("학교별 포인트 합계 초기 구축 - 학교 수: {}", built);
+            } catch (Exception e) {
+                log.error("학교별 포인트 합계 초기 구축 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.UserPoint;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.repository.UserPointRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 누적 포인트 리더보드 (Redis Sorted Set: leaderboard:all-time)
+ *
+ * 점수는 -누적포인트로 저장하고 ZRANK/ZRANGE(오름차순)로 조회한다.
+ * 같은 점수의 멤버는 Redis가 사전순(오름차순)으로 정렬하므로
+ * 기존 정렬 기준(포인트 내림차순, 동점이면 userId 오름차순)이 별도 인코딩 없이 그대로 유지된다.
+ *
+ * 랭킹 대상(시스템 계정 제외, 학교가 있는 사용자)만 쓰기 시점에 등록하므로 조회 시 필터링이 필요 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    static final String LEADERBOARD_KEY = "leaderboard:all-time";
+    private static final String REBUILD_LOCK_KEY = "leaderboard:all-time:rebuild-lock";
+    // 재구축 중인 임시 키와 재구축 중 표시 (표시가 있으면 적립이 임시 키에도 함께 반영됨)
+    private static final String REBUILD_KEY = "leaderboard:all-time:rebuild";
+    private static final String REBUILDING_KEY = "leaderboard:all-time:rebuilding";
+    // 락, 임시 키, 재구축 중 표시의 만료 시간 (재구축 서버가 죽어도 남지 않도록)
+    private static final Duration REBUILD_TTL = Duration.ofMinutes(5);
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    // 누적 포인트는 줄어들지 않으므로 더 큰 값(더 작은 음수 점수)일 때만 갱신
+    // 동시에 적립된 요청의 반영 순서가 뒤바뀌어도 랭킹이 뒤로 가지 않음
+    // 재구축 중(KEYS[3] 존재)이면 임시 키(KEYS[2])에도 같은 규칙으로 반영하고 만료 시간(ARGV[1], ms)을 건다
+    // ARGV[2..]: (점수, 멤버) 쌍 반복 - 여러 사용자를 한 번에 갱신, 반환값은 갱신된 사용자 수
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "local function apply(key) " +
+            "  local updated = 0 " +
+            "  for i = 2, #ARGV, 2 do " +
+            "    local current = redis.call('ZSCORE', key, ARGV[i + 1]) " +
+            "    if not current or tonumber(ARGV[i]) < tonumber(current) then " +
+            "      redis.call('ZADD', key, ARGV[i], ARGV[i + 1]) " +
+            "      updated = updated + 1 " +
+            "    end " +
+            "  end " +
+            "  return updated " +
+            "end " +
+            "local updated = apply(KEYS[1]) " +
+            "if redis.call('EXISTS', KEYS[3]) == 1 then " +
+            "  apply(KEYS[2]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "end " +
+            "return updated",
+            Long.class);
+
+    // 재구축 페이지 채우기 - 이미 들어온 적립(더 큰 값)을 덮어쓰지 않도록 같은 규칙으로 임시 키에만 반영
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+            "  local current = redis.call('ZSCORE', KEYS[1], ARGV[i + 1]) " +
+            "  if not current or tonumber(ARGV[i]) < tonumber(current) then " +
+            "    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  end " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 재구축 완료 - 표시 제거와 교체를 한 번에 (교체 직전에 들어온 적립도 임시 키에 반영되어 있음)
+    private static final RedisScript<Long> FINISH_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[3]) " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('RENAME', KEYS[2], KEYS[1]) " +
+            "  redis.call('PERSIST', KEYS[1]) " +
+            "  return 1 " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 0",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final UserPointRepository userPointRepository;
+
+    /**
+     * 랭킹 대상 사용자인지 (시스템 계정 제외, 학교가 있는 사용자)
+     */
+    public static boolean isEligible(User user) {
+        return user != null
+                && !Boolean.TRUE.equals(user.getIsSystemAccount())
+                && user.getSchoolName() != null
+                && !user.getSchoolName().trim().isEmpty();
+    }
+
+    /**
+     * 포인트 적립 후 누적 포인트 반영
+     *
+     * @param user 사용자 (null이면 무시)
+     * @param totalAccumulatedPoints 적립 후 누적 포인트
+     */
+    public void updatePoints(User user, long totalAccumulatedPoints) {
+        if (!isEligible(user)) {
+            return;
+        }
+        try {
+            redisUtil.executeScript(UPDATE_SCRIPT, updateKeys(),
+                    String.valueOf(REBUILD_TTL.toMillis()), String.valueOf(-totalAccumulatedPoints), user.getEmail());
+        } catch (Exception e) {
+            // 랭킹 업데이트 실패는 핵심 기능이 아니므로 예외를 전파하지 않음 (재구축으로 복구)
+            log.error("리더보드 갱신 실패 - userId: {}", user.getEmail(), e);
+        }
+    }
+
+    /**
+     * 여러 사용자의 누적 포인트 한 번에 반영 (포인트 일괄 적립)
+     *
+     * @param users 사용자 (랭킹 대상이 아니면 무시)
+     * @param totals 사용자 ID → 적립 후 누적 포인트
+     */
+    public void updatePoints(Collection<User> users, Map<String, Long> totals) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(REBUILD_TTL.toMillis()));
+        for (User user : users) {
+            Long total = totals.get(user.getEmail());
+            if (isEligible(user) && total != null) {
+                args.add(String.valueOf(-total));
+                args.add(user.getEmail());
+            }
+        }
+        if (args.size() == 1) {
+            return;
+        }
+        try {
+            redisUtil.executeScript(UPDATE_SCRIPT, updateKeys(), args.toArray(new String[0]));
+        } catch (Exception e) {
+            log.error("리더보드 일괄 갱신 실패 - 사용자 수: {}", args.size() / 2, e);
+        }
+    }
+
+    /**
+     * 사용자 정보 변경 시 랭킹 대상 여부 동기화 (프로필 완성, 회원가입 등)
+     *
+     * 대상이면 현재 누적 포인트로 등록하고(0점 포함), 대상이 아니면 제거한다.
+     *
+     * @param user 사용자
+     */
+    public void syncUser(User user) {
+        if (!isEligible(user)) {
+            remove(user.getEmail());
+            return;
+        }
+
+        long points = userPointRepository.findByUserId(user.getEmail())
+                .map(UserPoint::getTotalAccumulatedPoints)
+                .orElse(0L);
+        updatePoints(user, points);
+    }
+
+    /**
+     * 랭킹에서 제거 (사용자 삭제 등)
+     *
+     * @param userId 사용자 ID
+     */
+    public void remove(String userId) {
+        redisUtil.removeFromSortedSet(LEADERBOARD_KEY, userId);
+        // 재구축 중이면 이미 채워진 임시 키에서도 제거 (없으면 아무 일도 없음)
+        redisUtil.removeFromSortedSet(REBUILD_KEY, userId);
+    }
+
+    /**
+     * 내 순위 조회 - O(log n)
+     *
+     * @param userId 사용자 ID
+     * @return 순위 (1-based), 랭킹 대상이 아니면 null
+     */
+    public Long getRank(String userId) {
+        Long rank = redisUtil.getRank(LEADERBOARD_KEY, userId);
+        return rank != null ? rank + 1 : null;
+    }
+
+    /**
+     * 리더보드가 존재하는지
+     */
+    public boolean exists() {
+        return redisUtil.hasKey(LEADERBOARD_KEY);
+    }
+
+    /**
+     * user_points 기준으로 리더보드 전체 재구축
+     *
+     * 임시 키에 채운 뒤 RENAME으로 교체하므로 재구축 중에도 조회는 기존 리더보드로 응답한다.
+     * 재구축 중에는 적립이 임시 키에도 함께 반영되고(UPDATE_SCRIPT), 페이지 채우기와 적립 모두 더 큰 값만 남기므로
+     * 페이지를 읽은 뒤 교체 전까지 들어온 적립도 유실되지 않는다.
+     * 임시 키 쓰기가 실패하면 교체하지 않고 중단한다 (기존 리더보드 유지).
+     *
+     * @return 등록한 사용자 수 (다른 서버가 재구축 중이면 -1)
+     */
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(REBUILD_LOCK_KEY, lockToken, REBUILD_TTL)) {
+            return -1;
+        }
+
+        boolean finished = false;
+        try {
+            // 이전 재구축이 남긴 임시 키를 지우고 재구축 중 표시 (이후 적립은 임시 키에도 반영)
+            redisUtil.delete(REBUILD_KEY);
+            redisUtil.setCounter(REBUILDING_KEY, 1, REBUILD_TTL);
+
+            String afterEmail = "";
+            int total = 0;
+
+            while (true) {
+                List<Object[]> rows = userPointRepository.findLeaderboardEntries(
+                        afterEmail, PageRequest.of(0, REBUILD_PAGE_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<String> args = new ArrayList<>(rows.size() * 2 + 1);
+                args.add(String.valueOf(REBUILD_TTL.toMillis()));
+                for (Object[] row : rows) {
+                    String userId = (String) row[0];
+                    long points = ((Number) row[1]).longValue();
+                    args.add(String.valueOf(-points));
+                    args.add(userId);
+                    afterEmail = userId;
+                }
+                // 실패하면 예외가 전파되어 교체 없이 중단
+                redisUtil.executeScript(FILL_SCRIPT, List.of(REBUILD_KEY), args.toArray(new String[0]));
+                total += rows.size();
+
+                if (rows.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+
+            redisUtil.executeScript(FINISH_SCRIPT, updateKeys());
+            finished = true;
+
+            log.info("리더보드 재구축 완료 - 사용자 수: {}", total);
+            return total;
+        } finally {
+            if (!finished) {
+                redisUtil.delete(REBUILDING_KEY);
+                redisUtil.delete(REBUILD_KEY);
+                log.error("리더보드 재구축 중단 - 기존 리더보드를 유지합니다.");
+            }
+            redisUtil.releaseLock(REBUILD_LOCK_KEY, lockToken);
+        }
+    }
+
+    private List<String> updateKeys() {
+        return List.of(LEADERBOARD_KEY, REBUILD_KEY, REBUILDING_KEY);
+    }
+}
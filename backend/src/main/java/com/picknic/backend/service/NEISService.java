@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.picknic.backend.domain.School;
 import com.picknic.backend.domain.SchoolRepository;
 import com.picknic.backend.dto.neis.NEISSchoolResponse;
+import com.picknic.backend.util.TwoTierCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,9 +30,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class NEISService {
 
+    // 학교 목록 캐시 (동기화 시 무효화) - 키: all, type:{HIGH|MIDDLE}
+    public static final String SCHOOL_LIST_CACHE = "school-list";
+    public static final List<String> SCHOOL_LIST_CACHE_KEYS = List.of("all", "type:HIGH", "type:MIDDLE");
+
     private final RestTemplate restTemplate;
     private final SchoolRepository schoolRepository;
     private final ObjectMapper objectMapper;
+    private final TwoTierCache twoTierCache;
 
     @Value("${neis.api.url}")
     private String neisApiUrl;
@@ -233,6 +239,8 @@ public class NEISService {
             log.info("Saving {} schools to database...", schools.size());
             schoolRepository.saveAll(schools);
 
+            SCHOOL_LIST_CACHE_KEYS.forEach(key -> twoTierCache.evict(SCHOOL_LIST_CACHE, key));
+
             log.info("School synchronization completed successfully: {} schools saved", schools.size());
         } else {
             log.error("No schools to sync! Both NEIS and JSON fallback failed.");
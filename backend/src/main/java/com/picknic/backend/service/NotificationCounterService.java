@@ -0,0 +1,209 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.NotificationCursor;
+import com.picknic.backend.repository.BroadcastNotificationReadRepository;
+import com.picknic.backend.repository.BroadcastNotificationRepository;
+import com.picknic.backend.repository.NotificationCursorRepository;
+import com.picknic.backend.repository.NotificationRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 안 읽은 알림 수 (Redis 카운터)
+ *
+ * 전체 알림은 사용자별로 늘릴 수 없으므로 두 값으로 나눠 저장한다.
+ * - notification:broadcast:count   전체 알림 수 (모든 사용자 공통)
+ * - notification:unread:{userId}   안 읽은 개인 알림 수 - 읽은 전체 알림 수
+ * 안 읽은 알림 수 = 두 값의 합이므로 조회는 MGET 한 번으로 끝난다.
+ *
+ * 사용자 카운터는 키가 있을 때만 증감하고 (없으면 다음 조회 때 DB에서 다시 계산),
+ * 전체 알림 수는 Lambda가 만든 알림도 반영되도록 짧은 TTL로 DB에서 다시 읽는다.
+ * DB에서 다시 계산하는 동안에는 {키}:pending 자리표시를 먼저 만들어 그 사이의 증감을 모으고,
+ * 계산 결과를 저장할 때 한 스크립트 안에서 더하므로 계산과 겹친 증감이 버려지지 않는다.
+ * 조회 경로에 트랜잭션을 걸지 않아 캐시 적중 시 DB 연결을 쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCounterService {
+
+    private static final String BROADCAST_COUNT_KEY = "notification:broadcast:count";
+    private static final String UNREAD_KEY_PREFIX = "notification:unread:";
+
+    private static final String PENDING_SUFFIX = ":pending";
+    // 다시 계산하는 동안 증감을 모으는 자리표시의 만료 (계산이 중간에 실패해도 남지 않도록)
+    private static final Duration REBUILD_PENDING_TTL = Duration.ofSeconds(30);
+
+    // 카운터(KEYS[1])가 있으면 INCRBY (ARGV[2] > 0이면 TTL 갱신),
+    // 없고 다시 계산 중(KEYS[2] 자리표시 존재)이면 자리표시에 모음 - 둘 다 없으면 0
+    private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "  if tonumber(ARGV[2]) > 0 then " +
+            "    redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "  end " +
+            "  return 1 " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  redis.call('INCRBY', KEYS[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 다시 계산한 값(ARGV[1]) + 계산 중 모인 증감(KEYS[2])을 카운터(KEYS[1])에 저장 (ARGV[2]: TTL 초)
+    // 다른 요청이 먼저 저장했으면 그 값을 유지 - 반환값은 저장된 카운터 값
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "local pending = tonumber(redis.call('GET', KEYS[2]) or '0') " +
+            "redis.call('DEL', KEYS[2]) " +
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current then " +
+            "  return tonumber(current) " +
+            "end " +
+            "local value = tonumber(ARGV[1]) + pending " +
+            "redis.call('SET', KEYS[1], value, 'EX', ARGV[2]) " +
+            "return value",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final NotificationRepository notificationRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final NotificationCursorRepository notificationCursorRepository;
+    private final BroadcastNotificationReadRepository broadcastNotificationReadRepository;
+
+    @Value("${notification.unread.ttl-hours:24}")
+    private long unreadTtlHours;
+
+    @Value("${notification.unread.broadcast-count-ttl-seconds:60}")
+    private long broadcastCountTtlSeconds;
+
+    /**
+     * 안 읽은 알림 수 조회 (카운터가 없으면 DB에서 계산 후 저장)
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    public long getUnreadCount(String userId) {
+        String unreadKey = unreadKey(userId);
+        List<Long> counters = redisUtil.getCounters(List.of(BROADCAST_COUNT_KEY, unreadKey));
+        Long broadcastCount = counters.get(0);
+        Long offset = counters.get(1);
+
+        if (offset == null) {
+            // 사용자 카운터는 DB의 전체 알림 수 기준으로 다시 계산 (공통 카운터가 늦게 반영된 경우에도 어긋나지 않도록)
+            // DB를 읽기 전에 자리표시를 만들어 읽는 동안 커밋된 증감을 모음
+            boolean rebuildBroadcast = broadcastCount == null;
+            startRebuild(unreadKey);
+            if (rebuildBroadcast) {
+                startRebuild(BROADCAST_COUNT_KEY);
+            }
+            long dbBroadcastCount = broadcastNotificationRepository.count();
+            long unread = countUnread(userId);
+            offset = finishRebuild(unreadKey, unread - dbBroadcastCount, Duration.ofHours(unreadTtlHours));
+            if (rebuildBroadcast) {
+                finishRebuild(BROADCAST_COUNT_KEY, dbBroadcastCount, Duration.ofSeconds(broadcastCountTtlSeconds));
+            }
+            return Math.max(0, dbBroadcastCount + offset);
+        }
+
+        if (broadcastCount == null) {
+            startRebuild(BROADCAST_COUNT_KEY);
+            broadcastCount = finishRebuild(BROADCAST_COUNT_KEY, broadcastNotificationRepository.count(),
+                    Duration.ofSeconds(broadcastCountTtlSeconds));
+        }
+        return Math.max(0, broadcastCount + offset);
+    }
+
+    /**
+     * 사용자 카운터 증감 (개인 알림 생성 +1, 읽음 -1) - 트랜잭션 안이면 커밋 후 반영
+     *
+     * @param userId 사용자 ID
+     * @param delta 증감 값
+     */
+    public void adjust(String userId, long delta) {
+        afterCommit(() -> adjustIfExists(unreadKey(userId), delta, Duration.ofHours(unreadTtlHours).toSeconds()));
+    }
+
+    /**
+     * 전체 알림 생성 반영 (모든 사용자의 안 읽은 수 +1) - 트랜잭션 안이면 커밋 후 반영
+     */
+    public void broadcastCreated() {
+        afterCommit(() -> adjustIfExists(BROADCAST_COUNT_KEY, 1, 0));
+    }
+
+    /**
+     * 모두 읽음 처리 후 사용자 카운터 초기화 (안 읽은 수 0) - 트랜잭션 안이면 커밋 후 반영
+     *
+     * @param userId 사용자 ID
+     * @param broadcastCount 읽음 처리 시점의 전체 알림 수
+     */
+    public void reset(String userId, long broadcastCount) {
+        afterCommit(() -> redisUtil.setCounter(unreadKey(userId), -broadcastCount, Duration.ofHours(unreadTtlHours)));
+    }
+
+    // 안 읽은 개인 알림 + 커서 뒤의 전체 알림 중 개별 읽음 기록이 없는 것
+    private long countUnread(String userId) {
+        long cursor = notificationCursorRepository.findById(userId)
+                .map(NotificationCursor::getLastReadBroadcastId)
+                .orElse(0L);
+        long personal = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long broadcasts = broadcastNotificationRepository.countByIdGreaterThan(cursor)
+                - broadcastNotificationReadRepository.countByUserIdAndBroadcastIdGreaterThan(userId, cursor);
+        return personal + Math.max(0, broadcasts);
+    }
+
+    // DB에서 다시 계산하기 전 - 자리표시를 만들어 계산 중 증감을 모으기 시작 (동시에 계산 중이면 같이 씀)
+    private void startRebuild(String key) {
+        redisUtil.setIfAbsent(key + PENDING_SUFFIX, "0", REBUILD_PENDING_TTL);
+    }
+
+    // 다시 계산한 값에 계산 중 모인 증감을 더해 저장 - 저장된 카운터 값 반환 (실패하면 계산한 값)
+    private long finishRebuild(String key, long value, Duration ttl) {
+        try {
+            Long stored = redisUtil.executeScript(FINISH_REBUILD_SCRIPT, List.of(key, key + PENDING_SUFFIX),
+                    String.valueOf(value), String.valueOf(ttl.toSeconds()));
+            return stored != null ? stored : value;
+        } catch (Exception e) {
+            log.warn("안 읽은 알림 카운터 저장 실패 - key: {}, error: {}", key, e.getMessage());
+            return value;
+        }
+    }
+
+    private void adjustIfExists(String key, long delta, long ttlSeconds) {
+        try {
+            redisUtil.executeScript(ADJUST_IF_EXISTS_SCRIPT, List.of(key, key + PENDING_SUFFIX),
+                    String.valueOf(delta), String.valueOf(ttlSeconds));
+        } catch (Exception e) {
+            // 반영에 실패한 카운터는 삭제해 다음 조회 때 DB에서 다시 계산
+            log.warn("안 읽은 알림 카운터 반영 실패 - key: {}, error: {}", key, e.getMessage());
+            redisUtil.delete(key);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private String unreadKey(String userId) {
+        return UNREAD_KEY_PREFIX + userId;
+    }
+}
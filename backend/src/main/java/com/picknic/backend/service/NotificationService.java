@@ -1,21 +1,39 @@
 package com.picknic.backend.service;
 
+import com.picknic.backend.domain.BroadcastNotification;
 import com.picknic.backend.domain.Notification;
-import com.picknic.backend.entity.User;
+import com.picknic.backend.domain.NotificationCursor;
+import com.picknic.backend.dto.common.KeysetCursor;
+import com.picknic.backend.dto.notification.NotificationPageResponse;
+import com.picknic.backend.dto.notification.NotificationResponse;
+import com.picknic.backend.repository.BroadcastNotificationReadRepository;
+import com.picknic.backend.repository.BroadcastNotificationRepository;
+import com.picknic.backend.repository.NotificationCursorRepository;
 import com.picknic.backend.repository.NotificationRepository;
-import com.picknic.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 알림 서비스
  *
  * 사용자 알림 조회 및 읽음 처리를 담당
+ *
+ * 개인 알림은 사용자별 행(notifications), 전체 사용자 대상 알림(Hot 투표 등)은 알림당 한 행(broadcast_notifications)으로 저장한다.
+ * 전체 알림의 읽음 여부는 사용자별 커서(이하 모두 읽음) + 커서 뒤의 개별 읽음 기록으로 판단한다.
+ * 조회는 개인/전체 알림을 같은 키셋 커서로 각각 한 페이지씩 읽어 합치므로 사용자 수, 알림 누적량과 무관하게 일정하다.
+ * 안 읽은 알림 수는 NotificationCounterService의 Redis 카운터로 관리한다 (생성·읽음 시 함께 갱신).
+ * 새 알림은 커밋 후 NotificationStreamService로 연결된 클라이언트에 바로 전달한다.
  */
 @Slf4j
 @Service
@@ -23,18 +41,100 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    static final String HOT_VOTE_TYPE = "HOT_VOTE";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final BroadcastNotificationRepository broadcastNotificationRepository;
+    private final NotificationCursorRepository notificationCursorRepository;
+    private final BroadcastNotificationReadRepository broadcastNotificationReadRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationStreamService notificationStreamService;
 
     /**
-     * 내 알림 목록 조회 (최신순)
+     * 내 알림 목록 조회 (개인 + 전체 알림, 키셋 페이지네이션, 최신순)
      *
      * @param userId 사용자 ID
-     * @return 알림 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (기본 20, 최대 50)
+     * @return 알림 페이지
      */
     @Transactional(readOnly = true)
-    public List<Notification> getMyNotifications(String userId) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    public NotificationPageResponse getMyNotifications(String userId, String cursor, Integer limit) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = (limit == null || limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        // 1. 개인/전체 알림을 같은 커서 기준으로 한 페이지씩 (다음 페이지 확인을 위해 1개 더)
+        Pageable page = PageRequest.of(0, pageSize + 1);
+        List<Notification> personal = notificationRepository.findInboxPage(
+                userId, position.getCreatedAt(), position.getId(), page);
+        List<BroadcastNotification> broadcasts = broadcastNotificationRepository.findPage(
+                position.getCreatedAt(), position.getId(), page);
+
+        // 2. 전체 알림 읽음 여부: 커서 이하이거나 개별 읽음 기록이 있으면 읽음
+        long readCursor = notificationCursorRepository.findById(userId)
+                .map(NotificationCursor::getLastReadBroadcastId)
+                .orElse(0L);
+        List<Long> unreadCandidates = broadcasts.stream()
+                .map(BroadcastNotification::getId)
+                .filter(id -> id > readCursor)
+                .toList();
+        Set<Long> readIds = unreadCandidates.isEmpty()
+                ? Set.of()
+                : new HashSet<>(broadcastNotificationReadRepository.findReadIds(userId, unreadCandidates));
+
+        // 3. 합쳐서 (createdAt, id) 내림차순으로 한 페이지
+        List<NotificationResponse> merged = new ArrayList<>(personal.size() + broadcasts.size());
+        personal.forEach(notification -> merged.add(NotificationResponse.from(notification)));
+        broadcasts.forEach(broadcast -> merged.add(NotificationResponse.from(broadcast,
+                broadcast.getId() <= readCursor || readIds.contains(broadcast.getId()))));
+        merged.sort(Comparator.comparing(NotificationResponse::getCreatedAt)
+                .thenComparing(NotificationResponse::getId)
+                .reversed());
+
+        boolean hasNext = merged.size() > pageSize;
+        List<NotificationResponse> items = hasNext ? merged.subList(0, pageSize) : merged;
+
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationResponse last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return new NotificationPageResponse(items, nextCursor);
+    }
+
+    /**
+     * 안 읽은 알림 수 (Redis 카운터 - 폴링용)
+     *
+     * @param userId 사용자 ID
+     * @return 안 읽은 알림 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getUnreadCount(String userId) {
+        return notificationCounterService.getUnreadCount(userId);
+    }
+
+    /**
+     * 개인 알림 생성
+     *
+     * @param userId 받는 사용자 ID
+     * @param type 알림 타입
+     * @param title 제목
+     * @param message 내용
+     * @param voteId 관련 투표 ID (없으면 null)
+     */
+    public void createNotification(String userId, String type, String title, String message, Long voteId) {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .userId(userId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .voteId(voteId)
+                .build());
+        notificationCounterService.adjust(userId, 1);
+        notificationStreamService.publish(userId, NotificationResponse.from(notification));
     }
 
     /**
@@ -44,15 +144,59 @@ public class NotificationService {
      * @param userId 사용자 ID
      */
     public void markAsRead(Long notificationId, String userId) {
-        Notification notification = notificationRepository.findByIdAndUserId(notificationId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
-
-        notification.markAsRead();
+        // 안 읽은 경우에만 UPDATE (동시 요청이 카운터를 두 번 줄이지 않도록)
+        if (notificationRepository.markAsRead(notificationId, userId) > 0) {
+            notificationCounterService.adjust(userId, -1);
+        } else if (notificationRepository.findByIdAndUserId(notificationId, userId).isEmpty()) {
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다.");
+        }
         log.info("알림 읽음 처리 - notificationId: {}, userId: {}", notificationId, userId);
     }
 
     /**
-     * Hot 투표 알림 생성 (모든 사용자에게)
+     * 전체 알림 읽음 처리 (커서 이하면 이미 읽음)
+     *
+     * @param broadcastId 전체 알림 ID
+     * @param userId 사용자 ID
+     */
+    public void markBroadcastAsRead(Long broadcastId, String userId) {
+        if (!broadcastNotificationRepository.existsById(broadcastId)) {
+            throw new IllegalArgumentException("알림을 찾을 수 없습니다.");
+        }
+
+        long cursor = notificationCursorRepository.findById(userId)
+                .map(NotificationCursor::getLastReadBroadcastId)
+                .orElse(0L);
+        if (broadcastId > cursor && broadcastNotificationReadRepository.insertIfAbsent(userId, broadcastId) > 0) {
+            notificationCounterService.adjust(userId, -1);
+        }
+        log.info("전체 알림 읽음 처리 - broadcastId: {}, userId: {}", broadcastId, userId);
+    }
+
+    /**
+     * 모두 읽음 처리 (개인 알림 + 현재까지의 전체 알림)
+     *
+     * 개인 알림은 UPDATE 한 번으로 읽음 처리하고, 전체 알림은 커서를 최신 알림으로 옮긴 뒤
+     * 커서 이하의 개별 읽음 기록을 지운다. 커밋 후 안 읽은 알림 카운터를 0으로 맞춘다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void markAllAsRead(String userId) {
+        int personal = notificationRepository.markAllAsRead(userId);
+
+        Long latestBroadcastId = broadcastNotificationRepository.findLatestId();
+        long readBroadcasts = 0;
+        if (latestBroadcastId != null) {
+            notificationCursorRepository.advance(userId, latestBroadcastId);
+            broadcastNotificationReadRepository.deleteUpTo(userId, latestBroadcastId);
+            readBroadcasts = broadcastNotificationRepository.countByIdLessThanEqual(latestBroadcastId);
+        }
+        notificationCounterService.reset(userId, readBroadcasts);
+        log.info("알림 모두 읽음 처리 - userId: {}, 개인 알림: {}, 전체 알림 커서: {}", userId, personal, latestBroadcastId);
+    }
+
+    /**
+     * Hot 투표 알림 생성 (전체 알림 한 건 - 사용자 수와 무관)
      *
      * @param voteId 투표 ID
      * @param voteTitle 투표 제목
@@ -60,26 +204,21 @@ public class NotificationService {
      */
     public void createHotVoteNotifications(Long voteId, String voteTitle, String category) {
         try {
-            // 모든 사용자 조회
-            List<User> allUsers = userRepository.findAll();
-
-            // 각 사용자에게 알림 생성
-            List<Notification> notifications = allUsers.stream()
-                    .map(user -> Notification.builder()
-                            .userId(user.getEmail()) // User의 email이 userId로 사용됨
-                            .type("HOT_VOTE")
-                            .title("🔥 HOT 투표!")
-                            .message(String.format("\"%s\" 투표가 인기 급상승 중이에요! 지금 바로 참여해보세요!", voteTitle))
-                            .voteId(voteId)
-                            .isRead(false)
-                            .createdAt(LocalDateTime.now())
-                            .build())
-                    .toList();
-
-            // 배치로 저장
-            notificationRepository.saveAll(notifications);
-
-            log.info("Hot 투표 알림 생성 완료 - voteId: {}, 알림 생성 수: {}", voteId, notifications.size());
+            int inserted = broadcastNotificationRepository.insertIfAbsent(
+                    HOT_VOTE_TYPE,
+                    "🔥 HOT 투표!",
+                    String.format("\"%s\" 투표가 인기 급상승 중이에요! 지금 바로 참여해보세요!", voteTitle),
+                    voteId
+            );
+
+            if (inserted > 0) {
+                notificationCounterService.broadcastCreated();
+                broadcastNotificationRepository.findByTypeAndVoteId(HOT_VOTE_TYPE, voteId)
+                        .ifPresent(broadcast -> notificationStreamService.publish(
+                                null, NotificationResponse.from(broadcast, false)));
+            }
+
+            log.info("Hot 투표 알림 생성 완료 - voteId: {}, {}", voteId, inserted > 0 ? "생성" : "이미 있음");
 
         } catch (Exception e) {
             // 알림 생성 실패해도 시스템은 계속 동작해야 함 (fault-tolerant)
@@ -0,0 +1,204 @@
+package com.picknic.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.dto.notification.NotificationResponse;
+import com.picknic.backend.dto.notification.NotificationStreamMessage;
+import com.picknic.backend.util.RedisUtil;
+import com.picknic.backend.util.SseChannel;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 알림 실시간 전달 (SSE, GET /notifications/stream)
+ *
+ * 알림이 만들어지면 이벤트 ID를 Redis에서 하나 받아 notification:stream 채널로 발행하고,
+ * 모든 서버가 받아 자기에게 연결된 사용자에게 보낸다 (전체 알림은 모든 연결, 개인 알림은 해당 사용자).
+ *
+ * 재연결: 각 서버는 최근 이벤트를 replay-size개까지 기억해 두고,
+ * 클라이언트가 Last-Event-ID를 보내면 그 뒤의 이벤트를 먼저 보낸다.
+ * (더 오래 끊겨 있었던 경우는 클라이언트가 목록을 다시 조회)
+ *
+ * 연결마다 쓰는 작업은 Redis 구독 스레드가 아니라 sseFanoutExecutor에서 한다
+ * (느린 연결이 구독 스레드를 붙잡아 다른 채널의 메시지 처리까지 늦추지 않도록).
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+
+    static final String CHANNEL = "notification:stream";
+    private static final String SEQUENCE_KEY = "notification:stream:seq";
+    private static final String EVENT_NAME = "notification";
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseChannel channel;
+    private final Executor fanoutExecutor;
+    private final int replaySize;
+
+    // 최근 이벤트 (재연결 시 재전송용, ID 오름차순)
+    private final Deque<NotificationStreamMessage> recent = new ArrayDeque<>();
+
+    public NotificationStreamService(RedisUtil redisUtil,
+                                     ObjectMapper objectMapper,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     MeterRegistry meterRegistry,
+                                     @Qualifier("sseFanoutExecutor") Executor fanoutExecutor,
+                                     @Value("${notification.stream.max-connections:10000}") int maxConnections,
+                                     @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                     @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${notification.stream.replay-size:1000}") int replaySize) {
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.channel = new SseChannel("notifications", maxConnections, maxConnectionsPerUser, timeoutMs, meterRegistry);
+        this.fanoutExecutor = fanoutExecutor;
+        this.replaySize = replaySize;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 스트림 연결
+     *
+     * @param userId 사용자 ID
+     * @param lastEventId 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더, 처음 연결이면 null)
+     * @return SseEmitter
+     */
+    public SseEmitter connect(String userId, String lastEventId) {
+        SseEmitter emitter = channel.open(userId);
+
+        // 응답 헤더를 바로 내보내 클라이언트가 연결을 확인할 수 있도록 함
+        if (!channel.send(userId, emitter, SseEmitter.event().comment("connected").build())) {
+            return emitter;
+        }
+
+        long lastId = parseEventId(lastEventId);
+        if (lastId > 0) {
+            for (NotificationStreamMessage missed : recentAfter(lastId)) {
+                if ((missed.getUserId() == null || missed.getUserId().equals(userId))
+                        && !channel.send(userId, emitter, toEvent(missed))) {
+                    break;
+                }
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 알림 발행 - 트랜잭션 안이면 커밋 후 발행 (클라이언트가 바로 목록을 조회해도 보이도록)
+     *
+     * @param userId 받는 사용자 ID (전체 알림이면 null)
+     * @param notification 알림
+     */
+    public void publish(String userId, NotificationResponse notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(userId, notification);
+                }
+            });
+            return;
+        }
+        publishNow(userId, notification);
+    }
+
+    /**
+     * 연결된 모든 클라이언트에 하트비트 (SseHeartbeatScheduler)
+     */
+    public void heartbeat() {
+        channel.heartbeat();
+    }
+
+    private void publishNow(String userId, NotificationResponse notification) {
+        Long id = redisUtil.increment(SEQUENCE_KEY);
+        if (id == null) {
+            // 실시간 전달만 건너뜀 - 알림 자체는 저장되어 있고 클라이언트는 목록 조회로 받음
+            return;
+        }
+        try {
+            String data = objectMapper.writeValueAsString(notification);
+            redisUtil.publish(CHANNEL, objectMapper.writeValueAsString(new NotificationStreamMessage(id, userId, data)));
+        } catch (Exception e) {
+            log.error("알림 스트림 발행 실패 - userId: {}", userId, e);
+        }
+    }
+
+    private void onMessage(String body) {
+        NotificationStreamMessage message;
+        try {
+            message = objectMapper.readValue(body, NotificationStreamMessage.class);
+        } catch (Exception e) {
+            log.warn("알림 스트림 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 재전송 목록에는 바로 남기고 (전달을 건너뛰어도 재연결 시 받을 수 있도록) 전달은 풀에 넘김
+        remember(message);
+        try {
+            fanoutExecutor.execute(() -> deliver(message));
+        } catch (RejectedExecutionException e) {
+            log.warn("알림 스트림 전달 건너뜀 (전달 대기열 포화) - id: {}", message.getId());
+        }
+    }
+
+    private void deliver(NotificationStreamMessage message) {
+        if (message.getUserId() == null) {
+            channel.sendAll(toEvent(message));
+        } else {
+            channel.send(message.getUserId(), toEvent(message));
+        }
+    }
+
+    private synchronized void remember(NotificationStreamMessage message) {
+        recent.addLast(message);
+        while (recent.size() > replaySize) {
+            recent.removeFirst();
+        }
+    }
+
+    private synchronized List<NotificationStreamMessage> recentAfter(long lastId) {
+        return recent.stream()
+                .filter(message -> message.getId() > lastId)
+                .toList();
+    }
+
+    private Set<DataWithMediaType> toEvent(NotificationStreamMessage message) {
+        return SseChannel.event(String.valueOf(message.getId()), EVENT_NAME, message.getData());
+    }
+
+    private long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
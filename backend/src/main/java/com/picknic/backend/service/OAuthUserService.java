@@ -39,7 +39,7 @@ public class OAuthUserService {
         // 1. 기존 사용자 조회
         Optional<User> existingUser = userRepository.findByEmail(email);
         if (existingUser.isPresent()) {
-            log.info("Existing OAuth user found: email={}, provider={}", email, provider);
+            log.debug("Existing OAuth user found: email={}, provider={}", email, provider);
             return existingUser.get();
         }
 
@@ -0,0 +1,62 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.PointOutbox;
+import com.picknic.backend.repository.PointOutboxRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PointOutboxDispatchScheduler {
+
+    static final String DISPATCH_LOCK_KEY = "points:outbox:dispatch-lock";
+
+    private final PointOutboxRepository pointOutboxRepository;
+    private final PointService pointService;
+    private final RedisUtil redisUtil;
+
+    @Value("${point.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${point.outbox.dispatch-lock-ttl-ms:30000}")
+    private long dispatchLockTtlMs;
+
+    /**
+     * 포인트 적립 대기 이벤트를 주기적으로 모아서 적립
+     *
+     * 적립과 outbox 삭제가 한 트랜잭션이므로 실패하면 이벤트가 그대로 남아 다음 주기에 재시도되고,
+     * 같은 이벤트는 point_history.event_id로 걸러지므로 중복 적립되지 않음.
+     * 같은 사용자의 UserPoint를 여러 서버가 동시에 갱신하지 않도록 Redis 락을 잡은 서버만 실행함
+     */
+    @Scheduled(fixedDelayString = "${point.outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(DISPATCH_LOCK_KEY, lockToken, Duration.ofMillis(dispatchLockTtlMs))) {
+            return;
+        }
+
+        try {
+            List<PointOutbox> events = pointOutboxRepository.findOldest(PageRequest.of(0, batchSize));
+            if (events.isEmpty()) {
+                return;
+            }
+
+            int settled = pointService.settleOutbox(events);
+            log.debug("포인트 적립 대기 이벤트 처리 - 읽음: {}, 적립: {}", events.size(), settled);
+        } catch (Exception e) {
+            log.error("포인트 일괄 적립 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        } finally {
+            redisUtil.releaseLock(DISPATCH_LOCK_KEY, lockToken);
+        }
+    }
+}
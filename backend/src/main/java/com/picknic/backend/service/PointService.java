@@ -1,6 +1,7 @@
 package com.picknic.backend.service;
 
 import com.picknic.backend.domain.PointHistory;
+import com.picknic.backend.domain.PointOutbox;
 import com.picknic.backend.domain.PointType;
 import com.picknic.backend.domain.Reward;
 import com.picknic.backend.domain.UserPoint;
@@ -10,10 +11,14 @@ import com.picknic.backend.dto.point.PointHistoryResponse;
 import com.picknic.backend.entity.User;
 import com.picknic.backend.exception.BadRequestException;
 import com.picknic.backend.repository.PointHistoryRepository;
+import com.picknic.backend.repository.PointOutboxRepository;
 import com.picknic.backend.repository.RewardRepository;
 import com.picknic.backend.repository.UserPointRepository;
 import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.util.RedisUtil;
+import com.picknic.backend.util.TwoTierCache;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -22,10 +27,17 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,14 +48,15 @@ public class PointService {
 
     private final UserPointRepository userPointRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final PointOutboxRepository pointOutboxRepository;
     private final RewardRepository rewardRepository;
     private final UserRepository userRepository;
     private final RedisUtil redisUtil;
-
-    // 일일 제한 설정
-    private static final int VOTE_DAILY_LIMIT = 10;
-    private static final int CREATE_DAILY_LIMIT = 5;
-    private static final long TTL_24_HOURS = 86400L; // 24시간 (초 단위)
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
+    private final DailyLimitService dailyLimitService;
+    private final TwoTierCache twoTierCache;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 포인트 적립
@@ -54,6 +67,7 @@ public class PointService {
      * @param schoolName 학교 이름 (학교별 랭킹용, nullable)
      * @param referenceId 참조 ID (voteId 등, nullable)
      */
+    @Timed(value = "points.earn", description = "포인트 적립 처리 시간")
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void earnPoints(String userId, PointType type, int amount, String schoolName, String referenceId) {
         // 0. Check if user is a system account - skip point earning
@@ -69,12 +83,9 @@ public class PointService {
             return;
         }
 
-        // 2. DB 트랜잭션: UserPoint 업데이트
-        UserPoint userPoint = userPointRepository.findByUserId(userId)
-                .orElse(new UserPoint(userId));
-
-        userPoint.addPoints(amount);
-        userPointRepository.save(userPoint);
+        // 2. DB 트랜잭션: UserPoint 업데이트 (원자적 증가 - 같은 사용자의 동시 적립도 충돌 없이 모두 반영)
+        userPointRepository.addPoints(userId, amount);
+        long totalAccumulatedPoints = userPointRepository.findTotalAccumulatedPoints(userId).orElse((long) amount);
 
         // 3. PointHistory 저장
         String description = generateDescription(type, amount);
@@ -87,15 +98,115 @@ public class PointService {
         );
         pointHistoryRepository.save(history);
 
-        // 4. Redis Leaderboard 업데이트
-        // 주간 랭킹에 추가
-        redisUtil.incrementScore("leaderboard:weekly", userId, amount);
-
-        // 학교별 랭킹은 실시간 합산으로 계산 (Redis 업데이트 제거)
+        // 4. 커밋 후 Redis Leaderboard 업데이트 (롤백된 적립이 랭킹에 남지 않도록)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 주간 랭킹에 추가
+                redisUtil.incrementScore("leaderboard:weekly", userId, amount);
+                // 누적 랭킹 갱신 (랭킹 대상 사용자만)
+                leaderboardService.updatePoints(user, totalAccumulatedPoints);
+                // 학교별 합계 갱신 (학교 정보가 전달되지 않으면 사용자의 현재 학교)
+                if (user != null) {
+                    schoolPointsService.addPoints(schoolName != null ? schoolName : user.getSchoolName(), amount);
+                }
+                meterRegistry.counter("points.earned", "type", type.name()).increment(amount);
+            }
+        });
 
         log.info("포인트 적립 완료 - userId: {}, type: {}, amount: {}", userId, type, amount);
     }
 
+    /**
+     * 포인트 적립 대기 이벤트(point_outbox) 일괄 적립
+     *
+     * 같은 사용자의 이벤트는 UserPoint 갱신 한 번으로 합치고, PointHistory는 이벤트마다 남겨 한 번에 INSERT한다.
+     * 이미 point_history에 남은 eventId는 건너뛰므로 커밋 후 재시도되어도 중복 적립되지 않는다.
+     * 랭킹 갱신(주간, 누적, 학교별)은 커밋 후 사용자·학교별로 한 번씩만 반영한다.
+     *
+     * @param events 적립 대기 이벤트 (처리 후 삭제)
+     * @return 적립한 이벤트 수 (중복, 시스템 계정 제외)
+     */
+    @Timed(value = "points.settle", description = "포인트 일괄 적립 처리 시간")
+    @Transactional
+    public int settleOutbox(List<PointOutbox> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 중복 이벤트 제외 (배치 안에서 중복 + 이미 적립된 이벤트)
+        Set<String> settled = new HashSet<>(pointHistoryRepository.findEventIdsByEventIdIn(
+                events.stream().map(PointOutbox::getEventId).collect(Collectors.toSet())));
+        List<PointOutbox> pending = new ArrayList<>();
+        for (PointOutbox event : events) {
+            if (settled.add(event.getEventId())) {
+                pending.add(event);
+            }
+        }
+
+        // 2. 사용자 조회 (시스템 계정은 포인트를 받지 않음)
+        List<String> userIds = pending.stream().map(PointOutbox::getUserId).distinct().collect(Collectors.toList());
+        Map<String, User> users = new HashMap<>();
+        for (User user : userRepository.findAllByEmailIn(userIds)) {
+            users.put(user.getEmail(), user);
+        }
+        pending.removeIf(event -> {
+            User user = users.get(event.getUserId());
+            return user != null && Boolean.TRUE.equals(user.getIsSystemAccount());
+        });
+
+        // 3. 사용자별로 합쳐서 UserPoint 갱신 (사용자당 원자적 UPDATE 한 번)
+        Map<String, Long> userAmounts = new LinkedHashMap<>();
+        Map<String, Long> schoolAmounts = new HashMap<>();
+        Map<PointType, Long> typeAmounts = new EnumMap<>(PointType.class);
+        List<PointHistory> histories = new ArrayList<>(pending.size());
+        for (PointOutbox event : pending) {
+            userAmounts.merge(event.getUserId(), (long) event.getAmount(), Long::sum);
+            typeAmounts.merge(event.getType(), (long) event.getAmount(), Long::sum);
+
+            // 학교 정보가 전달되지 않으면 사용자의 현재 학교
+            User user = users.get(event.getUserId());
+            String schoolName = event.getSchoolName() != null ? event.getSchoolName()
+                    : user != null ? user.getSchoolName() : null;
+            if (user != null && schoolName != null) {
+                schoolAmounts.merge(schoolName, (long) event.getAmount(), Long::sum);
+            }
+
+            histories.add(new PointHistory(
+                    event.getUserId(),
+                    event.getType(),
+                    event.getAmount(),
+                    generateDescription(event.getType(), event.getAmount()),
+                    event.getReferenceId(),
+                    event.getEventId()
+            ));
+        }
+        userAmounts.forEach(userPointRepository::addPoints);
+        Map<String, Long> totals = new HashMap<>();
+        for (UserPoint userPoint : userPointRepository.findAllByUserIdIn(new ArrayList<>(userAmounts.keySet()))) {
+            totals.put(userPoint.getUserId(), userPoint.getTotalAccumulatedPoints());
+        }
+
+        // 4. PointHistory 일괄 INSERT, 처리한 이벤트 삭제
+        pointHistoryRepository.saveAll(histories);
+        pointOutboxRepository.deleteAllInBatch(events);
+
+        // 5. 커밋 후 랭킹 갱신
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisUtil.incrementScores("leaderboard:weekly", userAmounts);
+                leaderboardService.updatePoints(users.values(), totals);
+                schoolPointsService.addPoints(schoolAmounts);
+                typeAmounts.forEach((type, amount) ->
+                        meterRegistry.counter("points.earned", "type", type.name()).increment(amount));
+            }
+        });
+
+        log.debug("포인트 일괄 적립 - 이벤트: {}, 적립: {}, 사용자: {}", events.size(), histories.size(), userAmounts.size());
+        return histories.size();
+    }
+
     /**
      * 리워드 교환
      *
@@ -128,11 +239,16 @@ public class PointService {
             }
 
             // 4. DB 업데이트
+            // 재고는 낙관적 락, 포인트는 잔액 조건부 차감 (조회 이후 들어온 적립을 덮어쓰지 않음)
             reward.decreaseStock();
-            userPoint.usePoints(reward.getCost());
-
             rewardRepository.save(reward);
-            userPointRepository.save(userPoint);
+
+            if (userPointRepository.deductPoints(userId, reward.getCost()) == 0) {
+                throw new BadRequestException("포인트가 부족합니다.");
+            }
+
+            // 리워드 목록의 재고 표시 갱신 (커밋 후 모든 서버에서 무효화)
+            twoTierCache.evict(RewardService.LIST_CACHE, RewardService.LIST_CACHE_KEY);
 
             // 5. PointHistory 저장 (음수로 기록)
             PointHistory history = new PointHistory(
@@ -170,7 +286,7 @@ public class PointService {
      * @return 상위 20개 학교명 집합
      */
     public Set<String> getSchoolRanking() {
-        return redisUtil.getTopRankers("leaderboard:school", 0, 19);
+        return schoolPointsService.getTop(0, 20).keySet();
     }
 
     /**
@@ -188,79 +304,28 @@ public class PointService {
      *
      * @param userId 사용자 ID
      * @param type 포인트 타입
-     * @return 제한 내인 경우 true, 제한 초과인 경우 false
+     * @return 제한 내인 경우 true (카운터 차감), 제한 초과인 경우 false
      */
-    private boolean checkDailyLimit(String userId, PointType type) {
-        // VOTE와 CREATE 타입만 제한 적용
+    public boolean checkDailyLimit(String userId, PointType type) {
+        // VOTE와 CREATE 타입만 제한 적용 (출석은 dailyCheckIn에서 따로 확인)
         if (type != PointType.VOTE && type != PointType.CREATE) {
             return true;
         }
 
-        // Redis 키 생성: limit:{type}:{date}:{userId}
-        String limitKey = String.format("limit:%s:%s:%s",
-                type.name(),
-                LocalDate.now().toString(),
-                userId);
-
-        // 제한값
-        int limit = (type == PointType.VOTE) ? VOTE_DAILY_LIMIT : CREATE_DAILY_LIMIT;
-
-        // 먼저 현재 카운트 조회 (카운터 증가시키지 않음)
-        Long currentCount = redisUtil.getCounter(limitKey);
-        if (currentCount == null) {
-            currentCount = 0L;
-        }
-
-        // 제한 체크 - 이미 제한에 도달했으면 false 반환 (카운터 증가하지 않음)
-        if (currentCount >= limit) {
-            log.info("일일 제한 초과 - userId: {}, type: {}, count: {}/{}",
-                    userId, type, currentCount, limit);
+        boolean allowed;
+        try {
+            allowed = dailyLimitService.tryConsume(type, userId);
+        } catch (Exception e) {
+            // 제한을 확인할 수 없으면 포인트만 지급하지 않음 (투표 생성 등 본 요청은 계속 진행)
+            log.error("일일 제한 확인 실패 - userId: {}, type: {}", userId, type, e);
             return false;
         }
 
-        // 제한 내라면 카운터 증가
-        Long newCount = redisUtil.incrementCounterWithLimit(limitKey, TTL_24_HOURS);
-
-        log.debug("일일 제한 체크 통과 - userId: {}, type: {}, count: {}/{}",
-                userId, type, newCount, limit);
-        return true;
-    }
-
-    /**
-     * 일일 남은 횟수 조회
-     *
-     * @param userId 사용자 ID
-     * @param type 포인트 타입 (VOTE 또는 CREATE)
-     * @return 남은 횟수 (제한 - 현재 사용량)
-     */
-    public int getRemainingCount(String userId, PointType type) {
-        // VOTE와 CREATE 타입만 제한 적용
-        if (type != PointType.VOTE && type != PointType.CREATE) {
-            return -1; // 제한 없음
-        }
-
-        // Redis 키 생성: limit:{type}:{date}:{userId}
-        String limitKey = String.format("limit:%s:%s:%s",
-                type.name(),
-                LocalDate.now().toString(),
-                userId);
-
-        // 현재 카운트 조회
-        Long currentCount = redisUtil.getCounter(limitKey);
-        if (currentCount == null) {
-            currentCount = 0L;
+        if (!allowed) {
+            meterRegistry.counter("points.daily_limit.rejected", "type", type.name()).increment();
+            log.info("일일 제한 초과 - userId: {}, type: {}", userId, type);
         }
-
-        // 제한값
-        int limit = (type == PointType.VOTE) ? VOTE_DAILY_LIMIT : CREATE_DAILY_LIMIT;
-
-        // 남은 횟수 계산
-        int remaining = Math.max(0, limit - currentCount.intValue());
-
-        log.debug("남은 횟수 조회 - userId: {}, type: {}, remaining: {}/{}",
-                userId, type, remaining, limit);
-
-        return remaining;
+        return allowed;
     }
 
     /**
@@ -270,14 +335,13 @@ public class PointService {
      * @return DailyLimitResponse (voteRemaining, createRemaining, voteLimit, createLimit)
      */
     public com.picknic.backend.dto.point.DailyLimitResponse getDailyLimit(String userId) {
-        int voteRemaining = getRemainingCount(userId, PointType.VOTE);
-        int createRemaining = getRemainingCount(userId, PointType.CREATE);
+        Map<PointType, Integer> remaining = dailyLimitService.getRemaining(userId);
 
         return com.picknic.backend.dto.point.DailyLimitResponse.builder()
-                .voteRemaining(voteRemaining)
-                .createRemaining(createRemaining)
-                .voteLimit(VOTE_DAILY_LIMIT)
-                .createLimit(CREATE_DAILY_LIMIT)
+                .voteRemaining(remaining.get(PointType.VOTE))
+                .createRemaining(remaining.get(PointType.CREATE))
+                .voteLimit(DailyLimitService.VOTE_DAILY_LIMIT)
+                .createLimit(DailyLimitService.CREATE_DAILY_LIMIT)
                 .build();
     }
 
@@ -294,15 +358,8 @@ public class PointService {
     public DailyCheckInResponse dailyCheckIn(String userId) {
         log.info("출석 체크 요청 - userId: {}", userId);
 
-        // 1. Redis Key 생성: limit:ATTENDANCE:{date}:{userId}
-        String limitKey = String.format("limit:ATTENDANCE:%s:%s",
-                LocalDate.now().toString(),
-                userId);
-
-        // 2. 이미 출석 체크했는지 확인
-        Long currentCount = redisUtil.incrementCounterWithLimit(limitKey, TTL_24_HOURS);
-
-        if (currentCount != null && currentCount > 1) {
+        // 1~2. 이미 출석 체크했는지 확인 (일일 제한 1회)
+        if (!dailyLimitService.tryConsume(PointType.ATTENDANCE, userId)) {
             throw new BadRequestException("오늘 이미 출석 체크를 완료했습니다.");
         }
 
@@ -6,14 +6,20 @@ import com.picknic.backend.entity.User;
 import com.picknic.backend.repository.UserPointRepository;
 import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.util.RedisUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -28,43 +34,54 @@ public class RankingService {
     private final UserRepository userRepository;
     private final RedisUtil redisUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final LeaderboardService leaderboardService;
+    private final SchoolPointsService schoolPointsService;
 
     /**
      * 개인 랭킹 조회 (Top N + 내 랭킹)
      *
      * API Spec: Section 4.1 - GET /rankings/personal
      *
-     * DB 기반으로 모든 사용자를 조회하여 0포인트 사용자도 포함
+     * 누적 포인트 리더보드(Redis Sorted Set)에서 조회하며, 0포인트 사용자도 포함
      *
      * @param userId 현재 사용자 ID
      * @param limit 조회할 랭커 수 (default: 20)
      * @param offset 시작 위치 (default: 0)
      * @return PersonalRankingResponse
      */
+    @Timed(value = "ranking.query", extraTags = {"type", "personal"})
     @Transactional(readOnly = true)
     public PersonalRankingResponse getPersonalRanking(String userId, int limit, int offset) {
         log.info("개인 랭킹 조회 요청 - userId: {}, limit: {}, offset: {}", userId, limit, offset);
 
-        // 1. 모든 사용자 정렬된 리스트 조회
-        List<UserWithPoints> userWithPointsList = getAllUsersSortedByPoints();
-
-        // 2. RankerDto 생성 (순위 할당)
-        List<RankerDto> allRankers = new ArrayList<>();
-        for (int i = 0; i < userWithPointsList.size(); i++) {
-            UserWithPoints user = userWithPointsList.get(i);
-            allRankers.add(RankerDto.builder()
-                    .userId(user.userId)
-                    .username(user.username)
-                    .points(user.points)
-                    .rank(i + 1)
-                    .build());
+        // 1. 리더보드에서 offset부터 limit명 + 내 순위를 파이프라인 한 번으로 조회
+        //    (포인트 내림차순 = 음수 점수 오름차순, 동점자는 userId 오름차순)
+        List<Object> results = redisUtil.pipeline(ops -> {
+            ops.rank(LeaderboardService.LEADERBOARD_KEY, userId);
+            if (limit > 0) {
+                ops.rangeWithScores(LeaderboardService.LEADERBOARD_KEY, offset, offset + limit - 1);
+            }
+        });
+        Long myRankValue = toRank(result(results, 0));
+        Map<String, Long> top = toPoints(result(results, 1));
+
+        // 2. 랭커 닉네임 조회 (조회한 랭커만)
+        Map<String, String> nicknames = new HashMap<>();
+        for (User user : userRepository.findAllByEmailIn(new ArrayList<>(top.keySet()))) {
+            nicknames.put(user.getEmail(), user.getNickname());
         }
 
-        // 3. offset과 limit에 맞게 슬라이싱
-        List<RankerDto> topRankers = allRankers.stream()
-                .skip(offset)
-                .limit(limit)
-                .toList();
+        // 3. RankerDto 생성 (순위 할당)
+        List<RankerDto> topRankers = new ArrayList<>();
+        int rank = offset + 1;
+        for (Map.Entry<String, Long> entry : top.entrySet()) {
+            topRankers.add(RankerDto.builder()
+                    .userId(entry.getKey())
+                    .username(nicknames.get(entry.getKey()))
+                    .points(entry.getValue())
+                    .rank(rank++)
+                    .build());
+        }
 
         // 4. 내 랭킹 정보 조회
         UserPoint myUserPoint = userPointRepository.findByUserId(userId)
@@ -74,17 +91,8 @@ public class RankingService {
                 .map(User::getNickname)
                 .orElse("User_" + userId);
 
-        // 내 순위 찾기
-        Long myActualRank = null;
-        for (int i = 0; i < allRankers.size(); i++) {
-            if (allRankers.get(i).getUserId().equals(userId)) {
-                myActualRank = (long) (i + 1);
-                break;
-            }
-        }
-
         MyRankDto myRank = MyRankDto.builder()
-                .rank(myActualRank)
+                .rank(myRankValue)
                 .points(myUserPoint.getTotalAccumulatedPoints())
                 .username(myUsername)
                 .build();
@@ -102,68 +110,19 @@ public class RankingService {
 
     /**
      * 특정 사용자의 랭킹 조회
-     * 
+     *
      * @param userId 사용자 ID
      * @return 랭킹 (1-based), 없으면 null
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "ranking.query", extraTags = {"type", "user_rank"})
     public Long getUserRank(String userId) {
-        List<UserWithPoints> sortedUsers = getAllUsersSortedByPoints();
-        for (int i = 0; i < sortedUsers.size(); i++) {
-            if (sortedUsers.get(i).userId.equals(userId)) {
-                return (long) (i + 1);
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 모든 사용자를 포인트 순으로 정렬하여 조회 (동점자 처리 포함)
-     */
-    private List<UserWithPoints> getAllUsersSortedByPoints() {
-        // 1. DB에서 유효한 모든 사용자 조회 (학교가 있고, 시스템 계정이 아닌)
-        List<User> allValidUsers = userRepository.findAll().stream()
-                .filter(user -> !user.getIsSystemAccount())
-                .filter(user -> user.getSchoolName() != null && !user.getSchoolName().trim().isEmpty())
-                .toList();
-
-        // 2. 각 사용자의 UserPoint 조회하여 Map 생성
-        List<String> userIds = allValidUsers.stream()
-                .map(User::getEmail)
-                .toList();
-
-        List<UserPoint> userPoints = userPointRepository.findAllByUserIdIn(userIds);
-        java.util.Map<String, UserPoint> userPointMap = userPoints.stream()
-                .collect(java.util.stream.Collectors.toMap(UserPoint::getUserId, up -> up));
-
-        // 3. User와 UserPoint를 결합
-        List<UserWithPoints> userWithPointsList = new ArrayList<>();
-
-        for (User user : allValidUsers) {
-            UserPoint userPoint = userPointMap.getOrDefault(user.getEmail(), new UserPoint(user.getEmail()));
-            userWithPointsList.add(new UserWithPoints(
-                    user.getEmail(),
-                    user.getNickname(),
-                    userPoint.getTotalAccumulatedPoints()
-            ));
-        }
-
-        // 포인트 기준으로 정렬 (내림차순), 동점자는 userId 오름차순
-        userWithPointsList.sort((a, b) -> {
-            int pointCompare = Long.compare(b.points, a.points);
-            if (pointCompare != 0) {
-                return pointCompare;
-            }
-            return a.userId.compareTo(b.userId);
-        });
-
-        return userWithPointsList;
+        return leaderboardService.getRank(userId);
     }
 
     /**
      * 학교별 랭킹 조회 (Top N + 내 학교 랭킹)
      *
-     * DB에서 실시간으로 학교 소속 학생들의 포인트를 합산하여 계산
+     * 포인트 적립 시 갱신되는 학교별 합계(Redis Sorted Set)와 소속 학생 수에서 조회
      *
      * API Spec: Section 4.2 - GET /rankings/schools
      *
@@ -172,58 +131,47 @@ public class RankingService {
      * @param offset 시작 위치 (default: 0)
      * @return SchoolRankingResponse
      */
-    @Transactional(readOnly = true)
+    @Timed(value = "ranking.query", extraTags = {"type", "school"})
     public SchoolRankingResponse getSchoolRanking(String userSchool, int limit, int offset) {
         log.info("학교별 랭킹 조회 요청 - userSchool: {}, limit: {}, offset: {}", userSchool, limit, offset);
 
-        // 1. DB에서 학교별 포인트 합산 조회 (이미 정렬됨)
-        List<Object[]> allSchoolRankings = userPointRepository.findSchoolPointsRanking();
-
-        // 2. offset과 limit에 맞게 슬라이싱
-        List<SchoolRankDto> topSchools = new ArrayList<>();
-        int rank = 1; // 전체 랭킹에서의 순위
-
-        for (int i = 0; i < allSchoolRankings.size(); i++) {
-            Object[] row = allSchoolRankings.get(i);
-            String schoolName = (String) row[0];
-            Long totalPoints = ((Number) row[1]).longValue();
-
-            // offset과 limit에 해당하는 학교만 추가
-            if (i >= offset && i < offset + limit) {
-                SchoolRankDto schoolRankDto = SchoolRankDto.builder()
-                        .schoolName(schoolName)
-                        .totalPoints(totalPoints)
-                        .rank(rank)
-                        .memberCount(null) // 선택 사항 (향후 구현)
-                        .build();
-
-                topSchools.add(schoolRankDto);
+        // 1. offset부터 limit개 학교 + 내 학교 순위/합계를 파이프라인 한 번으로 조회
+        //    (합계 내림차순 = 음수 점수 오름차순, 동점은 학교명 오름차순)
+        boolean hasSchool = userSchool != null && !userSchool.trim().isEmpty();
+        List<Object> results = redisUtil.pipeline(ops -> {
+            if (hasSchool) {
+                ops.rank(SchoolPointsService.POINTS_KEY, userSchool);
+                ops.score(SchoolPointsService.POINTS_KEY, userSchool);
             }
+            if (limit > 0) {
+                ops.rangeWithScores(SchoolPointsService.POINTS_KEY, offset, offset + limit - 1);
+            }
+        });
+        Map<String, Long> top = toPoints(result(results, hasSchool ? 2 : 0));
+        // 소속 학생 수는 조회한 학교 목록이 있어야 하므로 HMGET 한 번 더
+        Map<String, Integer> memberCounts = schoolPointsService.getMemberCounts(new ArrayList<>(top.keySet()));
 
-            rank++;
+        // 2. SchoolRankDto 생성 (순위 할당)
+        List<SchoolRankDto> topSchools = new ArrayList<>();
+        int rank = offset + 1;
+        for (Map.Entry<String, Long> entry : top.entrySet()) {
+            topSchools.add(SchoolRankDto.builder()
+                    .schoolName(entry.getKey())
+                    .totalPoints(entry.getValue())
+                    .rank(rank++)
+                    .memberCount(memberCounts.get(entry.getKey()))
+                    .build());
         }
 
         // 3. 내 학교 랭킹 정보 조회
         MySchoolDto mySchool = null;
 
-        if (userSchool != null && !userSchool.trim().isEmpty()) {
-            // 내 학교의 총 포인트 조회
-            Long totalPoints = userPointRepository.findTotalPointsBySchool(userSchool);
-
-            // 내 학교의 순위 찾기
-            Long myRank = null;
-            for (int i = 0; i < allSchoolRankings.size(); i++) {
-                String schoolName = (String) allSchoolRankings.get(i)[0];
-                if (schoolName.equals(userSchool)) {
-                    myRank = (long) (i + 1); // 1-based 순위
-                    break;
-                }
-            }
-
+        if (hasSchool) {
+            Object score = result(results, 1);
             mySchool = MySchoolDto.builder()
                     .schoolName(userSchool)
-                    .rank(myRank)
-                    .totalPoints(totalPoints)
+                    .rank(toRank(result(results, 0)))
+                    .totalPoints(score instanceof Number number ? -number.longValue() : 0L)
                     .build();
         }
 
@@ -238,18 +186,26 @@ public class RankingService {
         return response;
     }
 
-    /**
-     * 사용자와 포인트를 결합한 헬퍼 클래스 (정렬용)
-     */
-    private static class UserWithPoints {
-        final String userId;
-        final String username;
-        final long points;
-
-        UserWithPoints(String userId, String username, long points) {
-            this.userId = userId;
-            this.username = username;
-            this.points = points;
+    // 파이프라인 결과 (Redis 실패로 결과가 비어 있으면 null)
+    private static Object result(List<Object> results, int index) {
+        return index < results.size() ? results.get(index) : null;
+    }
+
+    // ZRANK 결과 → 1-based 순위 (없으면 null)
+    private static Long toRank(Object rank) {
+        return rank instanceof Number number ? number.longValue() + 1 : null;
+    }
+
+    // ZRANGE WITHSCORES 결과 → 멤버 → 포인트 (점수는 음수로 저장되어 있음, 순위 순서 유지)
+    private static Map<String, Long> toPoints(Object tuples) {
+        Map<String, Long> points = new LinkedHashMap<>();
+        if (tuples instanceof Collection<?> collection) {
+            for (Object tuple : collection) {
+                if (tuple instanceof ZSetOperations.TypedTuple<?> typed && typed.getScore() != null) {
+                    points.put(String.valueOf(typed.getValue()), -typed.getScore().longValue());
+                }
+            }
         }
+        return points;
     }
 }
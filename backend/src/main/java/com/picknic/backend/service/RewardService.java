@@ -4,10 +4,10 @@ import com.picknic.backend.domain.Reward;
 import com.picknic.backend.dto.reward.RewardDto;
 import com.picknic.backend.dto.reward.RewardListResponse;
 import com.picknic.backend.repository.RewardRepository;
+import com.picknic.backend.util.TwoTierCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -22,15 +22,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RewardService {
 
+    // 리워드 목록 캐시 (재고가 바뀌는 교환, 초기 데이터 재생성 시 무효화)
+    public static final String LIST_CACHE = "reward-list";
+    public static final String LIST_CACHE_KEY = "all";
+
     private final RewardRepository rewardRepository;
+    private final TwoTierCache twoTierCache;
 
     /**
      * 사용 가능한 모든 리워드 목록 조회
      *
      * @return RewardListResponse 리워드 목록
      */
-    @Transactional(readOnly = true)
     public RewardListResponse getAllRewards() {
+        return twoTierCache.get(LIST_CACHE, LIST_CACHE_KEY, RewardListResponse.class, this::loadAllRewards);
+    }
+
+    private RewardListResponse loadAllRewards() {
         log.info("리워드 목록 조회 시작");
 
         // DB에서 모든 리워드 조회
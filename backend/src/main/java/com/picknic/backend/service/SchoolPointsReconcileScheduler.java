@@ -0,0 +1,33 @@
+package com.picknic.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchoolPointsReconcileScheduler {
+
+    private final SchoolPointsService schoolPointsService;
+
+    /**
+     * 매일 새벽 4시 30분에 학교별 포인트 합계와 학생 수를 DB 기준으로 점검
+     * 증분 갱신 실패, 롤백된 적립 등으로 생긴 오차를 보정하고 로그로 남김
+     */
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Async("nightlyJobExecutor")
+    public void scheduledReconcile() {
+        try {
+            int drifted = schoolPointsService.reconcile();
+            if (drifted < 0) {
+                log.info("다른 서버에서 학교 포인트 점검 중 - 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("학교 포인트 점검 실패: {}", e.getMessage(), e);
+            // Don't throw - let scheduler continue running
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.UserPoint;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.repository.UserPointRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 학교별 누적 포인트 (Redis Sorted Set: leaderboard:school-points, Hash: leaderboard:school-members)
+ *
+ * 학교 랭킹을 조회할 때마다 user_points와 users를 조인해 합산하는 대신
+ * 포인트 적립, 회원가입, 학교 변경 시점에 학교별 합계와 소속 학생 수를 증분으로 갱신한다.
+ *
+ * 점수는 누적 랭킹(LeaderboardService)과 같이 -합계로 저장하므로
+ * 동점인 학교는 학교명 오름차순으로 정렬된다.
+ *
+ * 증분 갱신이 실패하거나 트랜잭션이 롤백되면 오차가 생길 수 있으므로
+ * SchoolPointsReconcileScheduler가 매일 DB 기준으로 점검하고 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchoolPointsService {
+
+    static final String POINTS_KEY = "leaderboard:school-points";
+    static final String MEMBERS_KEY = "leaderboard:school-members";
+    private static final String RECONCILE_LOCK_KEY = "leaderboard:school-points:reconcile-lock";
+
+    // 소속 학생 수와 합계를 함께 조정하고, 학생이 없어진 학교는 랭킹에서 제거
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local members = redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2]) " +
+            "if members <= 0 then " +
+            "  redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "  return 0 " +
+            "end " +
+            "redis.call('ZINCRBY', KEYS[1], ARGV[3], ARGV[1]) " +
+            "return members",
+            Long.class);
+
+    // 점검 보정 - 현재 값이 점검 때 읽은 값(ARGV[2] 점수, ARGV[3] 학생 수, 없었으면 '')과 같을 때만 DB 값으로 교체
+    // 그 사이 적립이 들어왔으면 건드리지 않고 -1 (다음 점검에서 다시 비교)
+    // ARGV[4]: DB 합계, ARGV[5]: DB 학생 수
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+            "local members = redis.call('HGET', KEYS[2], ARGV[1]) " +
+            "if (score and tonumber(score) or '') ~= (ARGV[2] ~= '' and tonumber(ARGV[2]) or '') " +
+            "   or (members and tonumber(members) or '') ~= (ARGV[3] ~= '' and tonumber(ARGV[3]) or '') then " +
+            "  return -1 " +
+            "end " +
+            "if tonumber(ARGV[5]) <= 0 then " +
+            "  redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "  redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], -tonumber(ARGV[4]), ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final UserPointRepository userPointRepository;
+
+    /**
+     * 포인트 적립 시 학교 합계 증가
+     *
+     * @param schoolName 학교명 (비어 있으면 무시)
+     * @param amount 적립 포인트
+     */
+    public void addPoints(String schoolName, long amount) {
+        if (isBlank(schoolName) || amount == 0) {
+            return;
+        }
+        redisUtil.incrementScore(POINTS_KEY, schoolName, -amount);
+    }
+
+    /**
+     * 여러 학교 합계 한 번에 증가 (포인트 일괄 적립, 파이프라인 한 번)
+     *
+     * @param amounts 학교명 → 적립 포인트 (비어 있는 학교명은 무시)
+     */
+    public void addPoints(Map<String, Long> amounts) {
+        Map<String, Long> deltas = new HashMap<>();
+        amounts.forEach((schoolName, amount) -> {
+            if (!isBlank(schoolName) && amount != 0) {
+                deltas.put(schoolName, -amount);
+            }
+        });
+        redisUtil.incrementScores(POINTS_KEY, deltas);
+    }
+
+    /**
+     * 신규 사용자를 학교에 등록 (회원가입 등)
+     *
+     * @param user 사용자 (랭킹 대상이 아니면 무시)
+     */
+    public void join(User user) {
+        if (!LeaderboardService.isEligible(user)) {
+            return;
+        }
+        adjust(user.getSchoolName(), 1, findPoints(user.getEmail()));
+    }
+
+    /**
+     * 학교 정보 변경 반영 (프로필 완성 등)
+     *
+     * 이전 학교에서 학생 수와 누적 포인트를 빼고 새 학교에 더한다.
+     *
+     * @param user 변경 후 사용자
+     * @param previousSchoolName 변경 전 학교명 (nullable)
+     */
+    public void changeSchool(User user, String previousSchoolName) {
+        if (user == null || Boolean.TRUE.equals(user.getIsSystemAccount())
+                || Objects.equals(previousSchoolName, user.getSchoolName())) {
+            return;
+        }
+
+        long points = findPoints(user.getEmail());
+        if (!isBlank(previousSchoolName)) {
+            adjust(previousSchoolName, -1, -points);
+        }
+        if (!isBlank(user.getSchoolName())) {
+            adjust(user.getSchoolName(), 1, points);
+        }
+    }
+
+    /**
+     * 사용자 삭제 시 학교에서 제외
+     *
+     * @param user 삭제된 사용자
+     */
+    public void leave(User user) {
+        if (!LeaderboardService.isEligible(user)) {
+            return;
+        }
+        adjust(user.getSchoolName(), -1, -findPoints(user.getEmail()));
+    }
+
+    /**
+     * 상위 학교 조회 - O(log n + limit)
+     *
+     * @param offset 시작 위치 (0-based)
+     * @param limit 조회할 수
+     * @return 학교명 → 누적 포인트 합계 (순위 순서)
+     */
+    public Map<String, Long> getTop(int offset, int limit) {
+        Map<String, Long> top = new LinkedHashMap<>();
+        if (limit <= 0) {
+            return top;
+        }
+        redisUtil.getRangeWithScores(POINTS_KEY, offset, offset + limit - 1)
+                .forEach((schoolName, score) -> top.put(schoolName, -score.longValue()));
+        return top;
+    }
+
+    /**
+     * 학교별 소속 학생 수 조회 (HMGET 한 번)
+     *
+     * @param schoolNames 학교명 목록
+     * @return 학교명 → 학생 수 (값이 없는 학교는 제외)
+     */
+    public Map<String, Integer> getMemberCounts(List<String> schoolNames) {
+        Map<String, Integer> counts = new HashMap<>();
+        List<String> values = redisUtil.getHashValues(MEMBERS_KEY, schoolNames);
+        for (int i = 0; i < values.size(); i++) {
+            if (values.get(i) != null) {
+                counts.put(schoolNames.get(i), Integer.valueOf(values.get(i)));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 학교 랭킹이 존재하는지
+     */
+    public boolean exists() {
+        return redisUtil.hasKey(POINTS_KEY);
+    }
+
+    /**
+     * DB 기준으로 학교별 합계와 학생 수를 점검하고 보정
+     *
+     * DB 합계를 읽기 전후로 Redis 값을 한 번씩 읽어 그 사이 바뀐 학교(점검 중 적립이 들어온 학교)는 이번에 건너뛴다.
+     * 보정은 RECONCILE_SCRIPT가 현재 값이 두 번째로 읽은 값과 같을 때만 적용하므로
+     * 읽은 뒤 들어온 적립도 덮어쓰지 않는다. 건너뛴 학교는 다음 점검에서 다시 비교한다.
+     *
+     * @return 보정한 학교 수 (다른 서버가 점검 중이면 -1)
+     */
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(RECONCILE_LOCK_KEY, lockToken, Duration.ofMinutes(5))) {
+            return -1;
+        }
+
+        try {
+            Map<String, Double> pointsBefore = redisUtil.getRangeWithScores(POINTS_KEY, 0, -1);
+            Map<String, String> membersBefore = redisUtil.getHashEntries(MEMBERS_KEY);
+
+            Map<String, long[]> expected = new HashMap<>();
+            for (Object[] row : userPointRepository.findSchoolTotals()) {
+                expected.put((String) row[0], new long[]{
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue()
+                });
+            }
+
+            Map<String, Double> currentPoints = redisUtil.getRangeWithScores(POINTS_KEY, 0, -1);
+            Map<String, String> currentMembers = redisUtil.getHashEntries(MEMBERS_KEY);
+            // 처음 구축하는 경우에는 모든 학교가 차이로 잡히므로 학교별 로그를 남기지 않음
+            boolean initialBuild = currentPoints.isEmpty() && currentMembers.isEmpty();
+
+            Set<String> schoolNames = new HashSet<>(expected.keySet());
+            schoolNames.addAll(currentPoints.keySet());
+            schoolNames.addAll(currentMembers.keySet());
+
+            int drifted = 0;
+            int skipped = 0;
+            long pointDrift = 0;
+            long memberDrift = 0;
+
+            for (String schoolName : schoolNames) {
+                Double score = currentPoints.get(schoolName);
+                String members = currentMembers.get(schoolName);
+                if (!Objects.equals(score, pointsBefore.get(schoolName))
+                        || !Objects.equals(members, membersBefore.get(schoolName))) {
+                    // DB 합계를 읽는 동안 적립이 들어와 DB 값에 포함됐는지 알 수 없음
+                    skipped++;
+                    continue;
+                }
+
+                long[] totals = expected.getOrDefault(schoolName, new long[]{0L, 0L});
+                long actualPoints = score != null ? -score.longValue() : 0L;
+                long actualMembers = members != null ? Long.parseLong(members) : 0L;
+
+                long pointsDelta = totals[0] - actualPoints;
+                long membersDelta = totals[1] - actualMembers;
+                boolean orphaned = totals[1] == 0 && score != null;
+                if (pointsDelta == 0 && membersDelta == 0 && !orphaned) {
+                    continue;
+                }
+
+                if (!correct(schoolName, score, members, totals)) {
+                    skipped++;
+                    continue;
+                }
+                if (!initialBuild) {
+                    log.warn("학교 포인트 오차 보정 - school: {}, points: {} -> {}, members: {} -> {}",
+                            schoolName, actualPoints, totals[0], actualMembers, totals[1]);
+                }
+                drifted++;
+                pointDrift += Math.abs(pointsDelta);
+                memberDrift += Math.abs(membersDelta);
+            }
+
+            log.info("학교 포인트 점검 완료 - 학교 수: {}, 보정: {}, 건너뜀(점검 중 변경): {}, 포인트 오차 합: {}, 학생 수 오차 합: {}",
+                    expected.size(), drifted, skipped, pointDrift, memberDrift);
+            return drifted;
+        } finally {
+            redisUtil.releaseLock(RECONCILE_LOCK_KEY, lockToken);
+        }
+    }
+
+    // 읽은 값 그대로일 때만 DB 값으로 교체 (그 사이 바뀌었으면 false)
+    private boolean correct(String schoolName, Double observedScore, String observedMembers, long[] totals) {
+        try {
+            Long result = redisUtil.executeScript(RECONCILE_SCRIPT, List.of(POINTS_KEY, MEMBERS_KEY),
+                    schoolName,
+                    observedScore != null ? String.valueOf(observedScore.longValue()) : "",
+                    observedMembers != null ? observedMembers : "",
+                    String.valueOf(totals[0]),
+                    String.valueOf(totals[1]));
+            return result != null && result > 0;
+        } catch (Exception e) {
+            log.error("학교 포인트 보정 실패 - school: {}", schoolName, e);
+            return false;
+        }
+    }
+
+    private void adjust(String schoolName, long membersDelta, long pointsDelta) {
+        try {
+            redisUtil.executeScript(ADJUST_SCRIPT, List.of(POINTS_KEY, MEMBERS_KEY),
+                    schoolName, String.valueOf(membersDelta), String.valueOf(-pointsDelta));
+        } catch (Exception e) {
+            // 랭킹 업데이트 실패는 핵심 기능이 아니므로 예외를 전파하지 않음 (정합성 점검으로 복구)
+            log.error("학교 포인트 갱신 실패 - school: {}", schoolName, e);
+        }
+    }
+
+    private long findPoints(String userId) {
+        return userPointRepository.findByUserId(userId)
+                .map(UserPoint::getTotalAccumulatedPoints)
+                .orElse(0L);
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
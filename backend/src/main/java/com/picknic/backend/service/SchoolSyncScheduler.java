@@ -2,6 +2,7 @@ package com.picknic.backend.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -21,6 +22,7 @@ public class SchoolSyncScheduler {
      * "0 0 3 * * *" = 매일 3시 0분 0초
      */
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    @Async("nightlyJobExecutor")
     public void scheduledSchoolSync() {
         log.info("========================================");
         log.info("Starting scheduled school sync at {}", LocalDateTime.now());
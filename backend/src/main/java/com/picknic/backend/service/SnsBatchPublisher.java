@@ -0,0 +1,287 @@
+package com.picknic.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.SnsAsyncClientBuilder;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SNS 배치 발행기 (SnsAsyncClient + PublishBatch, aws.sns.publisher=sns)
+ *
+ * publish()는 메시지를 서버 로컬 대기열(buffer-size)에 넣기만 하고 바로 반환한다.
+ * SnsPublishScheduler가 linger-ms마다 대기열을 비우면서 최대 10건씩 PublishBatch 한 번으로 보낸다.
+ * (동시에 보내는 요청은 max-in-flight개까지, 나머지는 다음 주기에)
+ *
+ * - 대기열이 가득 차면 메시지를 버리고 sns.publish.messages{result=overflow} 증가
+ * - 요청 실패, 재시도 가능한 항목 실패(서버 측 오류, 스로틀링)는 지터를 준 지수 백오프 후 재시도
+ * - max-attempts번 실패하거나 요청 자체가 잘못된 항목(senderFault)은 버림 (result=failed)
+ *
+ * aws.sns.endpoint를 설정하면 해당 주소로 보냄 (로컬 SNS 대체 서버 등)
+ *
+ * 메트릭: sns.publish.messages (result: sent, retried, failed, overflow), sns.publish.buffer
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "aws.sns.publisher", havingValue = "sns", matchIfMissing = true)
+public class SnsBatchPublisher implements SnsPublisher {
+
+    // PublishBatch 한 번에 보낼 수 있는 최대 항목 수 (SNS 제한)
+    static final int MAX_BATCH_SIZE = 10;
+
+    @Value("${aws.sns.topic-arn}")
+    private String topicArn;
+
+    @Value("${aws.sns.region}")
+    private String region;
+
+    @Value("${aws.sns.access-key}")
+    private String accessKey;
+
+    @Value("${aws.sns.secret-key}")
+    private String secretKey;
+
+    @Value("${aws.sns.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.sns.max-in-flight:4}")
+    private int maxInFlight;
+
+    @Value("${aws.sns.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${aws.sns.retry-base-delay-ms:200}")
+    private long retryBaseDelayMs;
+
+    @Value("${aws.sns.retry-max-delay-ms:10000}")
+    private long retryMaxDelayMs;
+
+    @Value("${aws.sns.shutdown-timeout-ms:5000}")
+    private long shutdownTimeoutMs;
+
+    private final BlockingQueue<PendingMessage> buffer;
+    private final DelayQueue<PendingMessage> retries = new DelayQueue<>();
+    private Semaphore inFlight;
+    private SnsAsyncClient snsClient;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter overflow;
+
+    public SnsBatchPublisher(MeterRegistry meterRegistry,
+                             @Value("${aws.sns.buffer-size:1000}") int bufferSize) {
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.sent = meterRegistry.counter("sns.publish.messages", "result", "sent");
+        this.retried = meterRegistry.counter("sns.publish.messages", "result", "retried");
+        this.failed = meterRegistry.counter("sns.publish.messages", "result", "failed");
+        this.overflow = meterRegistry.counter("sns.publish.messages", "result", "overflow");
+        Gauge.builder("sns.publish.buffer", this, publisher -> publisher.buffer.size() + publisher.retries.size())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.inFlight = new Semaphore(maxInFlight);
+
+        SnsAsyncClientBuilder builder = SnsAsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider());
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        this.snsClient = builder.build();
+        log.info("SnsAsyncClient initialized for topic: {}{}", topicArn,
+                endpoint == null || endpoint.isBlank() ? "" : " (endpoint: " + endpoint + ")");
+    }
+
+    @Override
+    public boolean publish(String subject, String message) {
+        if (!buffer.offer(new PendingMessage(subject, message))) {
+            overflow.increment();
+            log.warn("SNS 발행 대기열이 가득 차 메시지를 버림 - subject: {}", subject);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 메시지를 배치로 전송 (SnsPublishScheduler)
+     * 재시도 시각이 된 메시지를 먼저 보내고, 동시 요청 수 제한에 걸리면 나머지는 다음 주기로 미룸
+     */
+    public void flush() {
+        while (!buffer.isEmpty() || retries.peek() != null && retries.peek().getDelay(TimeUnit.MILLISECONDS) <= 0) {
+            if (!inFlight.tryAcquire()) {
+                return;
+            }
+
+            List<PendingMessage> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            retries.drainTo(batch, MAX_BATCH_SIZE);
+            buffer.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            if (batch.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+            send(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 전 대기 중인 메시지 전송 (재시도 대기 중인 메시지는 기다리지 않음)
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        while (System.currentTimeMillis() < deadline && (!buffer.isEmpty() || inFlight.availablePermits() < maxInFlight)) {
+            flush();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int dropped = buffer.size() + retries.size();
+        if (dropped > 0) {
+            log.warn("SNS 발행기 종료 - 보내지 못한 메시지: {}", dropped);
+        }
+        snsClient.close();
+    }
+
+    private void send(List<PendingMessage> batch) {
+        List<PublishBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            PendingMessage message = batch.get(i);
+            entries.add(PublishBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .subject(message.subject)
+                    .message(message.message)
+                    .build());
+        }
+
+        snsClient.publishBatch(PublishBatchRequest.builder()
+                        .topicArn(topicArn)
+                        .publishBatchRequestEntries(entries)
+                        .build())
+                .whenComplete((response, error) -> {
+                    try {
+                        if (error != null) {
+                            handleRequestFailure(batch, error);
+                        } else {
+                            handleResponse(batch, response);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private void handleResponse(List<PendingMessage> batch, PublishBatchResponse response) {
+        sent.increment(response.successful().size());
+        for (BatchResultErrorEntry entry : response.failed()) {
+            PendingMessage message = batch.get(Integer.parseInt(entry.id()));
+            if (Boolean.TRUE.equals(entry.senderFault())) {
+                // 메시지 자체가 잘못됨 - 다시 보내도 실패
+                failed.increment();
+                log.error("SNS 메시지 발행 실패 (재시도 안 함) - subject: {}, code: {}, message: {}",
+                        message.subject, entry.code(), entry.message());
+            } else {
+                retry(message, entry.code());
+            }
+        }
+    }
+
+    private void handleRequestFailure(List<PendingMessage> batch, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (!isRetryable(cause)) {
+            failed.increment(batch.size());
+            log.error("SNS 배치 발행 실패 (재시도 안 함) - size: {}, error: {}", batch.size(), cause.getMessage());
+            return;
+        }
+        for (PendingMessage message : batch) {
+            retry(message, cause.getMessage());
+        }
+    }
+
+    private void retry(PendingMessage message, String reason) {
+        message.attempts++;
+        if (message.attempts >= maxAttempts) {
+            failed.increment();
+            log.error("SNS 메시지 발행 실패 ({}회 시도) - subject: {}, reason: {}", message.attempts, message.subject, reason);
+            return;
+        }
+
+        // 지수 백오프 + 전체 지터 (여러 서버가 같은 시각에 다시 몰리지 않도록)
+        long ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(message.attempts, 20));
+        message.retryAt = System.currentTimeMillis() + ThreadLocalRandom.current().nextLong(ceiling + 1);
+        retries.add(message);
+        retried.increment();
+        log.warn("SNS 메시지 발행 재시도 예정 - subject: {}, attempt: {}, reason: {}", message.subject, message.attempts, reason);
+    }
+
+    // 요청이 잘못된 경우(4xx, 스로틀링 제외)는 재시도해도 같은 결과
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof AwsServiceException serviceException) {
+            int status = serviceException.statusCode();
+            return status >= 500 || status == 429 || serviceException.isThrottlingException();
+        }
+        return true;
+    }
+
+    private AwsCredentialsProvider credentialsProvider() {
+        if (accessKey == null || accessKey.isBlank()) {
+            // 환경변수, 인스턴스 역할 등 기본 체인 사용
+            return DefaultCredentialsProvider.create();
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    private static class PendingMessage implements Delayed {
+
+        private final String subject;
+        private final String message;
+        private int attempts;
+        private volatile long retryAt;
+
+        PendingMessage(String subject, String message) {
+            this.subject = subject;
+            this.message = message;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(retryAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(retryAt, ((PendingMessage) other).retryAt);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.picknic.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "aws.sns.publisher", havingValue = "sns", matchIfMissing = true)
+public class SnsPublishScheduler {
+
+    private final SnsBatchPublisher snsBatchPublisher;
+
+    /**
+     * 대기 중인 SNS 메시지를 주기적으로 배치 전송
+     * (이 간격 동안 들어온 메시지가 최대 10건씩 한 요청으로 묶임)
+     */
+    @Scheduled(fixedDelayString = "${aws.sns.linger-ms:50}")
+    public void flush() {
+        try {
+            snsBatchPublisher.flush();
+        } catch (Exception e) {
+            log.error("SNS 배치 전송 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.picknic.backend.service;
+
+/**
+ * SNS 토픽 메시지 발행
+ *
+ * - SnsBatchPublisher: SnsAsyncClient + PublishBatch (aws.sns.publisher=sns, 기본)
+ * - InMemorySnsPublisher: 메모리에만 보관 (aws.sns.publisher=memory, 로컬 실행·테스트용)
+ */
+public interface SnsPublisher {
+
+    /**
+     * 메시지 발행 요청 (전송은 비동기, 호출 스레드를 막지 않음)
+     *
+     * @param subject 제목
+     * @param message 본문 (JSON)
+     * @return 발행 대기열에 들어갔으면 true, 대기열이 가득 차 버렸으면 false
+     */
+    boolean publish(String subject, String message);
+}
@@ -1,17 +1,9 @@
 package com.picknic.backend.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
-import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.PublishRequest;
-import software.amazon.awssdk.services.sns.model.PublishResponse;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -21,39 +13,19 @@ import java.util.Map;
 /**
  * AWS SNS를 통한 알림 발행 서비스
  * Hot 투표 알림을 AWS Lambda로 전송하여 모든 사용자에게 알림 전달
+ *
+ * 실제 전송은 SnsPublisher가 비동기로 모아서 처리 (SnsBatchPublisher, 로컬·테스트는 InMemorySnsPublisher)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SnsService {
 
-    @Value("${aws.sns.topic-arn}")
-    private String topicArn;
-
-    @Value("${aws.sns.region}")
-    private String region;
-
-    @Value("${aws.sns.access-key}")
-    private String accessKey;
-
-    @Value("${aws.sns.secret-key}")
-    private String secretKey;
-
-    private SnsClient snsClient;
+    private final SnsPublisher snsPublisher;
     private final ObjectMapper objectMapper;
 
-    @PostConstruct
-    public void init() {
-        AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKey, secretKey);
-        this.snsClient = SnsClient.builder()
-                .region(Region.of(region))
-                .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
-                .build();
-        log.info("SnsClient initialized for topic: {}", topicArn);
-    }
-
     /**
-     * Hot 투표 알림을 SNS로 발행
+     * Hot 투표 알림을 SNS로 발행 (대기열에 넣고 바로 반환)
      * Redis-style 에러 처리: 실패 시 로그만 남기고 예외를 던지지 않음 (fault-tolerant)
      *
      * @param voteId 투표 ID
@@ -72,17 +44,12 @@ public class SnsService {
 
             String messageJson = objectMapper.writeValueAsString(messageData);
 
-            // SNS 메시지 발행
-            PublishRequest publishRequest = PublishRequest.builder()
-                    .topicArn(topicArn)
-                    .message(messageJson)
-                    .subject("Hot Vote Notification")
-                    .build();
-
-            PublishResponse response = snsClient.publish(publishRequest);
-
-            log.info("Hot vote notification published successfully. VoteId: {}, MessageId: {}",
-                    voteId, response.messageId());
+            // SNS 메시지 발행 요청 (전송 결과는 SnsPublisher가 메트릭과 로그로 남김)
+            if (snsPublisher.publish("Hot Vote Notification", messageJson)) {
+                log.info("Hot vote notification queued. VoteId: {}", voteId);
+            } else {
+                log.error("Hot vote notification dropped (publish buffer full). VoteId: {}", voteId);
+            }
 
         } catch (Exception e) {
             // Redis-style 에러 처리: 로그만 남기고 예외를 던지지 않음
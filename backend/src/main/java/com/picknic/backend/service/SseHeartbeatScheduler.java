@@ -0,0 +1,26 @@
+package com.picknic.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SseHeartbeatScheduler {
+
+    private final NotificationStreamService notificationStreamService;
+    private final VoteLiveService voteLiveService;
+
+    /**
+     * 주기적으로 SSE 연결에 하트비트 전송
+     * (프록시·로드밸런서의 유휴 타임아웃보다 짧게, 보내기에 실패한 연결은 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:20000}",
+            initialDelayString = "${sse.heartbeat-interval-ms:20000}")
+    public void sendHeartbeats() {
+        notificationStreamService.heartbeat();
+        voteLiveService.heartbeat();
+    }
+}
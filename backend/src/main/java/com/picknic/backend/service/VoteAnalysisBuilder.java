@@ -0,0 +1,152 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.VoteOption;
+import com.picknic.backend.dto.vote.VoteAnalysisDto;
+import com.picknic.backend.dto.vote.VoteDemographics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 인구통계 카운터 → VoteAnalysisDto 변환
+ *
+ * 참여자 수와 무관하게 버킷(성별, 연령대, 관심사, 선택지) 수만큼만 계산함
+ * Redis/DB 접근이 없는 순수 계산이라 벤치마크에서 그대로 사용 가능
+ */
+public final class VoteAnalysisBuilder {
+
+    private static final String NO_DATA = "데이터 없음";
+
+    private VoteAnalysisBuilder() {
+    }
+
+    /**
+     * 분석 결과 생성
+     *
+     * @param demographics 인구통계 카운터
+     * @param options 투표 선택지
+     * @param totalVotes 전체 투표 수 (미반영 증분 포함)
+     * @param currentYear 나이 계산 기준 연도
+     * @return VoteAnalysisDto
+     */
+    public static VoteAnalysisDto build(VoteDemographics demographics, List<VoteOption> options,
+                                        int totalVotes, int currentYear) {
+        if (totalVotes == 0 && demographics.getParticipants() == 0) {
+            // 참여자가 없을 경우 기본 메시지 반환
+            return emptyAnalysis("아직 참여자가 없습니다. 첫 투표를 해보세요!");
+        }
+
+        long totalParticipants = demographics.getParticipants();
+        if (totalParticipants == 0) {
+            return emptyAnalysis("참여자 연령대 정보가 충분하지 않습니다.");
+        }
+
+        // 1. 나이 그룹별 퍼센티지 계산 및 정렬
+        List<VoteAnalysisDto.AgeGroupStat> ageGroupStats = demographics.getAgeGroupCounts().entrySet().stream()
+                .map(entry -> VoteAnalysisDto.AgeGroupStat.builder()
+                        .label((currentYear - entry.getKey().getBirthYear()) + "세 " + entry.getKey().getGenderLabel())
+                        .percentage(percentage(entry.getValue(), totalParticipants))
+                        .build())
+                .sorted((a, b) -> Integer.compare(b.getPercentage(), a.getPercentage()))
+                .limit(5)
+                .collect(Collectors.toList());
+
+        // 2. 가장 많은 나이 그룹 찾기
+        String mostParticipatedAgeGroup = ageGroupStats.isEmpty() ? NO_DATA : ageGroupStats.get(0).getLabel();
+        int mostParticipatedPercentage = ageGroupStats.isEmpty() ? 0 : ageGroupStats.get(0).getPercentage();
+
+        // 3. 성별 통계 퍼센티지 계산
+        Map<String, Integer> genderStats = percentages(demographics.getGenderCounts(), totalParticipants);
+
+        // 4. 관심사 Top 5
+        List<String> relatedInterests = topKeys(demographics.getInterestCounts(), 5);
+
+        // 5. 선택지별 분석
+        List<VoteAnalysisDto.OptionAnalysis> optionAnalyses = new ArrayList<>();
+        for (VoteOption option : options) {
+            VoteDemographics.OptionCounters counters = demographics.getOptionCounters().get(option.getId());
+            if (counters == null || counters.getParticipants() == 0) {
+                continue;
+            }
+
+            optionAnalyses.add(VoteAnalysisDto.OptionAnalysis.builder()
+                    .optionId(option.getId())
+                    .optionText(option.getOptionText())
+                    .genderStats(percentages(counters.getGenderCounts(), counters.getParticipants()))
+                    .topInterests(topKeys(counters.getInterestCounts(), 3))
+                    .build());
+        }
+
+        return VoteAnalysisDto.builder()
+                .mostParticipatedAgeGroup(mostParticipatedAgeGroup)
+                .mostParticipatedPercentage(mostParticipatedPercentage)
+                .genderStats(genderStats)
+                .ageGroupStats(ageGroupStats)
+                .relatedInterests(relatedInterests)
+                .funFact(generateFunFact(totalVotes, genderStats, mostParticipatedAgeGroup))
+                .optionAnalyses(optionAnalyses)
+                .build();
+    }
+
+    private static VoteAnalysisDto emptyAnalysis(String funFact) {
+        return VoteAnalysisDto.builder()
+                .mostParticipatedAgeGroup(NO_DATA)
+                .mostParticipatedPercentage(0)
+                .genderStats(Map.of())
+                .ageGroupStats(List.of())
+                .relatedInterests(List.of())
+                .funFact(funFact)
+                .build();
+    }
+
+    private static int percentage(long count, long total) {
+        return (int) Math.round(count * 100.0 / total);
+    }
+
+    private static Map<String, Integer> percentages(Map<String, Long> counts, long total) {
+        return counts.entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> percentage(entry.getValue(), total)
+                ));
+    }
+
+    private static List<String> topKeys(Map<String, Long> counts, int limit) {
+        return counts.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    // 재미있는 사실 생성
+    private static String generateFunFact(int totalVotes, Map<String, Integer> genderStats, String mostParticipatedAgeGroup) {
+        StringBuilder funFact = new StringBuilder();
+        funFact.append("이 투표는 현재 ").append(totalVotes).append("명이 참여했으며, ");
+
+        // 성별 정보
+        if (!genderStats.isEmpty()) {
+            Map.Entry<String, Integer> dominantGender = genderStats.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+
+            if (dominantGender != null) {
+                funFact.append(dominantGender.getKey())
+                        .append(" 참여자가 전체의 ")
+                        .append(dominantGender.getValue())
+                        .append("%를 차지하고 있습니다. ");
+            }
+        }
+
+        // 나이 그룹 정보
+        if (!NO_DATA.equals(mostParticipatedAgeGroup)) {
+            funFact.append("가장 활발한 연령대는 ")
+                    .append(mostParticipatedAgeGroup)
+                    .append("입니다!");
+        }
+
+        return funFact.toString();
+    }
+}
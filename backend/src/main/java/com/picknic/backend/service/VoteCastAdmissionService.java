@@ -0,0 +1,151 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.PointType;
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.domain.VoteOption;
+import com.picknic.backend.repository.VoteRecordRepository;
+import com.picknic.backend.util.RedisUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 투표 참여 승인 서비스
+ *
+ * 중복 투표 확인, 선택지 검증, 일일 포인트 제한, 투표 수 증분, 투표 기록 적재를
+ * Redis Lua 스크립트 한 번(EVALSHA)으로 처리한다.
+ * vote_records 저장은 Redis 큐에 적재된 뒤 VoteRecordWriter가 비동기로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteCastAdmissionService {
+
+    static final String VOTERS_KEY_PREFIX = "vote:voters:";
+    static final String RECORD_QUEUE_KEY = "vote:records:queue";
+    private static final String OPTIONS_KEY_PREFIX = "vote:options:";
+
+    // 참여자 집합이 DB에서 초기화되었음을 표시하는 멤버 (참여자가 0명인 투표도 집합이 존재하도록)
+    private static final String SEEDED_MARKER = "__seeded__";
+    private static final long OPTIONS_CACHE_TTL_SECONDS = 86400L;
+
+    private static final long ADMITTED = 1L;
+    private static final long NOT_SEEDED = -1L;
+    private static final long DUPLICATE = -2L;
+    private static final long INVALID_OPTION = -3L;
+
+    private static final DefaultRedisScript<Long> ADMISSION_SCRIPT = new DefaultRedisScript<>();
+
+    static {
+        ADMISSION_SCRIPT.setLocation(new ClassPathResource("scripts/vote_cast_admission.lua"));
+        ADMISSION_SCRIPT.setResultType(Long.class);
+    }
+
+    private final RedisUtil redisUtil;
+    private final VoteRecordRepository voteRecordRepository;
+    private final DailyLimitService dailyLimitService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 투표 참여 승인
+     *
+     * @param vote 투표 (선택지 포함)
+     * @param optionId 선택한 선택지 ID
+     * @param userId 사용자 ID
+     * @return 포인트 지급 대상이면 true (일일 제한 초과 시 false)
+     * @throws IllegalStateException 이미 투표한 경우
+     * @throws IllegalArgumentException 잘못된 선택지인 경우
+     */
+    public boolean admit(Vote vote, Long optionId, String userId) {
+        Long result = executeAdmission(vote, optionId, userId);
+
+        if (result != null && result == NOT_SEEDED) {
+            // 참여자 집합이 없으면 DB 기록으로 한 번 초기화한 뒤 재시도
+            seedVoters(vote.getId());
+            result = executeAdmission(vote, optionId, userId);
+        }
+
+        if (result == null || result == NOT_SEEDED) {
+            recordResult("error");
+            throw new IllegalStateException("투표 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (result == DUPLICATE) {
+            recordResult("duplicate");
+            throw new IllegalStateException("이미 투표한 항목입니다.");
+        }
+        if (result == INVALID_OPTION) {
+            recordResult("invalid_option");
+            throw new IllegalArgumentException("잘못된 선택지입니다.");
+        }
+
+        if (result == ADMITTED) {
+            recordResult("admitted");
+            return true;
+        }
+
+        // 투표는 승인되었지만 일일 포인트 제한 초과 - 오늘은 스크립트에서 카운터를 확인하지 않도록 표시
+        dailyLimitService.markExhaustedToday(PointType.VOTE, userId);
+        recordResult("admitted_without_points");
+        meterRegistry.counter("points.daily_limit.rejected", "type", PointType.VOTE.name()).increment();
+        return false;
+    }
+
+    /**
+     * 투표 삭제 시 승인용 캐시 정리
+     *
+     * @param voteId 투표 ID
+     */
+    public void evict(Long voteId) {
+        redisUtil.delete(VOTERS_KEY_PREFIX + voteId);
+        redisUtil.delete(OPTIONS_KEY_PREFIX + voteId);
+    }
+
+    private Long executeAdmission(Vote vote, Long optionId, String userId) {
+        Long voteId = vote.getId();
+
+        List<String> keys = List.of(
+                VOTERS_KEY_PREFIX + voteId,
+                OPTIONS_KEY_PREFIX + voteId,
+                dailyLimitService.todayKey(),
+                VoteTallyService.TALLY_KEY_PREFIX + voteId,
+                VoteTallyService.DIRTY_KEY,
+                RECORD_QUEUE_KEY
+        );
+
+        List<String> args = new ArrayList<>();
+        args.add(userId);
+        args.add(String.valueOf(optionId));
+        args.add(String.valueOf(voteId));
+        args.add(dailyLimitService.isExhaustedToday(PointType.VOTE, userId)
+                ? "0" : String.valueOf(DailyLimitService.VOTE_DAILY_LIMIT));
+        args.add(String.valueOf(dailyLimitService.todayExpireAt()));
+        args.add(LocalDateTime.now().toString());
+        args.add(String.valueOf(OPTIONS_CACHE_TTL_SECONDS));
+        for (VoteOption option : vote.getOptions()) {
+            args.add(String.valueOf(option.getId()));
+        }
+
+        return redisUtil.executeScript(ADMISSION_SCRIPT, keys, args.toArray(new String[0]));
+    }
+
+    private void recordResult(String result) {
+        meterRegistry.counter("vote.cast.result", "result", result).increment();
+    }
+
+    private void seedVoters(Long voteId) {
+        List<String> voterIds = voteRecordRepository.findUserIdsByVoteId(voteId);
+
+        List<String> members = new ArrayList<>(voterIds);
+        members.add(SEEDED_MARKER);
+        redisUtil.addToSet(VOTERS_KEY_PREFIX + voteId, members.toArray(new String[0]));
+
+        log.info("투표 참여자 집합 초기화 - voteId: {}, 참여자 수: {}", voteId, voterIds.size());
+    }
+}
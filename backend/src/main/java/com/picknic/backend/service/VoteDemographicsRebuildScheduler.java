@@ -0,0 +1,83 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.repository.VoteRepository;
+import com.picknic.backend.util.TwoTierCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteDemographicsRebuildScheduler {
+
+    private final VoteDemographicsService voteDemographicsService;
+    private final VoteRepository voteRepository;
+    private final TwoTierCache twoTierCache;
+
+    /**
+     * 매일 새벽 4시에 진행 중인 투표의 분석 카운터를 vote_records 기준으로 재구축
+     * 증분 갱신 실패, 사용자 정보 변경 등으로 생긴 오차를 바로잡음
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    @Async("nightlyJobExecutor")
+    public void scheduledRebuild() {
+        try {
+            rebuildActiveVotes();
+        } catch (Exception e) {
+            log.error("투표 분석 카운터 재구축 실패: {}", e.getMessage(), e);
+            // Don't throw - let scheduler continue running
+        }
+    }
+
+    /**
+     * 조회 시 카운터가 없던 투표의 카운터 구축 (VoteDemographicsService.requestRebuild)
+     * 재구축하지 못한 투표는 대기 목록에 남아 다음 주기에 다시 시도됨
+     * 구축 전에 조회된 분석은 인구통계가 비어 있으므로 구축 후 분석 캐시를 비움
+     */
+    @Scheduled(fixedDelayString = "${vote.demographics.backfill-interval-ms:60000}")
+    public void backfillPending() {
+        for (Long voteId : voteDemographicsService.getPendingRebuilds()) {
+            try {
+                if (voteDemographicsService.rebuild(voteId)) {
+                    voteDemographicsService.completeRebuild(voteId);
+                    twoTierCache.evict(VoteService.ANALYSIS_CACHE, String.valueOf(voteId));
+                    log.info("투표 분석 카운터 구축 완료 - voteId: {}", voteId);
+                }
+            } catch (Exception e) {
+                log.error("투표 분석 카운터 구축 실패 - voteId: {}, error: {}", voteId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 투표 전체 재구축 (AdminController에서도 호출)
+     *
+     * @return 재구축한 투표 수
+     */
+    public int rebuildActiveVotes() {
+        List<Long> voteIds = voteRepository.findActiveVoteIds();
+        int rebuilt = 0;
+        int skipped = 0;
+
+        for (Long voteId : voteIds) {
+            try {
+                if (voteDemographicsService.rebuild(voteId)) {
+                    rebuilt++;
+                } else {
+                    skipped++;
+                }
+            } catch (Exception e) {
+                skipped++;
+                log.error("투표 분석 카운터 재구축 실패 - voteId: {}, error: {}", voteId, e.getMessage());
+            }
+        }
+
+        log.info("투표 분석 카운터 재구축 완료 - 대상: {}, 재구축: {}, 건너뜀: {}", voteIds.size(), rebuilt, skipped);
+        return rebuilt;
+    }
+}
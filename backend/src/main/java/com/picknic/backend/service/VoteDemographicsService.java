@@ -0,0 +1,321 @@
+package com.picknic.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.domain.VoteRecord;
+import com.picknic.backend.dto.vote.VoteDemographics;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.repository.UserRepository;
+import com.picknic.backend.repository.VoteRecordRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 투표 참여자 인구통계 카운터 관리
+ *
+ * 투표 분석(성별, 연령대, 관심사)을 위해 투표별/선택지별 카운터를 Redis 해시(vote:demo:{voteId})에 유지한다.
+ * - 투표 기록이 저장될 때 VoteRecordWriter가 증가시키고
+ * - 관리자 데이터 정리로 기록이 삭제되면 감소시키며
+ * - 누적 오차는 VoteDemographicsRebuildScheduler가 vote_records 기준으로 재구축해서 바로잡는다.
+ * - 카운터가 없는 투표(카운터 도입 이전)는 조회 시 구축 대기 목록에 넣고 같은 스케줄러가 백그라운드에서 구축한다.
+ *   (재구축은 참여자 수만큼 읽으므로 요청 경로에서는 실행하지 않음)
+ * - 재구축 중에는 투표별 로그(vote:demo:{voteId}:rebuild)에 증분을 기록별로 남겨서
+ *   투표 기록 저장을 멈추지 않고도 스캔과 겹친 증분을 중복/누락 없이 합친다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteDemographicsService {
+
+    private static final String KEY_PREFIX = "vote:demo:";
+    // 카운터 구축 대기 중인 투표 ID (VoteDemographicsRebuildScheduler가 처리)
+    private static final String PENDING_KEY = "vote:demo:pending";
+    private static final int USER_LOOKUP_CHUNK = 1000;
+
+    // 필드별 증분 반영 (0 이하가 된 필드는 제거)
+    // ARGV[1] = 기록 수 k, ARGV[2..k+1] = 기록별 증분(JSON), 이후 필드/증분 쌍
+    // 재구축 중(KEYS[2] 존재)이면 기록별 증분을 재구축 로그에도 남김
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local k = tonumber(ARGV[1]) " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  for i = 2, k + 1 do redis.call('RPUSH', KEYS[2], ARGV[i]) end " +
+            "end " +
+            "for i = k + 2, #ARGV, 2 do " +
+            "  local count = redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  if count <= 0 then redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // 재구축 시작 - 로그가 이미 있으면 다른 재구축이 진행 중 (첫 항목은 시작 표시)
+    private static final RedisScript<Long> START_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('RPUSH', KEYS[1], 'start') " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 해시 전체 교체 후 Java가 읽은 뒤에 쌓인 로그(ARGV[1] 이후)를 반영하고 로그 삭제
+    // 로그가 만료됐으면(재구축이 TTL보다 오래 걸림) 증분을 놓쳤을 수 있으므로 교체하지 않음
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "for _, entry in ipairs(redis.call('LRANGE', KEYS[2], tonumber(ARGV[1]), -1)) do " +
+            "  local ok, record = pcall(cjson.decode, entry) " +
+            "  if ok and type(record) == 'table' then " +
+            "    for _, field in ipairs(record.f) do " +
+            "      local count = redis.call('HINCRBY', KEYS[1], field, record.s) " +
+            "      if count <= 0 then redis.call('HDEL', KEYS[1], field) end " +
+            "    end " +
+            "  end " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final VoteRecordRepository voteRecordRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${vote.demographics.rebuild-ttl-ms:600000}")
+    private long rebuildTtlMs;
+
+    /**
+     * 카운터 조회
+     *
+     * @param voteId 투표 ID
+     * @return VoteDemographics (카운터가 한 번도 만들어지지 않았으면 null)
+     */
+    public VoteDemographics findDemographics(Long voteId) {
+        Map<String, String> entries = redisUtil.getHashEntries(demoKey(voteId));
+        return entries.isEmpty() ? null : VoteDemographics.fromHash(entries);
+    }
+
+    /**
+     * 저장된 투표 기록만큼 카운터 증가
+     *
+     * @param records 저장된 투표 기록
+     * @param users 이메일 → 사용자 (관심사 포함)
+     */
+    public void add(List<VoteRecord> records, Map<String, User> users) {
+        apply(records, users, 1);
+    }
+
+    /**
+     * 삭제된 투표 기록만큼 카운터 감소
+     *
+     * @param records 삭제된 투표 기록
+     * @param users 이메일 → 사용자 (관심사 포함)
+     */
+    public void remove(List<VoteRecord> records, Map<String, User> users) {
+        apply(records, users, -1);
+    }
+
+    /**
+     * 투표 삭제 시 카운터 삭제
+     *
+     * @param voteId 투표 ID
+     */
+    public void discard(Long voteId) {
+        redisUtil.delete(demoKey(voteId));
+    }
+
+    /**
+     * 카운터 구축 요청 (요청 경로용 - 실제 구축은 VoteDemographicsRebuildScheduler에서)
+     *
+     * @param voteId 투표 ID
+     */
+    public void requestRebuild(Long voteId) {
+        redisUtil.addToSet(PENDING_KEY, String.valueOf(voteId));
+    }
+
+    /**
+     * 구축 대기 중인 투표 ID 목록
+     */
+    public List<Long> getPendingRebuilds() {
+        return redisUtil.getSetMembers(PENDING_KEY).stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 구축이 끝난 투표를 대기 목록에서 제거
+     */
+    public void completeRebuild(Long voteId) {
+        redisUtil.removeFromSet(PENDING_KEY, String.valueOf(voteId));
+    }
+
+    /**
+     * vote_records 기준으로 카운터 재구축
+     *
+     * 투표 기록 저장은 멈추지 않는다. 재구축 로그에 남은 증분 중
+     * 스캔에 없던 기록의 증가, 스캔에 있던 기록의 감소만 스캔 결과에 더해서 교체한다.
+     * 투표 참여자 수만큼 읽으므로 스케줄러에서만 호출한다.
+     *
+     * @param voteId 투표 ID
+     * @return 재구축했으면 true, 같은 투표를 재구축 중이거나 시간이 초과됐으면 false
+     */
+    @Transactional(readOnly = true)
+    public boolean rebuild(Long voteId) {
+        String logKey = rebuildLogKey(voteId);
+        Long started = redisUtil.executeScript(START_REBUILD_SCRIPT, List.of(logKey), String.valueOf(rebuildTtlMs));
+        if (started == null || started == 0) {
+            return false;
+        }
+
+        boolean finished = false;
+        try {
+            List<VoteRecord> records = voteRecordRepository.findByVoteId(voteId);
+            Map<String, User> users = findUsers(records.stream().map(VoteRecord::getUserId).distinct().toList());
+
+            Set<String> scannedUserIds = new HashSet<>();
+            Map<String, Long> counts = new HashMap<>();
+            counts.put("n", 0L);
+            for (VoteRecord record : records) {
+                scannedUserIds.add(record.getUserId());
+                for (String field : VoteDemographics.fieldsFor(users.get(record.getUserId()), record.getSelectedOptionId())) {
+                    counts.merge(field, 1L, Long::sum);
+                }
+            }
+
+            // 스캔과 겹친 증분 - 저장은 커밋 후 카운터에 반영되므로 스캔에 이미 들어갔을 수 있음
+            List<String> logged = redisUtil.getListRange(logKey, 0, -1);
+            if (logged.isEmpty()) {
+                log.warn("투표 분석 카운터 재구축 로그를 읽지 못함 - voteId: {}", voteId);
+                return false;
+            }
+            for (String entry : logged.subList(1, logged.size())) {
+                JsonNode record = readLogEntry(entry);
+                long sign = record.path("s").asLong();
+                if ((sign > 0) == scannedUserIds.contains(record.path("u").asText())) {
+                    continue;
+                }
+                for (JsonNode field : record.path("f")) {
+                    counts.merge(field.asText(), sign, Long::sum);
+                }
+            }
+
+            List<String> args = new ArrayList<>(counts.size() * 2 + 1);
+            args.add(String.valueOf(logged.size()));
+            args.addAll(List.of(toArgs(counts)));
+            Long replaced = redisUtil.executeScript(FINISH_REBUILD_SCRIPT,
+                    List.of(demoKey(voteId), logKey), args.toArray(new String[0]));
+            finished = true;
+            if (replaced == null || replaced == 0) {
+                log.warn("투표 분석 카운터 재구축 시간 초과로 적용하지 않음 - voteId: {}", voteId);
+                return false;
+            }
+
+            log.debug("투표 분석 카운터 재구축 - voteId: {}, 기록: {}, 겹친 증분: {}, 필드: {}",
+                    voteId, records.size(), logged.size() - 1, counts.size());
+            return true;
+        } finally {
+            if (!finished) {
+                redisUtil.delete(logKey);
+            }
+        }
+    }
+
+    /**
+     * 이메일 목록으로 사용자 조회 (관심사 포함)
+     *
+     * @param emails 이메일 목록
+     * @return 이메일 → 사용자
+     */
+    public Map<String, User> findUsers(Collection<String> emails) {
+        Map<String, User> users = new HashMap<>();
+        List<String> chunk = new ArrayList<>(USER_LOOKUP_CHUNK);
+        for (String email : emails) {
+            chunk.add(email);
+            if (chunk.size() == USER_LOOKUP_CHUNK) {
+                userRepository.findAllWithInterestsByEmailIn(chunk).forEach(user -> users.put(user.getEmail(), user));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            userRepository.findAllWithInterestsByEmailIn(chunk).forEach(user -> users.put(user.getEmail(), user));
+        }
+        return users;
+    }
+
+    private void apply(List<VoteRecord> records, Map<String, User> users, long sign) {
+        // 투표별로 필드 증분을 모아서 투표당 한 번만 호출 (기록별 증분은 재구축 로그용)
+        Map<Long, Map<String, Long>> deltasByVote = new HashMap<>();
+        Map<Long, List<String>> entriesByVote = new HashMap<>();
+        for (VoteRecord record : records) {
+            List<String> fields = VoteDemographics.fieldsFor(users.get(record.getUserId()), record.getSelectedOptionId());
+            if (fields.isEmpty()) {
+                continue;
+            }
+            Map<String, Long> deltas = deltasByVote.computeIfAbsent(record.getVoteId(), id -> new HashMap<>());
+            for (String field : fields) {
+                deltas.merge(field, sign, Long::sum);
+            }
+            entriesByVote.computeIfAbsent(record.getVoteId(), id -> new ArrayList<>())
+                    .add(writeLogEntry(record.getUserId(), sign, fields));
+        }
+
+        deltasByVote.forEach((voteId, deltas) -> {
+            List<String> entries = entriesByVote.get(voteId);
+            List<String> args = new ArrayList<>(entries.size() + deltas.size() * 2 + 1);
+            args.add(String.valueOf(entries.size()));
+            args.addAll(entries);
+            args.addAll(List.of(toArgs(deltas)));
+            try {
+                redisUtil.executeScript(APPLY_SCRIPT, List.of(demoKey(voteId), rebuildLogKey(voteId)),
+                        args.toArray(new String[0]));
+            } catch (Exception e) {
+                // 실패한 증분은 재구축 작업에서 복구됨
+                log.error("투표 분석 카운터 갱신 실패 - voteId: {}", voteId, e);
+            }
+        });
+    }
+
+    private String writeLogEntry(String userId, long sign, List<String> fields) {
+        try {
+            return objectMapper.writeValueAsString(Map.of("u", userId, "s", sign, "f", fields));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재구축 로그 직렬화 실패", e);
+        }
+    }
+
+    private JsonNode readLogEntry(String entry) {
+        try {
+            return objectMapper.readTree(entry);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재구축 로그 역직렬화 실패", e);
+        }
+    }
+
+    private String[] toArgs(Map<String, Long> counts) {
+        List<String> args = new ArrayList<>(counts.size() * 2);
+        counts.forEach((field, count) -> {
+            args.add(field);
+            args.add(String.valueOf(count));
+        });
+        return args.toArray(new String[0]);
+    }
+
+    private String demoKey(Long voteId) {
+        return KEY_PREFIX + voteId;
+    }
+
+    private String rebuildLogKey(Long voteId) {
+        return KEY_PREFIX + voteId + ":rebuild";
+    }
+}
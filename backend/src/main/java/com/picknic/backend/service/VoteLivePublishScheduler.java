@@ -0,0 +1,27 @@
+package com.picknic.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteLivePublishScheduler {
+
+    private final VoteLiveService voteLiveService;
+
+    /**
+     * 주기적으로 바뀐 투표의 실시간 현황 발행
+     * (주기 안에 들어온 투표 참여는 투표당 한 번의 발행으로 합쳐짐)
+     */
+    @Scheduled(fixedDelayString = "${vote.live.interval-ms:1000}")
+    public void publishChanged() {
+        try {
+            voteLiveService.publishChanged();
+        } catch (Exception e) {
+            log.error("실시간 투표 현황 발행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.picknic.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.domain.Vote;
+import com.picknic.backend.dto.vote.VoteLiveResponse;
+import com.picknic.backend.dto.vote.VoteTally;
+import com.picknic.backend.repository.VoteRepository;
+import com.picknic.backend.util.RedisUtil;
+import com.picknic.backend.util.SseChannel;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 투표 현황 (SSE, GET /votes/{id}/live)
+ *
+ * 인기 투표를 보고 있는 클라이언트가 결과를 반복 조회(폴링)하는 대신 연결을 열어 두고 변경을 받는다.
+ *
+ * 1. 투표 참여(castVote)는 투표 ID를 서버 로컬 목록에 표시만 한다 (Redis, DB 접근 없음)
+ * 2. VoteLivePublishScheduler가 interval-ms마다 표시된 투표 중 누군가 보고 있는 투표만 골라
+ *    투표당 한 번 현황을 만들고 직렬화해 vote:live 채널로 발행한다
+ *    (여러 서버가 같은 투표를 표시해도 vote:live:{voteId}:throttle로 주기당 한 서버만 발행)
+ * 3. 모든 서버가 메시지를 받아 이벤트를 한 번 만들고, 그 투표를 보는 로컬 연결 모두에 같은 바이트를 보낸다
+ *
+ * 연결은 투표+사용자({voteId}:{userId})별로 묶고 max-connections-per-user를 넘으면 가장 오래된 연결을 닫는다
+ * (한 사용자가 같은 투표를 여러 번 열어 서버 연결을 차지하지 못하도록). 투표별 연결 키는 viewers에 따로 둔다.
+ *
+ * 보고 있는 투표는 연결이 있는 서버가 vote:live:watched:{voteId}를 하트비트마다 갱신해 표시한다.
+ */
+@Slf4j
+@Service
+public class VoteLiveService {
+
+    static final String CHANNEL = "vote:live";
+    private static final String WATCHED_KEY_PREFIX = "vote:live:watched:";
+    private static final String EVENT_NAME = "tally";
+
+    private final VoteRepository voteRepository;
+    private final VoteTallyService voteTallyService;
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final SseChannel channel;
+    private final Duration interval;
+    private final Duration watchedTtl;
+
+    // 현황을 다시 보내야 하는 투표 (다음 발행 주기에 한 번으로 합침)
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    // 투표 → 그 투표를 보는 연결 키 ({voteId}:{userId}, 연결이 끝난 키는 하트비트 때 정리)
+    private final Map<Long, Set<String>> viewers = new ConcurrentHashMap<>();
+
+    // 투표별 마지막 이벤트 (새 연결에 바로 보냄, 로컬 연결이 없어지면 하트비트 때 정리)
+    private final Map<Long, Set<DataWithMediaType>> latest = new ConcurrentHashMap<>();
+
+    public VoteLiveService(VoteRepository voteRepository,
+                           VoteTallyService voteTallyService,
+                           RedisUtil redisUtil,
+                           ObjectMapper objectMapper,
+                           RedisMessageListenerContainer listenerContainer,
+                           MeterRegistry meterRegistry,
+                           @Value("${vote.live.max-connections:10000}") int maxConnections,
+                           @Value("${vote.live.max-connections-per-user:3}") int maxConnectionsPerUser,
+                           @Value("${vote.live.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${vote.live.interval-ms:1000}") long intervalMs,
+                           @Value("${sse.heartbeat-interval-ms:20000}") long heartbeatIntervalMs) {
+        this.voteRepository = voteRepository;
+        this.voteTallyService = voteTallyService;
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.listenerContainer = listenerContainer;
+        this.channel = new SseChannel("vote-live", maxConnections, maxConnectionsPerUser, timeoutMs, meterRegistry);
+        this.interval = Duration.ofMillis(intervalMs);
+        // 하트비트를 두 번 놓쳐도 유지
+        this.watchedTtl = Duration.ofMillis(heartbeatIntervalMs * 3);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 실시간 현황 연결 (연결 직후 현재 현황을 한 번 보냄)
+     *
+     * @param voteId 투표 ID
+     * @param userId 사용자 ID
+     * @return SseEmitter
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter connect(Long voteId, String userId) {
+        Vote vote = voteRepository.findByIdWithOptions(voteId)
+                .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
+
+        String key = voteId + ":" + userId;
+        SseEmitter emitter = channel.open(key);
+        viewers.compute(voteId, (id, keys) -> {
+            Set<String> result = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            result.add(key);
+            return result;
+        });
+        redisUtil.set(watchedKey(voteId), 1L, watchedTtl);
+
+        Set<DataWithMediaType> event = latest.get(voteId);
+        if (event == null) {
+            String data = serialize(VoteLiveResponse.from(vote, voteTallyService.getTally(voteId)));
+            if (data == null) {
+                return emitter;
+            }
+            event = SseChannel.event(null, EVENT_NAME, data);
+        }
+        channel.send(key, emitter, event);
+        return emitter;
+    }
+
+    /**
+     * 투표 수 등 현황이 바뀜 (투표 참여, 마감 - 다음 발행 주기에 합쳐서 보냄)
+     *
+     * @param voteId 투표 ID
+     */
+    public void tallyChanged(Long voteId) {
+        changed.add(voteId);
+    }
+
+    /**
+     * 바뀐 투표의 현황 발행 (VoteLivePublishScheduler)
+     */
+    @Transactional(readOnly = true)
+    public void publishChanged() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> voteIds = new ArrayList<>(changed);
+        changed.removeAll(voteIds);
+
+        // 보고 있는 클라이언트가 없는 투표는 건너뜀 (MGET 한 번)
+        Map<String, Long> watched = redisUtil.multiGet(voteIds.stream().map(this::watchedKey).toList(), Long.class);
+        List<Long> targets = new ArrayList<>();
+        for (Long voteId : voteIds) {
+            if (!watched.containsKey(watchedKey(voteId))) {
+                continue;
+            }
+            // 이번 주기에 다른 서버가 이미 발행했으면 다음 주기에 다시 시도 (그 뒤의 투표도 반영되도록)
+            // 락이 아니라 발행 간격 제한이므로 지우지 않고 만료되게 둠
+            if (!redisUtil.setIfAbsent(throttleKey(voteId), "1", interval)) {
+                changed.add(voteId);
+                continue;
+            }
+            targets.add(voteId);
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        Map<Long, VoteTally> tallies = voteTallyService.getTallies(targets);
+        for (Vote vote : voteRepository.findAllWithOptionsByIdIn(targets)) {
+            String data = serialize(VoteLiveResponse.from(vote, tallies.getOrDefault(vote.getId(), VoteTally.EMPTY)));
+            if (data != null) {
+                redisUtil.publish(CHANNEL, data);
+            }
+        }
+    }
+
+    /**
+     * 연결된 모든 클라이언트에 하트비트 + 보고 있는 투표 표시 갱신 (SseHeartbeatScheduler)
+     */
+    public void heartbeat() {
+        channel.heartbeat();
+        for (Long voteId : viewers.keySet()) {
+            viewers.computeIfPresent(voteId, (id, keys) -> {
+                keys.removeIf(key -> !channel.hasConnections(key));
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+        latest.keySet().removeIf(voteId -> !viewers.containsKey(voteId));
+        // 보고 있는 투표 표시를 파이프라인 한 번으로 갱신
+        Map<String, Long> watched = new HashMap<>();
+        viewers.keySet().forEach(voteId -> watched.put(watchedKey(voteId), 1L));
+        redisUtil.setAll(watched, watchedTtl);
+    }
+
+    private void onMessage(String data) {
+        Long voteId;
+        try {
+            voteId = objectMapper.readTree(data).path("id").asLong();
+        } catch (Exception e) {
+            log.warn("실시간 투표 현황 메시지 해석 실패: {}", e.getMessage());
+            return;
+        }
+
+        Set<String> keys = viewers.get(voteId);
+        if (keys == null || keys.stream().noneMatch(channel::hasConnections)) {
+            return;
+        }
+        // 직렬화된 현황을 그대로 이벤트 한 번으로 만들어 모든 로컬 연결에 보냄
+        Set<DataWithMediaType> event = SseChannel.event(null, EVENT_NAME, data);
+        latest.put(voteId, event);
+        keys.forEach(key -> channel.send(key, event));
+    }
+
+    private String serialize(VoteLiveResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.error("실시간 투표 현황 직렬화 실패 - voteId: {}", response.getId(), e);
+            return null;
+        }
+    }
+
+    private String watchedKey(Long voteId) {
+        return WATCHED_KEY_PREFIX + voteId;
+    }
+
+    private String throttleKey(Long voteId) {
+        return "vote:live:" + voteId + ":throttle";
+    }
+}
@@ -0,0 +1,70 @@
+package com.picknic.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.dto.vote.PendingVoteRecord;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteRecordWriteScheduler {
+
+    static final String WRITE_LOCK_KEY = "vote:records:write-lock";
+
+    private final VoteRecordWriter voteRecordWriter;
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    @Value("${vote.record.batch-size:500}")
+    private int batchSize;
+
+    @Value("${vote.record.write-lock-ttl-ms:30000}")
+    private long writeLockTtlMs;
+
+    /**
+     * Redis 큐에 쌓인 투표 기록을 주기적으로 DB에 저장
+     *
+     * 큐 앞부분을 읽고(LRANGE) 저장이 커밋된 뒤에만 제거(LTRIM)하므로
+     * 한 서버만 처리하도록 Redis 락을 잡은 서버만 실행함
+     */
+    @Scheduled(fixedDelayString = "${vote.record.flush-interval-ms:500}")
+    public void writeRecords() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(WRITE_LOCK_KEY, lockToken, Duration.ofMillis(writeLockTtlMs))) {
+            return;
+        }
+
+        try {
+            List<String> entries = redisUtil.getListRange(VoteCastAdmissionService.RECORD_QUEUE_KEY, 0, batchSize - 1);
+            if (entries.isEmpty()) {
+                return;
+            }
+
+            List<PendingVoteRecord> records = new ArrayList<>(entries.size());
+            for (String entry : entries) {
+                try {
+                    records.add(objectMapper.readValue(entry, PendingVoteRecord.class));
+                } catch (Exception e) {
+                    // 형식이 잘못된 항목은 계속 재시도해도 실패하므로 버림
+                    log.error("투표 기록 파싱 실패 (건너뜀) - entry: {}", entry, e);
+                }
+            }
+
+            voteRecordWriter.write(records, entries.size());
+        } catch (Exception e) {
+            log.error("투표 기록 저장 실패 (다음 주기에 재시도) - error: {}", e.getMessage(), e);
+        } finally {
+            redisUtil.releaseLock(WRITE_LOCK_KEY, lockToken);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.PointType;
+import com.picknic.backend.domain.VoteRecord;
+import com.picknic.backend.dto.vote.PendingVoteRecord;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.event.VoteCompletedEvent;
+import com.picknic.backend.repository.VoteRecordRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 기록 저장기
+ *
+ * 투표 승인 스크립트가 Redis 큐에 적재한 기록을 모아서 vote_records에 한 번에 저장하고,
+ * 같은 트랜잭션에서 포인트 적립 이벤트를 발행(point_outbox 저장)하고,
+ * 커밋 후 큐에서 제거하고 투표 분석 카운터를 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteRecordWriter {
+
+    private final VoteRecordRepository voteRecordRepository;
+    private final VoteDemographicsService voteDemographicsService;
+    private final RedisUtil redisUtil;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 큐 앞부분의 기록을 저장
+     *
+     * 저장에 실패하면 큐가 그대로 남아 다음 주기에 재시도된다.
+     * 이전 주기에 커밋은 됐지만 큐 정리가 안 된 기록은 중복 저장하지 않는다.
+     *
+     * @param records 파싱된 기록 목록
+     * @param consumed 큐에서 읽은 항목 수 (파싱 실패 항목 포함, 커밋 후 이만큼 제거)
+     */
+    @Transactional
+    public void write(List<PendingVoteRecord> records, int consumed) {
+        Set<String> existing = findExistingKeys(records);
+
+        List<PendingVoteRecord> pending = records.stream()
+                .filter(record -> !existing.contains(recordKey(record.getVoteId(), record.getUserId())))
+                .collect(Collectors.toList());
+
+        List<VoteRecord> entities = pending.stream()
+                .map(record -> VoteRecord.builder()
+                        .voteId(record.getVoteId())
+                        .userId(record.getUserId())
+                        .selectedOptionId(record.getOptionId())
+                        .votedAt(record.getVotedAt())
+                        .build())
+                .collect(Collectors.toList());
+        voteRecordRepository.saveAll(entities);
+
+        // 참여자 정보 (학교명, 분석 카운터용 성별/연령/관심사)
+        Map<String, User> users = voteDemographicsService.findUsers(
+                pending.stream().map(PendingVoteRecord::getUserId).distinct().collect(Collectors.toList()));
+
+        // 포인트 적립 이벤트 발행 (+1P) - 일일 제한은 승인 스크립트에서 이미 차감됨
+        // 적립 대기 이벤트(point_outbox)가 이 트랜잭션에서 함께 저장되도록 커밋 전에 발행
+        for (PendingVoteRecord record : pending) {
+            if (!record.isPointsAdmitted()) {
+                continue;
+            }
+            eventPublisher.publishEvent(new VoteCompletedEvent(
+                    this,
+                    record.getUserId(),
+                    record.getVoteId(),
+                    PointType.VOTE,
+                    1,
+                    schoolNameOf(users.get(record.getUserId())),
+                    true
+            ));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisUtil.trimList(VoteCastAdmissionService.RECORD_QUEUE_KEY, consumed, -1);
+
+                // 투표 분석 카운터 갱신
+                voteDemographicsService.add(entities, users);
+            }
+        });
+
+        log.debug("투표 기록 저장 - 읽음: {}, 저장: {}, 중복: {}", consumed, entities.size(), records.size() - pending.size());
+    }
+
+    private Set<String> findExistingKeys(List<PendingVoteRecord> records) {
+        if (records.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> voteIds = new HashSet<>();
+        Set<String> userIds = new HashSet<>();
+        for (PendingVoteRecord record : records) {
+            voteIds.add(record.getVoteId());
+            userIds.add(record.getUserId());
+        }
+
+        return voteRecordRepository.findByVoteIdInAndUserIdIn(voteIds, userIds).stream()
+                .map(record -> recordKey(record.getVoteId(), record.getUserId()))
+                .collect(Collectors.toSet());
+    }
+
+    private String schoolNameOf(User user) {
+        return user != null ? user.getSchoolName() : null;
+    }
+
+    private String recordKey(Long voteId, String userId) {
+        return voteId + ":" + userId;
+    }
+}
@@ -4,11 +4,16 @@ import com.picknic.backend.domain.PointType;
 import com.picknic.backend.domain.Vote;
 import com.picknic.backend.domain.VoteOption;
 import com.picknic.backend.domain.VoteRecord;
+import com.picknic.backend.dto.common.KeysetCursor;
 import com.picknic.backend.dto.vote.CastVoteRequest;
 import com.picknic.backend.dto.vote.CreateVoteRequest;
 import com.picknic.backend.dto.vote.VoteAnalysisDto;
+import com.picknic.backend.dto.vote.VoteDemographics;
+import com.picknic.backend.dto.vote.VoteFeedFilter;
+import com.picknic.backend.dto.vote.VoteFeedResponse;
 import com.picknic.backend.dto.vote.VoteResponse;
 import com.picknic.backend.dto.vote.VoteResultResponse;
+import com.picknic.backend.dto.vote.VoteTally;
 import com.picknic.backend.entity.User;
 import com.picknic.backend.event.HotVoteEvent;
 import com.picknic.backend.event.VoteCompletedEvent;
@@ -16,13 +21,13 @@ import com.picknic.backend.repository.UserRepository;
 import com.picknic.backend.repository.VoteOptionRepository;
 import com.picknic.backend.repository.VoteRecordRepository;
 import com.picknic.backend.repository.VoteRepository;
-import com.picknic.backend.util.RedisUtil;
+import com.picknic.backend.util.TwoTierCache;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Year;
@@ -34,12 +39,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VoteService {
 
+    // 투표 결과 분석 캐시 (키: voteId)
+    static final String ANALYSIS_CACHE = "vote-analysis";
+
     private final VoteRepository voteRepository;
     private final VoteOptionRepository voteOptionRepository;
     private final VoteRecordRepository voteRecordRepository;
     private final UserRepository userRepository;
-    private final RedisUtil redisUtil;
+    private final VoteTallyService voteTallyService;
+    private final VoteCastAdmissionService voteCastAdmissionService;
+    private final VoterIndexService voterIndexService;
+    private final VoteLiveService voteLiveService;
+    private final VoteDemographicsService voteDemographicsService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TwoTierCache twoTierCache;
+
+    // 피드 페이지 크기
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 50;
 
     // 투표 생성
     public VoteResponse createVote(CreateVoteRequest request, String userId) {
@@ -90,113 +107,80 @@ public class VoteService {
     }
 
     // 투표하기
+    @Transactional(readOnly = true)
+    @Timed(value = "vote.cast", description = "투표 참여 처리 시간")
     public VoteResponse castVote(Long voteId, CastVoteRequest request, String userId) {
-        // 1. 일일 투표 제한 체크 (20회)
-        /*String limitKey = "limit:VOTE:" + LocalDate.now() + ":" + userId;
-        Long todayVotes = redisUtil.increment(limitKey);
-
-        if (todayVotes == 1) {
-            redisUtil.setExpire(limitKey, Duration.ofDays(1));
-        }
-
-        if (todayVotes > 20) {
-            throw new IllegalStateException("일일 투표 제한(20회)을 초과했습니다.");
-        }*/
-
-        // 2. 투표 존재 확인 (with options to avoid N+1)
+        // 1. 투표 존재 확인 (with options to avoid N+1)
         Vote vote = voteRepository.findByIdWithOptions(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
 
-        // 3. 투표 활성 상태 확인
+        // 2. 투표 활성 상태 확인
         if (!vote.getIsActive()) {
             throw new IllegalStateException("종료된 투표입니다.");
         }
 
-        // 4. 마감 시간 확인
+        // 3. 마감 시간 확인
         if (vote.getExpiresAt() != null && vote.getExpiresAt().isBefore(LocalDateTime.now())) {
             throw new IllegalStateException("마감된 투표입니다.");
         }
 
-        // 5. 중복 투표 확인
-        if (voteRecordRepository.existsByVoteIdAndUserId(voteId, userId)) {
-            throw new IllegalStateException("이미 투표한 항목입니다.");
-        }
-
-        // 6. 옵션 유효성 확인
-        VoteOption option = voteOptionRepository.findById(request.getOptionId())
-                .orElseThrow(() -> new IllegalArgumentException("선택지를 찾을 수 없습니다."));
-
-        if (!option.getVote().getId().equals(voteId)) {
-            throw new IllegalArgumentException("잘못된 선택지입니다.");
-        }
-
-        // 7. 투표 기록 저장
-        VoteRecord record = VoteRecord.builder()
-                .voteId(voteId)
-                .userId(userId)
-                .selectedOptionId(request.getOptionId())
-                .build();
-        voteRecordRepository.save(record);
-
-        // 8. 투표 수 증가
-        option.incrementVoteCount();
-        vote.incrementTotalVotes();
+        // 4. 중복 투표 확인, 선택지 검증, 일일 포인트 제한, 투표 수 증분, 기록 적재
+        // Redis 스크립트 한 번으로 처리 (vote_records 저장과 포인트 적립은 VoteRecordWriter가 비동기로 처리)
+        voteCastAdmissionService.admit(vote, request.getOptionId(), userId);
+        voterIndexService.add(voteId, request.getOptionId(), userId);
+        voteLiveService.tallyChanged(voteId);
 
-        // 9. 사용자 학교 정보 조회
-        String schoolName = userRepository.findByEmail(userId)
-                .map(User::getSchoolName)
-                .orElse(null);
-
-        // 10. 투표 분석 캐시 무효화 (새로운 투표가 추가되었으므로 분석 결과 갱신 필요)
-        redisUtil.delete("vote:analysis:" + voteId);
-
-        // 11. 포인트 적립 이벤트 발행 (+1P)
-        eventPublisher.publishEvent(new VoteCompletedEvent(
-                this,
-                userId,
-                voteId,
-                PointType.VOTE,
-                1,
-                schoolName
-        ));
-
-        // 12. 응답 생성
-        return VoteResponse.from(vote, true, request.getOptionId());
+        // 5. 응답 생성 (미반영 증분 포함)
+        return VoteResponse.from(vote, true, request.getOptionId(), voteTallyService.getTally(voteId));
     }
 
+    // 투표 피드 (키셋 페이지네이션, HOT·학교·작성자·카테고리·미참여 조건은 DB에서 거름)
     @Transactional(readOnly = true)
-    public List<VoteResponse> getVotes(String userId, String status, String creatorId) {
-        List<Vote> votes;
-
-        if (creatorId != null) {
-            votes = voteRepository.findByCreatorIdOrderByCreatedAtDesc(creatorId);
-        } else if ("active".equals(status)) {
-            votes = voteRepository.findActiveVotes(LocalDateTime.now());
-        } else if ("closed".equals(status)) {
-            votes = voteRepository.findByIsActiveFalseOrderByCreatedAtDesc();
-        } else {
-            votes = voteRepository.findAllByOrderByCreatedAtDesc();
+    public VoteFeedResponse getVoteFeed(String userId, VoteFeedFilter filter, String cursor, Integer size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        int pageSize = (size == null || size <= 0) ? DEFAULT_FEED_SIZE : Math.min(size, MAX_FEED_SIZE);
+
+        // 1. 투표 ID 페이지 조회 (다음 페이지 존재 여부 확인을 위해 1개 더 조회)
+        List<Vote> page = voteRepository.findFeedPage(filter, position.getCreatedAt(), position.getId(), pageSize + 1);
+
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
         }
 
-        // FIX N+1 QUERY: Batch load all vote records for this user in a single query
-        List<Long> voteIds = votes.stream()
+        List<Long> voteIds = page.stream()
                 .map(Vote::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, VoteRecord> userVoteRecordMap = voteRecordRepository
-                .findByUserIdAndVoteIdIn(userId, voteIds)
-                .stream()
-                .collect(Collectors.toMap(VoteRecord::getVoteId, record -> record));
+        // 2. 페이지에 포함된 투표만 선택지와 함께 조회 (정렬은 1번 순서 유지)
+        Map<Long, Vote> votesWithOptions = voteIds.isEmpty()
+                ? Map.of()
+                : voteRepository.findAllWithOptionsByIdIn(voteIds).stream()
+                        .collect(Collectors.toMap(Vote::getId, vote -> vote));
+
+        Map<Long, Long> selections = findSelectedOptions(userId, voteIds);
+        Map<Long, VoteTally> tallies = voteTallyService.getTallies(voteIds);
+
+        // 미참여 조건: 아직 vote_records에 저장되지 않은 방금 참여한 투표도 참여자 인덱스 기준으로 뺌
+        boolean excludeVoted = filter.getExcludeVotedBy() != null;
+        List<VoteResponse> items = voteIds.stream()
+                .map(votesWithOptions::get)
+                .filter(Objects::nonNull)
+                .filter(vote -> !excludeVoted || !selections.containsKey(vote.getId()))
+                .map(vote -> VoteResponse.from(
+                        vote,
+                        selections.containsKey(vote.getId()),
+                        selections.get(vote.getId()),
+                        tallies.get(vote.getId())))
+                .collect(Collectors.toList());
 
-        return votes.stream()
-                .map(vote -> {
-                    VoteRecord record = userVoteRecordMap.get(vote.getId());
-                    boolean hasVoted = record != null;
-                    Long selectedOptionId = hasVoted ? record.getSelectedOptionId() : null;
+        String nextCursor = null;
+        if (hasNext) {
+            Vote last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
 
-                    return VoteResponse.from(vote, hasVoted, selectedOptionId);
-                })
-                .collect(Collectors.toList());
+        return new VoteFeedResponse(items, nextCursor);
     }
 
     // 활성 투표 목록 조회
@@ -224,14 +208,12 @@ public class VoteService {
         Vote vote = voteRepository.findByIdWithOptions(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
 
-        VoteRecord record = voteRecordRepository
-                .findByVoteIdAndUserId(voteId, userId)
-                .orElse(null);
+        Map<Long, Long> selections = findSelectedOptions(userId, List.of(voteId));
 
-        boolean hasVoted = record != null;
-        Long selectedOptionId = hasVoted ? record.getSelectedOptionId() : null;
+        boolean hasVoted = selections.containsKey(voteId);
+        Long selectedOptionId = selections.get(voteId);
 
-        return VoteResponse.from(vote, hasVoted, selectedOptionId);
+        return VoteResponse.from(vote, hasVoted, selectedOptionId, voteTallyService.getTally(voteId));
     }
 
     // 투표 수정 (본인만 가능)
@@ -244,8 +226,8 @@ public class VoteService {
             throw new IllegalStateException("투표 작성자만 수정할 수 있습니다.");
         }
 
-        // 이미 투표가 진행 중이면 수정 불가
-        if (vote.getTotalVotes() > 0) {
+        // 이미 투표가 진행 중이면 수정 불가 (아직 DB에 반영되지 않은 투표 포함)
+        if (voteTallyService.getTally(voteId).totalVotes(vote) > 0) {
             throw new IllegalStateException("이미 투표가 진행 중인 경우 수정할 수 없습니다.");
         }
 
@@ -273,6 +255,11 @@ public class VoteService {
         }
 
         voteRepository.delete(vote);
+        voteTallyService.discard(voteId);
+        voteCastAdmissionService.evict(voteId);
+        voterIndexService.invalidateVotes(List.of(voteId));
+        voteDemographicsService.discard(voteId);
+        twoTierCache.evict(ANALYSIS_CACHE, String.valueOf(voteId));
     }
 
     // 투표 조기 마감 (본인만 가능)
@@ -287,8 +274,9 @@ public class VoteService {
 
         vote.close();
         Vote savedVote = voteRepository.save(vote);
+        voteLiveService.tallyChanged(voteId);
 
-        return VoteResponse.from(savedVote, false, null);
+        return VoteResponse.from(savedVote, false, null, voteTallyService.getTally(voteId));
     }
 
     // Hot 투표 상태 토글 (시스템 계정만 가능)
@@ -328,7 +316,7 @@ public class VoteService {
         }
 
         // 6. 응답 반환
-        return VoteResponse.from(savedVote, false, null);
+        return VoteResponse.from(savedVote, false, null, voteTallyService.getTally(voteId));
     }
 
     // 내가 만든 투표 목록
@@ -341,18 +329,16 @@ public class VoteService {
                 .map(Vote::getId)
                 .collect(Collectors.toList());
 
-        Map<Long, VoteRecord> userVoteRecordMap = voteRecordRepository
-                .findByUserIdAndVoteIdIn(userId, voteIds)
-                .stream()
-                .collect(Collectors.toMap(VoteRecord::getVoteId, record -> record));
+        Map<Long, Long> selections = findSelectedOptions(userId, voteIds);
+
+        Map<Long, VoteTally> tallies = voteTallyService.getTallies(voteIds);
 
         return votes.stream()
                 .map(vote -> {
-                    VoteRecord record = userVoteRecordMap.get(vote.getId());
-                    boolean hasVoted = record != null;
-                    Long selectedOptionId = hasVoted ? record.getSelectedOptionId() : null;
+                    boolean hasVoted = selections.containsKey(vote.getId());
+                    Long selectedOptionId = selections.get(vote.getId());
 
-                    return VoteResponse.from(vote, hasVoted, selectedOptionId);
+                    return VoteResponse.from(vote, hasVoted, selectedOptionId, tallies.get(vote.getId()));
                 })
                 .collect(Collectors.toList());
     }
@@ -372,12 +358,14 @@ public class VoteService {
                 .stream()
                 .collect(Collectors.toMap(Vote::getId, vote -> vote));
 
+        Map<Long, VoteTally> tallies = voteTallyService.getTallies(voteIds);
+
         return records.stream()
                 .map(record -> {
                     Vote vote = voteMap.get(record.getVoteId());
                     if (vote == null) return null;
 
-                    return VoteResponse.from(vote, true, record.getSelectedOptionId());
+                    return VoteResponse.from(vote, true, record.getSelectedOptionId(), tallies.get(vote.getId()));
                 })
                 .filter(response -> response != null)
                 .collect(Collectors.toList());
@@ -389,231 +377,43 @@ public class VoteService {
         Vote vote = voteRepository.findByIdWithOptions(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("투표를 찾을 수 없습니다."));
 
-        // Redis 캐시에서 분석 결과 조회 (1분 TTL)
-        String cacheKey = "vote:analysis:" + voteId;
-        VoteAnalysisDto analysis = redisUtil.get(cacheKey, VoteAnalysisDto.class);
+        VoteTally tally = voteTallyService.getTally(voteId);
+        int totalVotes = tally.totalVotes(vote);
 
-        if (analysis == null) {
-            // 캐시 미스 시 실제 투표 참여 데이터 기반 분석 생성
-            analysis = generateVoteAnalysis(vote);
-            // Redis에 캐싱 (1분 TTL)
-            redisUtil.set(cacheKey, analysis, Duration.ofMinutes(1));
-        }
+        // 분석은 2단 캐시에서 (집계 수치는 매번 최신 카운터 사용, 분석은 짧은 TTL 동안 재사용)
+        VoteAnalysisDto analysis = twoTierCache.get(ANALYSIS_CACHE, String.valueOf(voteId), VoteAnalysisDto.class,
+                () -> buildAnalysis(vote, totalVotes));
 
-        return VoteResultResponse.from(vote, analysis);
+        return VoteResultResponse.from(vote, analysis, tally);
     }
 
-    // 실제 투표 참여 데이터 기반 분석 생성 (최적화됨)
-    private VoteAnalysisDto generateVoteAnalysis(Vote vote) {
-        // 1. 투표 참여자 조회
-        List<VoteRecord> records = voteRecordRepository.findByVoteId(vote.getId());
-
-        if (records.isEmpty()) {
-            // 참여자가 없을 경우 기본 메시지 반환
-            return VoteAnalysisDto.builder()
-                    .mostParticipatedAgeGroup("데이터 없음")
-                    .mostParticipatedPercentage(0)
-                    .genderStats(Map.of())
-                    .ageGroupStats(List.of())
-                    .relatedInterests(List.of())
-                    .funFact("아직 참여자가 없습니다. 첫 투표를 해보세요!")
-                    .build();
+    // 참여자 인구통계 카운터로 분석 생성 (참여자 수와 무관하게 버킷 수만큼만 계산)
+    private VoteAnalysisDto buildAnalysis(Vote vote, int totalVotes) {
+        VoteDemographics demographics = voteDemographicsService.findDemographics(vote.getId());
+        if (demographics == null && totalVotes > 0) {
+            // 카운터 도입 이전의 투표 - 이번에는 빈 분석을 주고 백그라운드에서 구축 (요청 경로에서 전체 기록을 읽지 않음)
+            // 캐시된 빈 분석은 구축이 끝나면 VoteDemographicsRebuildScheduler가 비움
+            voteDemographicsService.requestRebuild(vote.getId());
         }
 
-        // 2. 참여자 ID 목록 (email) - Set으로 중복 제거
-        List<String> participantEmails = records.stream()
-                .map(VoteRecord::getUserId)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 3. 참여자 정보 조회 (2007~2012년생만 필터링)
-        List<User> participants = userRepository.findAllByEmailIn(participantEmails).stream()
-                .filter(user -> user.getBirthYear() != null
-                        && user.getBirthYear() >= 2007
-                        && user.getBirthYear() <= 2012)
-                .collect(Collectors.toList());
-
-        if (participants.isEmpty()) {
-            return VoteAnalysisDto.builder()
-                    .mostParticipatedAgeGroup("데이터 없음")
-                    .mostParticipatedPercentage(0)
-                    .genderStats(Map.of())
-                    .ageGroupStats(List.of())
-                    .relatedInterests(List.of())
-                    .funFact("참여자 연령대 정보가 충분하지 않습니다.")
-                    .build();
-        }
-
-        int totalParticipants = participants.size();
-        int currentYear = Year.now().getValue();
-
-        // 4. 사용자 맵 미리 생성 (중복 조회 방지)
-        Map<String, User> userMap = participants.stream()
-                .collect(Collectors.toMap(User::getEmail, user -> user));
-
-        // 5. 선택지별로 레코드 그룹핑 (한 번만 수행)
-        Map<Long, List<VoteRecord>> recordsByOption = records.stream()
-                .filter(record -> userMap.containsKey(record.getUserId()))
-                .collect(Collectors.groupingBy(VoteRecord::getSelectedOptionId));
-
-        // 6. 한 번의 루프로 모든 통계 계산 (성별, 연령, 관심사)
-        Map<String, Long> ageGroupCounts = new HashMap<>();
-        Map<String, Long> genderCounts = new HashMap<>();
-        Map<String, Long> interestCounts = new HashMap<>();
-
-        for (User user : participants) {
-            // 연령대 통계
-            if (user.getBirthYear() != null && user.getGender() != null) {
-                int age = currentYear - user.getBirthYear();
-                String genderLabel = "MALE".equals(user.getGender()) ? "남성" : "여성";
-                String ageGroupKey = age + "세 " + genderLabel;
-                ageGroupCounts.merge(ageGroupKey, 1L, Long::sum);
-            }
-
-            // 성별 통계
-            if (user.getGender() != null) {
-                String genderLabel = "MALE".equals(user.getGender()) ? "남성" : "여성";
-                genderCounts.merge(genderLabel, 1L, Long::sum);
-            }
-
-            // 관심사 통계
-            if (user.getInterests() != null) {
-                user.getInterests().forEach(interest ->
-                    interestCounts.merge(interest, 1L, Long::sum)
-                );
-            }
-        }
-
-        // 7. 나이 그룹별 퍼센티지 계산 및 정렬
-        List<VoteAnalysisDto.AgeGroupStat> ageGroupStats = ageGroupCounts.entrySet().stream()
-                .map(entry -> VoteAnalysisDto.AgeGroupStat.builder()
-                        .label(entry.getKey())
-                        .percentage((int) Math.round(entry.getValue() * 100.0 / totalParticipants))
-                        .build())
-                .sorted((a, b) -> Integer.compare(b.getPercentage(), a.getPercentage()))
-                .limit(5)
-                .collect(Collectors.toList());
-
-        // 8. 가장 많은 나이 그룹 찾기
-        String mostParticipatedAgeGroup = ageGroupStats.isEmpty() ? "데이터 없음" : ageGroupStats.get(0).getLabel();
-        int mostParticipatedPercentage = ageGroupStats.isEmpty() ? 0 : ageGroupStats.get(0).getPercentage();
-
-        // 9. 성별 통계 퍼센티지 계산
-        Map<String, Integer> genderStats = genderCounts.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> (int) Math.round(entry.getValue() * 100.0 / totalParticipants)
-                ));
-
-        // 10. 관심사 Top 5
-        List<String> relatedInterests = interestCounts.entrySet().stream()
-                .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-        // 11. 재미있는 사실 생성
-        String funFact = generateFunFact(vote, participants, genderStats, mostParticipatedAgeGroup);
-
-        // 12. 선택지별 분석 (이미 그룹핑된 데이터 활용)
-        List<VoteAnalysisDto.OptionAnalysis> optionAnalyses = new ArrayList<>();
-
-        for (VoteOption option : vote.getOptions()) {
-            List<VoteRecord> optionRecords = recordsByOption.getOrDefault(option.getId(), List.of());
-
-            if (optionRecords.isEmpty()) {
-                continue;
-            }
-
-            // 해당 선택지를 선택한 사용자들 (Map lookup으로 O(1) 접근)
-            List<User> optionParticipants = optionRecords.stream()
-                    .map(record -> userMap.get(record.getUserId()))
-                    .filter(user -> user != null)
-                    .collect(Collectors.toList());
-
-            int optionParticipantCount = optionParticipants.size();
-            if (optionParticipantCount == 0) continue;
-
-            // 한 번의 루프로 성별 및 관심사 통계 계산
-            Map<String, Long> optionGenderCounts = new HashMap<>();
-            Map<String, Long> optionInterestCounts = new HashMap<>();
-
-            for (User user : optionParticipants) {
-                // 성별 통계
-                if (user.getGender() != null) {
-                    String genderLabel = "MALE".equals(user.getGender()) ? "남성" : "여성";
-                    optionGenderCounts.merge(genderLabel, 1L, Long::sum);
-                }
-
-                // 관심사 통계
-                if (user.getInterests() != null) {
-                    user.getInterests().forEach(interest ->
-                        optionInterestCounts.merge(interest, 1L, Long::sum)
-                    );
-                }
-            }
-
-            // 성별 퍼센티지 계산
-            Map<String, Integer> optionGenderStats = optionGenderCounts.entrySet().stream()
-                    .collect(Collectors.toMap(
-                            Map.Entry::getKey,
-                            entry -> (int) Math.round(entry.getValue() * 100.0 / optionParticipantCount)
-                    ));
-
-            // 관심사 Top 3
-            List<String> topInterests = optionInterestCounts.entrySet().stream()
-                    .sorted((a, b) -> Long.compare(b.getValue(), a.getValue()))
-                    .limit(3)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
-
-            optionAnalyses.add(VoteAnalysisDto.OptionAnalysis.builder()
-                    .optionId(option.getId())
-                    .optionText(option.getOptionText())
-                    .genderStats(optionGenderStats)
-                    .topInterests(topInterests)
-                    .build());
-        }
-
-        return VoteAnalysisDto.builder()
-                .mostParticipatedAgeGroup(mostParticipatedAgeGroup)
-                .mostParticipatedPercentage(mostParticipatedPercentage)
-                .genderStats(genderStats)
-                .ageGroupStats(ageGroupStats)
-                .relatedInterests(relatedInterests)
-                .funFact(funFact)
-                .optionAnalyses(optionAnalyses)
-                .build();
+        return VoteAnalysisBuilder.build(
+                demographics != null ? demographics : new VoteDemographics(),
+                vote.getOptions(),
+                totalVotes,
+                Year.now().getValue()
+        );
     }
 
-    // 재미있는 사실 생성
-    private String generateFunFact(Vote vote, List<User> participants, Map<String, Integer> genderStats, String mostParticipatedAgeGroup) {
-        int totalVotes = vote.getTotalVotes();
-
-        StringBuilder funFact = new StringBuilder();
-        funFact.append("이 투표는 현재 ").append(totalVotes).append("명이 참여했으며, ");
-
-        // 성별 정보
-        if (!genderStats.isEmpty()) {
-            Map.Entry<String, Integer> dominantGender = genderStats.entrySet().stream()
-                    .max(Map.Entry.comparingByValue())
-                    .orElse(null);
-
-            if (dominantGender != null) {
-                funFact.append(dominantGender.getKey())
-                        .append(" 참여자가 전체의 ")
-                        .append(dominantGender.getValue())
-                        .append("%를 차지하고 있습니다. ");
-            }
+    // 사용자가 선택한 선택지 조회 (참여자 인덱스 우선, 구축 전이면 DB 조회)
+    private Map<Long, Long> findSelectedOptions(String userId, List<Long> voteIds) {
+        if (voterIndexService.isReady()) {
+            return voterIndexService.findSelectedOptions(userId, voteIds);
         }
 
-        // 나이 그룹 정보
-        if (!"데이터 없음".equals(mostParticipatedAgeGroup)) {
-            funFact.append("가장 활발한 연령대는 ")
-                    .append(mostParticipatedAgeGroup)
-                    .append("입니다!");
+        Map<Long, Long> selections = new HashMap<>();
+        for (VoteRecord record : voteRecordRepository.findByUserIdAndVoteIdIn(userId, voteIds)) {
+            selections.put(record.getVoteId(), record.getSelectedOptionId());
         }
-
-        return funFact.toString();
+        return selections;
     }
-}
\ No newline at end of file
+}
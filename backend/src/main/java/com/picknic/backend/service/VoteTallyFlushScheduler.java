@@ -0,0 +1,60 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteTallyFlushScheduler {
+
+    static final String FLUSH_LOCK_KEY = "vote:tally:flush-lock";
+
+    private final VoteTallyService voteTallyService;
+    private final RedisUtil redisUtil;
+
+    @Value("${vote.tally.flush-lock-ttl-ms:30000}")
+    private long flushLockTtlMs;
+
+    /**
+     * Redis에 누적된 투표 수 증분을 주기적으로 DB에 반영
+     *
+     * 여러 서버가 같은 스냅샷을 중복 반영하지 않도록 Redis 락을 잡은 서버만 실행함
+     * 실패한 투표는 증분이 남아 있으므로 다음 주기에 다시 시도됨
+     */
+    @Scheduled(fixedDelayString = "${vote.tally.flush-interval-ms:1000}")
+    public void flushTallies() {
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(FLUSH_LOCK_KEY, lockToken, Duration.ofMillis(flushLockTtlMs))) {
+            return;
+        }
+
+        try {
+            Set<Long> dirtyVoteIds = voteTallyService.getDirtyVoteIds();
+            int failed = 0;
+
+            for (Long voteId : dirtyVoteIds) {
+                try {
+                    voteTallyService.flush(voteId);
+                } catch (Exception e) {
+                    failed++;
+                    log.error("투표 수 반영 실패 (다음 주기에 재시도) - voteId: {}, error: {}", voteId, e.getMessage());
+                }
+            }
+
+            if (!dirtyVoteIds.isEmpty()) {
+                log.debug("투표 수 반영 완료 - 대상: {}, 실패: {}", dirtyVoteIds.size(), failed);
+            }
+        } finally {
+            redisUtil.releaseLock(FLUSH_LOCK_KEY, lockToken);
+        }
+    }
+}
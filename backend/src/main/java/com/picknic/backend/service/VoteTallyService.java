@@ -0,0 +1,304 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.dto.vote.VoteTally;
+import com.picknic.backend.repository.VoteOptionRepository;
+import com.picknic.backend.repository.VoteRepository;
+import com.picknic.backend.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 수 집계 엔진 (write-behind)
+ *
+ * 투표할 때마다 votes / vote_options 행을 직접 갱신하면 인기 투표에 요청이 몰릴 때
+ * 같은 행의 락을 두고 트랜잭션이 직렬화된다.
+ * 대신 Redis 해시(vote:tally:{voteId})에 증분만 누적하고,
+ * VoteTallyFlushScheduler가 주기적으로 모아서 한 번의 UPDATE로 DB에 반영한다.
+ *
+ * 해시 필드: "total" → 전체 투표 수 증분, "{optionId}" → 선택지별 증분
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteTallyService {
+
+    static final String TALLY_KEY_PREFIX = "vote:tally:";
+    static final String DIRTY_KEY = "vote:tally:dirty";
+    private static final String TOTAL_FIELD = "total";
+
+    // 증분 누적 + 반영 대기 목록 등록을 원자적으로 처리
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'total', 1) " +
+            "redis.call('HINCRBY', KEYS[1], ARGV[2], 1) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // DB 반영이 끝난 스냅샷만큼 차감 (그 사이 들어온 증분은 유지됨)
+    // 모든 필드가 0이 되면 반영 대기 목록에서 제거
+    private static final RedisScript<Long> SUBTRACT_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do " +
+            "  local remaining = redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1])) " +
+            "  if remaining == 0 then redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+            "end " +
+            "if redis.call('HLEN', KEYS[1]) == 0 then redis.call('SREM', KEYS[2], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    // 관리자 재계산용 스냅샷: 미반영 증분과, 큐에서 저장을 기다리는 이 투표의 기록(userId, optionId)을 한 번에 읽음
+    // 승인 스크립트가 증분과 큐 적재를 함께 하므로 둘을 같은 시점에 읽어야 서로 어긋나지 않음
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECOUNT_SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            "local queued = {} " +
+            "for _, entry in ipairs(redis.call('LRANGE', KEYS[2], 0, -1)) do " +
+            "  local ok, record = pcall(cjson.decode, entry) " +
+            "  if ok and tostring(record.voteId) == ARGV[1] then " +
+            "    table.insert(queued, tostring(record.userId)) " +
+            "    table.insert(queued, tostring(record.optionId)) " +
+            "  end " +
+            "end " +
+            "return {redis.call('HGETALL', KEYS[1]), queued}",
+            List.class);
+
+    private final RedisUtil redisUtil;
+    private final VoteRepository voteRepository;
+    private final VoteOptionRepository voteOptionRepository;
+
+    @Value("${vote.tally.recount-lock-ttl-ms:600000}")
+    private long recountLockTtlMs;
+
+    /**
+     * 투표 1건 반영 (Redis 증분만 기록, DB는 건드리지 않음)
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택지 ID
+     */
+    public void increment(Long voteId, Long optionId) {
+        redisUtil.executeScript(
+                INCREMENT_SCRIPT,
+                List.of(tallyKey(voteId), DIRTY_KEY),
+                String.valueOf(voteId),
+                String.valueOf(optionId)
+        );
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증분 조회
+     *
+     * @param voteId 투표 ID
+     * @return VoteTally (Redis 오류 시 빈 증분)
+     */
+    public VoteTally getTally(Long voteId) {
+        return toTally(redisUtil.getHashEntries(tallyKey(voteId)));
+    }
+
+    /**
+     * 여러 투표의 증분 조회 (피드 렌더링용, 파이프라인 한 번)
+     *
+     * @param voteIds 투표 ID 목록
+     * @return voteId → VoteTally
+     */
+    public Map<Long, VoteTally> getTallies(Collection<Long> voteIds) {
+        Map<String, Map<String, String>> entries = redisUtil.getHashEntries(
+                voteIds.stream().map(this::tallyKey).collect(Collectors.toList()));
+
+        Map<Long, VoteTally> tallies = new HashMap<>();
+        for (Long voteId : voteIds) {
+            tallies.put(voteId, toTally(entries.getOrDefault(tallyKey(voteId), Map.of())));
+        }
+        return tallies;
+    }
+
+    /**
+     * 반영 대기 중인 투표 ID 목록
+     */
+    public Set<Long> getDirtyVoteIds() {
+        return redisUtil.getSetMembers(DIRTY_KEY).stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 누적된 증분을 버림 (투표 삭제)
+     *
+     * 관리자 재계산처럼 투표가 계속 들어오는 경우에는 snapshotForRecount로 읽은 만큼만 차감할 것
+     *
+     * @param voteId 투표 ID
+     */
+    public void discard(Long voteId) {
+        redisUtil.delete(tallyKey(voteId));
+        redisUtil.removeFromSet(DIRTY_KEY, String.valueOf(voteId));
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영
+     *
+     * 1. 현재 증분의 스냅샷을 읽고
+     * 2. 원자적 UPDATE (count = count + delta)로 DB에 더한 뒤
+     * 3. 커밋이 성공한 경우에만 Redis에서 스냅샷만큼 차감한다.
+     *
+     * DB 반영이 실패하면 증분은 Redis에 그대로 남아 다음 주기에 재시도되므로 유실되지 않는다.
+     *
+     * @param voteId 투표 ID
+     */
+    @Transactional
+    public void flush(Long voteId) {
+        String key = tallyKey(voteId);
+        Map<String, String> snapshot = redisUtil.getHashEntries(key);
+        if (snapshot.isEmpty()) {
+            redisUtil.removeFromSet(DIRTY_KEY, String.valueOf(voteId));
+            return;
+        }
+
+        VoteTally tally = toTally(snapshot);
+        if (tally.getTotalDelta() != 0) {
+            voteRepository.incrementTotalVotes(voteId, (int) tally.getTotalDelta());
+        }
+        tally.getOptionDeltas().forEach((optionId, delta) -> {
+            if (delta != 0) {
+                voteOptionRepository.incrementVoteCount(voteId, optionId, delta.intValue());
+            }
+        });
+
+        subtractAfterCommit(voteId, snapshot);
+
+        log.debug("투표 수 반영 - voteId: {}, total: +{}", voteId, tally.getTotalDelta());
+    }
+
+    /**
+     * 관리자 재계산 준비 - 트랜잭션이 끝날 때까지 증분 반영과 투표 기록 저장을 멈춤
+     *
+     * 재계산은 vote_records를 기준으로 하지만, 승인된 투표는 큐(vote:records:queue)에서 저장을 기다리는 동안에도
+     * 증분에 포함되어 있다. 재계산 중에 기록이 큐에서 테이블로 옮겨지거나 증분이 DB에 더해지면 어긋나므로
+     * VoteTallyFlushScheduler, VoteRecordWriteScheduler의 락을 잡고 커밋·롤백 후 해제한다.
+     * 새 투표 승인은 막지 않는다 (증분과 큐에 쌓였다가 락이 풀린 뒤 반영됨).
+     *
+     * @return 다른 서버가 반영·저장 중이라 락을 잡지 못하면 false
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public boolean lockForRecount() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("투표 수 재계산은 트랜잭션 안에서 실행해야 합니다.");
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+        Duration ttl = Duration.ofMillis(recountLockTtlMs);
+        if (!redisUtil.setIfAbsent(VoteTallyFlushScheduler.FLUSH_LOCK_KEY, lockToken, ttl)) {
+            return false;
+        }
+        if (!redisUtil.setIfAbsent(VoteRecordWriteScheduler.WRITE_LOCK_KEY, lockToken, ttl)) {
+            redisUtil.releaseLock(VoteTallyFlushScheduler.FLUSH_LOCK_KEY, lockToken);
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                redisUtil.releaseLock(VoteRecordWriteScheduler.WRITE_LOCK_KEY, lockToken);
+                redisUtil.releaseLock(VoteTallyFlushScheduler.FLUSH_LOCK_KEY, lockToken);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 재계산한 투표 수에 더할, 아직 vote_records에 저장되지 않은 투표 수
+     *
+     * lockForRecount()로 락을 잡은 트랜잭션에서 호출한다.
+     * 큐에 남은 이 투표의 기록 중 이미 저장된 사용자(커밋 후 큐 정리가 안 된 기록)는 빼고 센다.
+     * 증분은 버리지 않고 읽은 시점의 스냅샷만 커밋 후 차감하므로, 재계산 중에 들어온 투표는 다음 반영 때 더해진다.
+     *
+     * @param voteId 투표 ID
+     * @param savedUserIds vote_records에 저장된 참여자 (재계산 기준)
+     * @return 큐에서 저장을 기다리는 투표 수
+     */
+    @SuppressWarnings("unchecked")
+    public VoteTally snapshotForRecount(Long voteId, Set<String> savedUserIds) {
+        List<List<String>> result = redisUtil.executeScript(
+                RECOUNT_SNAPSHOT_SCRIPT,
+                List.of(tallyKey(voteId), VoteCastAdmissionService.RECORD_QUEUE_KEY),
+                String.valueOf(voteId));
+
+        Map<String, String> snapshot = new HashMap<>();
+        List<String> tally = result.get(0);
+        for (int i = 0; i + 1 < tally.size(); i += 2) {
+            snapshot.put(tally.get(i), tally.get(i + 1));
+        }
+
+        long queuedTotal = 0;
+        Map<Long, Long> queuedOptions = new HashMap<>();
+        List<String> queued = result.get(1);
+        for (int i = 0; i + 1 < queued.size(); i += 2) {
+            if (savedUserIds.contains(queued.get(i))) {
+                continue;
+            }
+            queuedTotal++;
+            queuedOptions.merge(Long.valueOf(queued.get(i + 1)), 1L, Long::sum);
+        }
+
+        if (!snapshot.isEmpty()) {
+            subtractAfterCommit(voteId, snapshot);
+        }
+        return new VoteTally(queuedTotal, queuedOptions);
+    }
+
+    // 커밋이 성공한 경우에만 Redis에서 스냅샷만큼 차감
+    private void subtractAfterCommit(Long voteId, Map<String, String> snapshot) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                List<String> args = new ArrayList<>();
+                args.add(String.valueOf(voteId));
+                snapshot.forEach((field, value) -> {
+                    args.add(field);
+                    args.add(value);
+                });
+                try {
+                    redisUtil.executeScript(SUBTRACT_SCRIPT, List.of(tallyKey(voteId), DIRTY_KEY), args.toArray(new String[0]));
+                } catch (Exception e) {
+                    // 차감 실패 시 다음 주기에 같은 증분이 한 번 더 반영될 수 있음 (유실보다 중복을 택함)
+                    log.error("투표 수 증분 차감 실패 - voteId: {}", voteId, e);
+                }
+            }
+        });
+    }
+
+    private VoteTally toTally(Map<String, String> entries) {
+        if (entries.isEmpty()) {
+            return VoteTally.EMPTY;
+        }
+
+        long totalDelta = 0;
+        Map<Long, Long> optionDeltas = new HashMap<>();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            long delta = Long.parseLong(entry.getValue());
+            if (TOTAL_FIELD.equals(entry.getKey())) {
+                totalDelta = delta;
+            } else {
+                optionDeltas.put(Long.valueOf(entry.getKey()), delta);
+            }
+        }
+        return new VoteTally(totalDelta, optionDeltas);
+    }
+
+    private String tallyKey(Long voteId) {
+        return TALLY_KEY_PREFIX + voteId;
+    }
+}
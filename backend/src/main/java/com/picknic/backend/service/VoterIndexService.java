@@ -0,0 +1,500 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.dto.vote.VoteRecordIndexRow;
+import com.picknic.backend.repository.UserRepository;
+import com.picknic.backend.repository.VoteRecordRepository;
+import com.picknic.backend.util.RedisUtil;
+import com.picknic.backend.util.TwoTierCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 참여자 인덱스 (노드 로컬, roaring bitmap)
+ *
+ * 피드를 그릴 때마다 vote_records에서 "이 사용자가 투표했는지 / 무엇을 골랐는지"를 조회하는 대신
+ * 투표별 참여자 비트맵과 선택지별 비트맵을 메모리에 두고 조회한다.
+ * 사용자는 이메일 대신 users.id(정수)로 비트맵에 담는다.
+ *
+ * - 시작 시: 디스크 스냅샷을 읽고 워터마크 이후의 vote_records만 추가로 반영 (스냅샷이 없으면 전체 구축)
+ * - 투표 시: 이 노드에서 승인된 투표는 즉시 반영
+ * - 주기적으로: 다른 노드의 투표를 vote_records id 워터마크 기준으로 추적 (VoterIndexSyncScheduler)
+ * - 기록 삭제 시: 투표 삭제, 관리자 정리처럼 기록이 지워진 투표는 워터마크로 추적할 수 없으므로
+ *   cache:invalidate 채널에 "voter-index|{epoch}|{voteId,...}" 를 발행해 모든 노드가 다음 추적 주기에 다시 구축한다.
+ *   epoch(vote:voter-index:epoch)는 무효화마다 증가하며 스냅샷에 기록해 두고,
+ *   노드가 내려가 있는 동안 무효화가 있었으면(스냅샷 epoch < 현재 epoch) 스냅샷을 버리고 전체 구축한다.
+ *
+ * 구축이 끝나기 전(isReady() == false)에는 호출 측이 DB 조회로 대체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoterIndexService {
+
+    private static final int SNAPSHOT_MAGIC = 0x564F5452; // "VOTR"
+    private static final int SNAPSHOT_VERSION = 2;
+
+    // cache:invalidate 메시지의 영역 이름 (TwoTierCache 영역과 겹치지 않음)
+    static final String INVALIDATION_REGION = "voter-index";
+    private static final String INVALIDATION_PREFIX = INVALIDATION_REGION + "|";
+    private static final String EPOCH_KEY = "vote:voter-index:epoch";
+
+    private final VoteRecordRepository voteRecordRepository;
+    private final UserRepository userRepository;
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${vote.voter-index.snapshot-path:./data/voter-index.bin}")
+    private String snapshotPath;
+
+    @Value("${vote.voter-index.page-size:5000}")
+    private int pageSize;
+
+    // vote_records id는 커밋 순서대로 증가하지 않을 수 있으므로 워터마크보다 조금 앞에서부터 다시 읽음 (추가는 멱등)
+    @Value("${vote.voter-index.tail-lookback:1000}")
+    private long tailLookback;
+
+    private volatile Map<Long, VoteVoters> votes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> userNos = new ConcurrentHashMap<>();
+    private final Object syncLock = new Object();
+
+    private volatile long watermark = 0L;
+    private volatile boolean ready = false;
+
+    // 수신한 무효화 (리스너 스레드에서 DB를 읽지 않도록 모아 두고 catchUp에서 반영)
+    private final Object invalidationLock = new Object();
+    private final Set<Long> pendingReloads = new HashSet<>();
+    private long receivedEpoch = 0L;
+    private boolean rebuildRequested = false;
+    // 메모리 인덱스에 반영된 epoch (스냅샷에 기록)
+    private volatile long appliedEpoch = 0L;
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCache.INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 인덱스 구축 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 사용자가 선택한 선택지 조회
+     *
+     * @param userId 사용자 ID (이메일)
+     * @param voteIds 투표 ID 목록
+     * @return voteId → 선택한 optionId (참여한 투표만 포함, 선택지를 알 수 없으면 null 값)
+     */
+    public Map<Long, Long> findSelectedOptions(String userId, Collection<Long> voteIds) {
+        Map<Long, Long> selections = new HashMap<>();
+        Integer userNo = resolveUserNo(userId);
+        if (userNo == null) {
+            return selections;
+        }
+
+        for (Long voteId : voteIds) {
+            VoteVoters voters = votes.get(voteId);
+            if (voters != null && voters.contains(userNo)) {
+                selections.put(voteId, voters.selectedOption(userNo));
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * 투표 참여 여부
+     *
+     * @param voteId 투표 ID
+     * @param userId 사용자 ID (이메일)
+     */
+    public boolean hasVoted(Long voteId, String userId) {
+        Integer userNo = resolveUserNo(userId);
+        if (userNo == null) {
+            return false;
+        }
+        VoteVoters voters = votes.get(voteId);
+        return voters != null && voters.contains(userNo);
+    }
+
+    /**
+     * 이 노드에서 승인된 투표 반영
+     *
+     * @param voteId 투표 ID
+     * @param optionId 선택지 ID
+     * @param userId 사용자 ID (이메일)
+     */
+    public void add(Long voteId, Long optionId, String userId) {
+        Integer userNo = resolveUserNo(userId);
+        if (userNo == null) {
+            return;
+        }
+        votes.computeIfAbsent(voteId, id -> new VoteVoters()).add(userNo, optionId);
+    }
+
+    /**
+     * 기록이 삭제된 투표를 모든 노드에서 DB 기준으로 다시 구축 (투표 삭제, 관리자 데이터 정리 등)
+     *
+     * 트랜잭션 안에서 호출하면 커밋 후에 발행한다 (다른 노드가 삭제 전 기록을 다시 읽지 않도록).
+     * 이 노드를 포함한 모든 노드가 메시지를 받아 다음 추적 주기에 다시 구축한다.
+     *
+     * @param voteIds 투표 ID 목록
+     */
+    public void invalidateVotes(Collection<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        Set<Long> targets = new HashSet<>(voteIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation(targets);
+                }
+            });
+        } else {
+            publishInvalidation(targets);
+        }
+    }
+
+    /**
+     * 인덱스 구축 (시작 시 1회)
+     *
+     * 스냅샷이 있으면 읽고, 워터마크 이후의 기록만 DB에서 반영한다.
+     */
+    public void initialize() {
+        synchronized (syncLock) {
+            long startedAt = System.currentTimeMillis();
+
+            Long currentEpoch = redisUtil.getCounters(List.of(EPOCH_KEY)).get(0);
+            if (!loadSnapshot(currentEpoch)) {
+                votes.clear();
+                watermark = 0L;
+                appliedEpoch = 0L;
+            }
+            if (currentEpoch != null) {
+                appliedEpoch = currentEpoch;
+            }
+            int applied = applyRecordsAfter(watermark, votes);
+
+            synchronized (invalidationLock) {
+                receivedEpoch = Math.max(receivedEpoch, appliedEpoch);
+            }
+            ready = true;
+            log.info("투표 참여자 인덱스 구축 완료 - 투표 수: {}, 반영 기록: {}, 워터마크: {}, 소요: {}ms",
+                    votes.size(), applied, watermark, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * 수신한 무효화 반영 후, 다른 노드에서 저장된 투표 기록 추적
+     */
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        synchronized (syncLock) {
+            applyInvalidations();
+            int applied = applyRecordsAfter(Math.max(0L, watermark - tailLookback), votes);
+            if (applied > 0) {
+                log.debug("투표 참여자 인덱스 추적 - 반영 기록: {}, 워터마크: {}", applied, watermark);
+            }
+        }
+    }
+
+    /**
+     * 디스크에 스냅샷 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public void writeSnapshot() {
+        if (!ready) {
+            return;
+        }
+        synchronized (syncLock) {
+            Path target = Paths.get(snapshotPath);
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try {
+                if (target.getParent() != null) {
+                    Files.createDirectories(target.getParent());
+                }
+
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(SNAPSHOT_MAGIC);
+                    out.writeInt(SNAPSHOT_VERSION);
+                    out.writeLong(watermark);
+                    out.writeLong(appliedEpoch);
+
+                    Map<Long, VoteVoters> current = new HashMap<>(votes);
+                    out.writeInt(current.size());
+                    for (Map.Entry<Long, VoteVoters> entry : current.entrySet()) {
+                        out.writeLong(entry.getKey());
+                        entry.getValue().writeTo(out);
+                    }
+                }
+
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                log.debug("투표 참여자 인덱스 스냅샷 저장 - path: {}, 워터마크: {}", target, watermark);
+            } catch (IOException e) {
+                log.error("투표 참여자 인덱스 스냅샷 저장 실패 - path: {}", target, e);
+            }
+        }
+    }
+
+    private boolean loadSnapshot(Long currentEpoch) {
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            return false;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("투표 참여자 인덱스 스냅샷 형식이 달라 전체 구축합니다 - path: {}", path);
+                return false;
+            }
+
+            long snapshotWatermark = in.readLong();
+            long snapshotEpoch = in.readLong();
+            if (currentEpoch != null && snapshotEpoch < currentEpoch) {
+                log.info("스냅샷 이후 다시 구축할 투표가 생겨 전체 구축합니다 - 스냅샷 epoch: {}, 현재 epoch: {}",
+                        snapshotEpoch, currentEpoch);
+                return false;
+            }
+            int voteCount = in.readInt();
+            Map<Long, VoteVoters> loaded = new HashMap<>();
+            for (int i = 0; i < voteCount; i++) {
+                long voteId = in.readLong();
+                loaded.put(voteId, VoteVoters.readFrom(in));
+            }
+
+            votes.clear();
+            votes.putAll(loaded);
+            watermark = snapshotWatermark;
+            appliedEpoch = snapshotEpoch;
+            log.info("투표 참여자 인덱스 스냅샷 로드 - 투표 수: {}, 워터마크: {}", voteCount, snapshotWatermark);
+            return true;
+        } catch (IOException e) {
+            log.warn("투표 참여자 인덱스 스냅샷 로드 실패, 전체 구축합니다 - path: {}, error: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private void publishInvalidation(Set<Long> voteIds) {
+        Long epoch = redisUtil.increment(EPOCH_KEY);
+        if (epoch == null) {
+            // 다른 노드에 알릴 수 없으므로 이 노드만이라도 반영
+            log.error("투표 참여자 인덱스 무효화 발행 실패 (이 노드만 반영) - voteIds: {}", voteIds);
+            synchronized (invalidationLock) {
+                pendingReloads.addAll(voteIds);
+            }
+            return;
+        }
+        String ids = voteIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        redisUtil.publish(TwoTierCache.INVALIDATION_CHANNEL, INVALIDATION_PREFIX + epoch + "|" + ids);
+    }
+
+    // cache:invalidate 수신 - voter-index 영역 메시지만 처리 (나머지는 TwoTierCache, PrincipalCache 몫)
+    private void onInvalidation(String message) {
+        if (!message.startsWith(INVALIDATION_PREFIX)) {
+            return;
+        }
+        String[] parts = message.substring(INVALIDATION_PREFIX.length()).split("\\|", 2);
+        try {
+            long epoch = Long.parseLong(parts[0]);
+            Set<Long> voteIds = new HashSet<>();
+            if (parts.length > 1 && !parts[1].isEmpty()) {
+                for (String id : parts[1].split(",")) {
+                    voteIds.add(Long.valueOf(id));
+                }
+            }
+
+            synchronized (invalidationLock) {
+                // 중간 epoch를 놓쳤으면(구독 끊김 등) 어느 투표인지 알 수 없으므로 전체 구축
+                if (ready && epoch > receivedEpoch + 1) {
+                    rebuildRequested = true;
+                }
+                receivedEpoch = Math.max(receivedEpoch, epoch);
+                pendingReloads.addAll(voteIds);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("투표 참여자 인덱스 무효화 메시지 형식 오류 - message: {}", message);
+        }
+    }
+
+    // syncLock 안에서 호출
+    private void applyInvalidations() {
+        Set<Long> reloads;
+        boolean rebuild;
+        long epoch;
+        synchronized (invalidationLock) {
+            reloads = new HashSet<>(pendingReloads);
+            rebuild = rebuildRequested;
+            epoch = receivedEpoch;
+            pendingReloads.clear();
+            rebuildRequested = false;
+        }
+
+        try {
+            if (rebuild) {
+                Map<Long, VoteVoters> rebuilt = new ConcurrentHashMap<>();
+                int applied = applyRecordsAfter(0L, rebuilt);
+                votes = rebuilt;
+                log.info("투표 참여자 인덱스 전체 재구축 - 투표 수: {}, 반영 기록: {}", rebuilt.size(), applied);
+            } else {
+                reloads.forEach(this::reloadVote);
+                if (!reloads.isEmpty()) {
+                    log.info("투표 참여자 인덱스 재구축 - voteIds: {}", reloads);
+                }
+            }
+            appliedEpoch = Math.max(appliedEpoch, epoch);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            synchronized (invalidationLock) {
+                pendingReloads.addAll(reloads);
+                rebuildRequested |= rebuild;
+            }
+            throw e;
+        }
+    }
+
+    // 특정 투표의 인덱스를 DB 기준으로 다시 구축 (기록이 없으면 제거)
+    private void reloadVote(Long voteId) {
+        VoteVoters rebuilt = new VoteVoters();
+        List<VoteRecordIndexRow> rows = voteRecordRepository.findIndexRowsByVoteId(voteId);
+        if (rows.isEmpty()) {
+            votes.remove(voteId);
+            return;
+        }
+        for (VoteRecordIndexRow row : rows) {
+            rebuilt.add(Math.toIntExact(row.getUserNo()), row.getSelectedOptionId());
+            userNos.putIfAbsent(row.getUserId(), Math.toIntExact(row.getUserNo()));
+        }
+        votes.put(voteId, rebuilt);
+    }
+
+    private int applyRecordsAfter(long afterId, Map<Long, VoteVoters> target) {
+        int applied = 0;
+        long cursor = afterId;
+
+        while (true) {
+            List<VoteRecordIndexRow> rows = voteRecordRepository.findIndexRowsAfter(cursor, PageRequest.of(0, pageSize));
+            for (VoteRecordIndexRow row : rows) {
+                int userNo = Math.toIntExact(row.getUserNo());
+                target.computeIfAbsent(row.getVoteId(), id -> new VoteVoters()).add(userNo, row.getSelectedOptionId());
+                userNos.putIfAbsent(row.getUserId(), userNo);
+                cursor = row.getRecordId();
+            }
+            applied += rows.size();
+
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+
+        watermark = Math.max(watermark, cursor);
+        return applied;
+    }
+
+    private Integer resolveUserNo(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        Integer cached = userNos.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Integer userNo = userRepository.findIdByEmail(userId)
+                .map(Math::toIntExact)
+                .orElse(null);
+        if (userNo != null) {
+            userNos.put(userId, userNo);
+        }
+        return userNo;
+    }
+
+    /**
+     * 투표 하나의 참여자 비트맵 + 선택지별 비트맵
+     *
+     * RoaringBitmap은 스레드 안전하지 않으므로 인스턴스 단위로 동기화함
+     */
+    private static final class VoteVoters {
+
+        private final RoaringBitmap voters = new RoaringBitmap();
+        private final Map<Long, RoaringBitmap> optionVoters = new HashMap<>();
+
+        synchronized void add(int userNo, Long optionId) {
+            voters.add(userNo);
+            if (optionId != null) {
+                optionVoters.computeIfAbsent(optionId, id -> new RoaringBitmap()).add(userNo);
+            }
+        }
+
+        synchronized boolean contains(int userNo) {
+            return voters.contains(userNo);
+        }
+
+        synchronized Long selectedOption(int userNo) {
+            for (Map.Entry<Long, RoaringBitmap> entry : optionVoters.entrySet()) {
+                if (entry.getValue().contains(userNo)) {
+                    return entry.getKey();
+                }
+            }
+            return null;
+        }
+
+        synchronized void writeTo(DataOutputStream out) throws IOException {
+            voters.runOptimize();
+            voters.serialize(out);
+            out.writeInt(optionVoters.size());
+            for (Map.Entry<Long, RoaringBitmap> entry : optionVoters.entrySet()) {
+                out.writeLong(entry.getKey());
+                entry.getValue().runOptimize();
+                entry.getValue().serialize(out);
+            }
+        }
+
+        static VoteVoters readFrom(DataInputStream in) throws IOException {
+            VoteVoters loaded = new VoteVoters();
+            loaded.voters.deserialize(in);
+            int optionCount = in.readInt();
+            for (int i = 0; i < optionCount; i++) {
+                long optionId = in.readLong();
+                RoaringBitmap bitmap = new RoaringBitmap();
+                bitmap.deserialize(in);
+                loaded.optionVoters.put(optionId, bitmap);
+            }
+            return loaded;
+        }
+    }
+}
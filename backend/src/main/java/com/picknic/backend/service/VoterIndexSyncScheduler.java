@@ -0,0 +1,57 @@
+package com.picknic.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoterIndexSyncScheduler {
+
+    private final VoterIndexService voterIndexService;
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 투표 참여자 인덱스 구축
+     * 구축 중에는 VoteService가 DB 조회로 대체하므로 시작을 막지 않음
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            voterIndexService.initialize();
+        } catch (Exception e) {
+            log.error("투표 참여자 인덱스 구축 실패 (DB 조회로 대체) - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 서버에서 저장된 투표 기록을 주기적으로 반영
+     */
+    @Scheduled(fixedDelayString = "${vote.voter-index.tail-interval-ms:1000}")
+    public void catchUp() {
+        try {
+            voterIndexService.catchUp();
+        } catch (Exception e) {
+            log.error("투표 참여자 인덱스 추적 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 시 전체 구축을 피하기 위해 주기적으로 스냅샷 저장
+     */
+    @Scheduled(fixedDelayString = "${vote.voter-index.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        voterIndexService.writeSnapshot();
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        voterIndexService.writeSnapshot();
+    }
+}
@@ -5,40 +5,68 @@ import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.io.File;
 import java.net.URL;
 import java.security.interfaces.RSAPublicKey;
-
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cognito ID 토큰 검증
+ *
+ * 공개키(JWKS)별 JWTVerifier를 미리 만들어 두고 kid로 찾아 쓴다.
+ * 같은 키로 서명된 토큰은 헤더 세그먼트가 동일하므로 헤더 → 검증기도 캐시해
+ * 요청마다 헤더를 파싱하지 않는다.
+ * 헤더 캐시는 JWKS를 읽을 때마다 검증기 목록과 함께 새로 만들어(Keys) 한 번에 교체하므로
+ * 갱신 전 키로 찾은 검증기가 갱신 후 캐시에 들어가지 않는다.
+ *
+ * - 알 수 없는 kid: JWKS를 다시 읽음 (jwks-min-refresh-interval-ms 간격으로 제한, 동시 요청은 한 번만 읽음)
+ * - 주기적 갱신: CognitoJwksRefreshScheduler가 refresh() 호출 (키 교체 대비)
+ * - aws.cognito.jwks-file 이 설정되면 원격 대신 로컬 파일에서 읽음 (테스트, 벤치마크용)
+ */
+@Slf4j
 @Component
 public class CognitoTokenValidator {
 
+    // 헤더 → 검증기 캐시 상한 (헤더를 바꿔 보내는 요청으로 캐시가 커지지 않도록)
+    private static final int MAX_CACHED_HEADERS = 32;
+
+    // Cognito 토큰이 아닌 헤더 (kid 없음 - 자체 발급 토큰 등)
+    private static final JWTVerifier NOT_COGNITO = JWT.require(Algorithm.none()).build();
+
     @Value("${aws.cognito.region}")
     private String region;
 
     @Value("${aws.cognito.user-pool-id}")
     private String userPoolId;
 
-    private JWKSet jwkSet;
+    @Value("${aws.cognito.jwks-file:}")
+    private String jwksFile;
+
+    @Value("${aws.cognito.jwks-min-refresh-interval-ms:60000}")
+    private long minRefreshIntervalMs;
+
     private String issuer;
 
+    private volatile Keys keys = new Keys(Map.of());
+    private volatile long lastRefreshAt;
+
     @PostConstruct
     public void init() {
-        // Cognito JWKS URL: https://cognito-idp.{region}.amazonaws.com/{userPoolId}/.well-known/jwks.json
-        String jwksUrl = String.format(
-            "https://cognito-idp.%s.amazonaws.com/%s/.well-known/jwks.json",
-            region, userPoolId
-        );
+        issuer = String.format("https://cognito-idp.%s.amazonaws.com/%s", region, userPoolId);
 
         try {
-            URL url = new URL(jwksUrl);
-            jwkSet = JWKSet.load(url);
-            issuer = String.format("https://cognito-idp.%s.amazonaws.com/%s", region, userPoolId);
+            loadVerifiers();
         } catch (Exception e) {
             throw new RuntimeException("Failed to load JWKS from Cognito", e);
         }
@@ -46,36 +74,34 @@ public class CognitoTokenValidator {
 
     public DecodedJWT validateAndDecode(String idToken) throws JWTVerificationException {
         try {
-            // 1. JWT 파싱 (검증 없이)
-            DecodedJWT jwt = JWT.decode(idToken);
-
-            // 2. kid(key ID)로 공개키 찾기
-            String kid = jwt.getKeyId();
-            JWK jwk = jwkSet.getKeyByKeyId(kid);
-            if (jwk == null) {
-                throw new JWTVerificationException("No matching key found");
+            // 1. 헤더로 검증기 찾기 (처음 보는 헤더만 파싱)
+            JWTVerifier verifier = findVerifier(idToken);
+            if (verifier == NOT_COGNITO) {
+                throw new JWTVerificationException("Not a Cognito token");
             }
 
-            // 3. RS256 검증기 생성
-            RSAPublicKey publicKey = ((RSAKey) jwk).toRSAPublicKey();
-            Algorithm algorithm = Algorithm.RSA256(publicKey, null);
-
-            // 4. JWT 검증 (서명, issuer, 만료시간)
-            // leeway: 시계 동기화 문제를 위해 60초 여유 시간 추가
-            JWTVerifier verifier = JWT.require(algorithm)
-                .withIssuer(issuer)
-                .withClaim("token_use", "id") // ID 토큰만 허용
-                .acceptLeeway(60) // 60초 leeway 추가 (clock skew 허용)
-                .build();
-
-            DecodedJWT verified = verifier.verify(idToken);
-            return verified;
+            // 2. JWT 검증 (서명, issuer, token_use, 만료시간 + 60초 leeway)
+            return verifier.verify(idToken);
 
         } catch (Exception e) {
             throw new JWTVerificationException("Invalid Cognito ID token", e);
         }
     }
 
+    /**
+     * 예외 없이 검증 (TokenDispatcher용)
+     *
+     * @param idToken Cognito ID 토큰
+     * @return 검증된 토큰 (유효하지 않으면 null)
+     */
+    public DecodedJWT verify(String idToken) {
+        try {
+            return validateAndDecode(idToken);
+        } catch (JWTVerificationException e) {
+            return null;
+        }
+    }
+
     public String getEmailFromToken(DecodedJWT token) {
         return token.getClaim("email").asString();
     }
@@ -83,4 +109,112 @@ public class CognitoTokenValidator {
     public String getCognitoSubFromToken(DecodedJWT token) {
         return token.getSubject();
     }
+
+    /**
+     * JWKS를 다시 읽어 검증기 교체 (실패하면 기존 키 유지)
+     */
+    public synchronized void refresh() {
+        try {
+            loadVerifiers();
+        } catch (Exception e) {
+            log.error("Cognito JWKS 갱신 실패 - 기존 키로 계속 검증합니다: {}", e.getMessage());
+        }
+    }
+
+    private JWTVerifier findVerifier(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            throw new JWTVerificationException("Malformed token");
+        }
+        String header = token.substring(0, headerEnd);
+
+        Keys current = keys;
+        JWTVerifier cached = current.verifiersByHeader.getIfPresent(header);
+        if (cached != null) {
+            return cached;
+        }
+
+        String kid = JWT.decode(token).getKeyId();
+        JWTVerifier verifier = kid == null ? NOT_COGNITO : current.verifiers.get(kid);
+        if (verifier == null) {
+            verifier = refreshForUnknownKid(kid);
+            current = keys;
+        }
+        if (verifier == null) {
+            throw new JWTVerificationException("No matching key found");
+        }
+
+        // 찾을 때 쓴 키 목록의 캐시에만 넣음 (그 사이 갱신됐으면 버려지는 캐시)
+        current.verifiersByHeader.put(header, verifier);
+        return verifier;
+    }
+
+    /**
+     * 알 수 없는 kid를 받은 경우 JWKS 재조회 (최소 간격 제한)
+     * synchronized이므로 동시에 들어온 요청은 먼저 들어온 요청의 재조회 결과를 기다렸다가 사용함
+     *
+     * @return 재조회 후 찾은 검증기 (여전히 없으면 null)
+     */
+    private synchronized JWTVerifier refreshForUnknownKid(String kid) {
+        JWTVerifier verifier = keys.verifiers.get(kid);
+        if (verifier != null) {
+            return verifier;
+        }
+        if (System.currentTimeMillis() - lastRefreshAt < minRefreshIntervalMs) {
+            return null;
+        }
+
+        log.info("알 수 없는 kid - Cognito JWKS 재조회 - kid: {}", kid);
+        refresh();
+        return keys.verifiers.get(kid);
+    }
+
+    private void loadVerifiers() throws Exception {
+        lastRefreshAt = System.currentTimeMillis();
+        JWKSet jwkSet = loadJwkSet();
+
+        Map<String, JWTVerifier> loaded = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (!(jwk instanceof RSAKey) || jwk.getKeyID() == null) {
+                continue;
+            }
+
+            // RS256 검증기 생성
+            RSAPublicKey publicKey = ((RSAKey) jwk).toRSAPublicKey();
+            Algorithm algorithm = Algorithm.RSA256(publicKey, null);
+
+            // leeway: 시계 동기화 문제를 위해 60초 여유 시간 추가
+            loaded.put(jwk.getKeyID(), JWT.require(algorithm)
+                    .withIssuer(issuer)
+                    .withClaim("token_use", "id") // ID 토큰만 허용
+                    .acceptLeeway(60) // 60초 leeway 추가 (clock skew 허용)
+                    .build());
+        }
+
+        keys = new Keys(Map.copyOf(loaded));
+        log.info("Cognito JWKS 로드 완료 - 키 수: {}", loaded.size());
+    }
+
+    private JWKSet loadJwkSet() throws Exception {
+        if (jwksFile != null && !jwksFile.isBlank()) {
+            return JWKSet.load(new File(jwksFile));
+        }
+
+        // Cognito JWKS URL: https://cognito-idp.{region}.amazonaws.com/{userPoolId}/.well-known/jwks.json
+        return JWKSet.load(new URL(issuer + "/.well-known/jwks.json"));
+    }
+
+    // 한 번 읽은 JWKS의 검증기와 헤더 캐시 (함께 교체)
+    private static class Keys {
+
+        private final Map<String, JWTVerifier> verifiers;
+        // 헤더를 바꿔 보내는 요청으로 커지지 않도록 크기 제한 (가득 차면 오래 안 쓴 헤더부터 제거)
+        private final Cache<String, JWTVerifier> verifiersByHeader = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_HEADERS)
+                .build();
+
+        Keys(Map<String, JWTVerifier> verifiers) {
+            this.verifiers = verifiers;
+        }
+    }
 }
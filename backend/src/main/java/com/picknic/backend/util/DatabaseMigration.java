@@ -0,0 +1,97 @@
+package com.picknic.backend.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * DB 마이그레이션 실행기 (./gradlew migrateDB)
+ *
+ * classpath의 db/migration/*.sql을 순서대로 한 트랜잭션에서 실행한다.
+ * 접속 정보는 애플리케이션과 같은 환경변수(DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD)를 사용한다.
+ */
+public class DatabaseMigration {
+
+    private static final String[] MIGRATIONS = {
+            "db/migration/id_sequences.sql",
+            "db/migration/vote_feed_indexes.sql",
+            "db/migration/broadcast_notifications.sql",
+            "db/migration/notification_inbox_indexes.sql"
+    };
+
+    public static void main(String[] args) throws Exception {
+        try (Connection connection = openConnection(new Properties())) {
+            connection.setAutoCommit(false);
+
+            try (Statement statement = connection.createStatement()) {
+                for (String migration : MIGRATIONS) {
+                    List<String> statements = readStatements(migration);
+                    for (String sql : statements) {
+                        statement.execute(sql);
+                    }
+                    System.out.printf("마이그레이션 적용: %s (%d개 문장)%n", migration, statements.size());
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+
+        System.out.println("마이그레이션 완료");
+    }
+
+    /**
+     * 환경변수 기반 JDBC 연결
+     *
+     * @param extra 추가 연결 속성 (reWriteBatchedInserts 등)
+     */
+    public static Connection openConnection(Properties extra) throws SQLException {
+        String url = String.format("jdbc:postgresql://%s:%s/%s",
+                env("DB_HOST", "localhost"),
+                env("DB_PORT", "5432"),
+                env("DB_NAME", "picknic"));
+
+        Properties properties = new Properties();
+        properties.setProperty("user", env("DB_USER", "user"));
+        properties.setProperty("password", env("DB_PASSWORD", "password"));
+        properties.putAll(extra);
+
+        return DriverManager.getConnection(url, properties);
+    }
+
+    private static List<String> readStatements(String resource) throws IOException {
+        try (InputStream in = DatabaseMigration.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("마이그레이션 파일을 찾을 수 없습니다: " + resource);
+            }
+
+            StringBuilder body = new StringBuilder();
+            for (String line : new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.trim().startsWith("--")) {
+                    body.append(line).append('\n');
+                }
+            }
+
+            List<String> statements = new ArrayList<>();
+            for (String sql : body.toString().split(";")) {
+                if (!sql.isBlank()) {
+                    statements.add(sql.trim());
+                }
+            }
+            return statements;
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return (value == null || value.isBlank()) ? defaultValue : value;
+    }
+}
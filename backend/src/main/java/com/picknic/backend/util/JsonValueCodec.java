@@ -0,0 +1,38 @@
+package com.picknic.backend.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON (UTF-8) - 기존 값과 같은 형식, redis-cli로 읽을 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonValueCodec implements ValueCodec {
+
+    static final byte ID = 1;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(Object value) throws Exception {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws Exception {
+        return objectMapper.readValue(bytes, offset, length, type);
+    }
+}
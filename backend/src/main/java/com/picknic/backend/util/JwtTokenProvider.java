@@ -3,6 +3,7 @@ package com.picknic.backend.util;
 import com.picknic.backend.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,8 +21,18 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration:86400000}") // 24 hours
     private long jwtExpirationInMs;
 
+    // 서명 키와 파서는 요청마다 만들지 않고 한 번만 생성
+    private Key signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 
     public String generateToken(Authentication authentication) {
@@ -51,18 +62,30 @@ public class JwtTokenProvider {
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return getClaimsFromToken(token).getSubject();
+    }
 
-        return claims.getSubject();
+    public Claims getClaimsFromToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 서명·만료 검증 후 클레임 반환 (한 번만 파싱)
+     *
+     * @param token 자체 발급 토큰
+     * @return Claims (유효하지 않으면 null)
+     */
+    public Claims parseValidClaims(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
     }
 
     public boolean validateToken(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
+            parser.parseClaimsJws(authToken);
             return true;
         } catch (SecurityException | MalformedJwtException ex) {
             // Invalid JWT signature
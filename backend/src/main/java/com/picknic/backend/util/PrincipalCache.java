@@ -0,0 +1,148 @@
+package com.picknic.backend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 → 인증 주체 캐시 (JwtAuthenticationFilter)
+ *
+ * 검증을 마친 토큰의 SHA-256 해시를 키로 UserDetails를 보관해
+ * 같은 토큰으로 들어온 다음 요청은 서명 검증과 사용자 조회(DB) 없이 인증한다.
+ * 토큰 원문이 같으면 서명도 같으므로 재검증이 필요 없고,
+ * 만료는 min(TTL, 토큰 만료 시각)으로 제한해 만료된 토큰은 캐시로도 통과하지 못한다.
+ *
+ * 프로필 완성, 사용자 삭제 시 invalidate(email)로 해당 사용자의 항목을 제거한다.
+ * 캐시는 서버마다 따로 있으므로 TwoTierCache와 같은 cache:invalidate 채널에
+ * "principal|{email}" 을 발행해 모든 서버(자기 자신 포함)가 지우게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    // cache:invalidate 메시지의 영역 이름 (TwoTierCache 영역과 겹치지 않음)
+    static final String INVALIDATION_REGION = "principal";
+    private static final String INVALIDATION_PREFIX = INVALIDATION_REGION + "|";
+
+    private final RedisUtil redisUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${auth.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private Cache<String, CachedPrincipal> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+                        long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                value.expiresAtMillis - System.currentTimeMillis());
+                        return Math.max(0L, Math.min(TimeUnit.SECONDS.toNanos(ttlSeconds), untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedPrincipal value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCache.INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시된 인증 주체 조회
+     *
+     * @param token 요청의 Bearer 토큰
+     * @return UserDetails (없거나 만료되었으면 null)
+     */
+    public UserDetails get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(hash(token));
+        return cached != null ? cached.userDetails : null;
+    }
+
+    /**
+     * 검증을 마친 토큰의 인증 주체 저장
+     *
+     * @param token Bearer 토큰
+     * @param userDetails 인증 주체
+     * @param expiresAt 토큰 만료 시각 (null이면 TTL만 적용)
+     */
+    public void put(String token, UserDetails userDetails, Date expiresAt) {
+        long expiresAtMillis = expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE;
+        cache.put(hash(token), new CachedPrincipal(userDetails, expiresAtMillis));
+    }
+
+    /**
+     * 사용자의 캐시 항목 전체 제거 (프로필 완성, 사용자 삭제 등)
+     *
+     * 이 서버에서 바로 지우고, 다른 서버도 지우도록 무효화 메시지를 발행한다.
+     *
+     * @param email 사용자 이메일
+     */
+    public void invalidate(String email) {
+        evictLocal(email);
+        redisUtil.publish(TwoTierCache.INVALIDATION_CHANNEL, INVALIDATION_PREFIX + email);
+    }
+
+    // cache:invalidate 수신 - principal 영역 메시지만 처리 (나머지는 TwoTierCache 몫)
+    private void onInvalidation(String message) {
+        if (message.startsWith(INVALIDATION_PREFIX)) {
+            evictLocal(message.substring(INVALIDATION_PREFIX.length()));
+        }
+    }
+
+    private void evictLocal(String email) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails.getUsername().equals(email));
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CachedPrincipal {
+
+        private final UserDetails userDetails;
+        private final long expiresAtMillis;
+
+        private CachedPrincipal(UserDetails userDetails, long expiresAtMillis) {
+            this.userDetails = userDetails;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.picknic.backend.util;
+
+import java.time.Duration;
+
+/**
+ * 파이프라인 안에서 쓰는 Redis 명령 (RedisUtil.pipeline)
+ *
+ * 명령은 바로 실행되지 않고 모아서 한 번에 전송되며,
+ * 각 명령의 결과는 pipeline() 반환 목록에 명령 순서대로 담긴다.
+ */
+public interface RedisOps {
+
+    // GET - 결과: String (없으면 null)
+    void get(String key);
+
+    // SET with TTL - 결과: Boolean
+    void set(String key, String value, Duration ttl);
+
+    // DEL - 결과: Boolean
+    void delete(String key);
+
+    // ZINCRBY - 결과: Double (증가 후 점수)
+    void incrementScore(String key, String member, double delta);
+
+    // ZRANK - 결과: Long (없으면 null)
+    void rank(String key, String member);
+
+    // ZRANGE WITHSCORES - 결과: Set<ZSetOperations.TypedTuple<String>> (점수 오름차순)
+    void rangeWithScores(String key, long start, long end);
+
+    // ZSCORE - 결과: Double (없으면 null)
+    void score(String key, String member);
+
+    // HGETALL - 결과: Map<String, String>
+    void getHashEntries(String key);
+
+    // HINCRBY - 결과: Long (증가 후 값)
+    void incrementHash(String key, String field, long delta);
+}
@@ -1,28 +1,62 @@
 package com.picknic.backend.util;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+/**
+ * Redis 접근 유틸
+ *
+ * 모든 메서드는 redis.operations 타이머(class, method 태그)로 측정되고,
+ * 예외를 삼키는 메서드는 redis.errors 카운터(operation 태그)로 실패 횟수를 남긴다.
+ *
+ * 여러 키를 다루는 일괄 메서드(multiGet, setAll, incrementScores, getRanks, getHashEntries(List), pipeline)는
+ * 키마다 왕복하지 않고 MGET 또는 파이프라인 한 번으로 처리하며,
+ * 실패하면 키별로 나누지 않고 호출 단위로 redis.errors를 한 번 기록한 뒤 빈 결과를 반환한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Timed(value = "redis.operations", description = "Redis 명령 실행 시간")
 public class RedisUtil {
 
+    // 값이 내 토큰일 때만 삭제 (TTL이 지나 다른 서버가 잡은 락을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final RedisValueCodec valueCodec;
+    private final MeterRegistry meterRegistry;
 
     // 랭킹 점수 추가 (ZINCRBY)
     public void incrementScore(String key, String member, double score) {
         try {
             redisTemplate.opsForZSet().incrementScore(key, member, score);
         } catch (Exception e) {
+            recordError("incrementScore");
             log.error("Redis incrementScore 실패 - key: {}, member: {}, score: {}", key, member, score, e);
             // 랭킹 업데이트 실패는 핵심 기능이 아니므로 예외를 전파하지 않음
         }
@@ -34,6 +68,7 @@ public class RedisUtil {
             Set<String> result = redisTemplate.opsForZSet().reverseRange(key, start, end);
             return result != null ? result : Collections.emptySet();
         } catch (Exception e) {
+            recordError("getTopRankers");
             log.error("Redis getTopRankers 실패 - key: {}", key, e);
             return Collections.emptySet();
         }
@@ -44,40 +79,68 @@ public class RedisUtil {
         try {
             return redisTemplate.opsForZSet().reverseRank(key, member);
         } catch (Exception e) {
+            recordError("getMyRank");
             log.error("Redis getMyRank 실패 - key: {}, member: {}", key, member, e);
             return null;
         }
     }
 
-    // 일일 제한 체크 (INCR + EXPIRE)
-    // 리턴값: 현재 카운트
-    public Long incrementCounterWithLimit(String key, long limitSeconds) {
-        Long count = redisTemplate.opsForValue().increment(key);
-        if (count != null && count == 1) {
-            // 처음 생성된 키라면 만료 시간 설정 (24시간 등)
-            redisTemplate.expire(key, Duration.ofSeconds(limitSeconds));
+    // 점수 오름차순 구간 조회 (ZRANGE WITHSCORES) - 멤버 → 점수, 순서 유지
+    public Map<String, Double> getRangeWithScores(String key, long start, long end) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, start, end);
+            Map<String, Double> result = new LinkedHashMap<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    result.put(tuple.getValue(), tuple.getScore());
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            recordError("getRangeWithScores");
+            log.error("Redis getRangeWithScores 실패 - key: {}", key, e);
+            return Collections.emptyMap();
         }
-        return count;
     }
 
-    // 카운터 조회 (GET)
-    // 리턴값: 현재 카운트 (존재하지 않으면 null)
-    public Long getCounter(String key) {
+    // 점수 오름차순 순위 조회 (ZRANK)
+    public Long getRank(String key, String member) {
         try {
-            String value = redisTemplate.opsForValue().get(key);
-            return value != null ? Long.parseLong(value) : null;
+            return redisTemplate.opsForZSet().rank(key, member);
         } catch (Exception e) {
-            log.error("Redis getCounter 실패 - key: {}", key, e);
+            recordError("getRank");
+            log.error("Redis getRank 실패 - key: {}, member: {}", key, member, e);
             return null;
         }
     }
 
-    // 객체 저장 (SET with TTL)
+    // 멤버 점수 조회 (ZSCORE)
+    public Double getScore(String key, String member) {
+        try {
+            return redisTemplate.opsForZSet().score(key, member);
+        } catch (Exception e) {
+            recordError("getScore");
+            log.error("Redis getScore 실패 - key: {}, member: {}", key, member, e);
+            return null;
+        }
+    }
+
+    // 랭킹에서 멤버 제거 (ZREM)
+    public void removeFromSortedSet(String key, String member) {
+        try {
+            redisTemplate.opsForZSet().remove(key, member);
+        } catch (Exception e) {
+            recordError("removeFromSortedSet");
+            log.error("Redis removeFromSortedSet 실패 - key: {}, member: {}", key, member, e);
+        }
+    }
+
+    // 객체 저장 (SET with TTL) - 키 접두사별 코덱으로 인코딩 (RedisValueCodec)
     public <T> void set(String key, T value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            redisTemplate.opsForValue().set(key, jsonValue, ttl);
+            binaryRedisTemplate.opsForValue().set(key, valueCodec.encode(key, value), ttl);
         } catch (Exception e) {
+            recordError("set");
             log.error("Redis set 실패 - key: {}", key, e);
         }
     }
@@ -85,22 +148,55 @@ public class RedisUtil {
     // 객체 조회 (GET)
     public <T> T get(String key, Class<T> clazz) {
         try {
-            String value = redisTemplate.opsForValue().get(key);
+            byte[] value = binaryRedisTemplate.opsForValue().get(key);
             if (value == null) {
                 return null;
             }
-            return objectMapper.readValue(value, clazz);
+            return valueCodec.decode(value, clazz);
         } catch (Exception e) {
+            recordError("get");
             log.error("Redis get 실패 - key: {}", key, e);
             return null;
         }
     }
 
+    // 인코딩된 값 그대로 저장 (SET with TTL) - 호출 측에서 RedisValueCodec으로 인코딩한 경우
+    public void setBytes(String key, byte[] value, Duration ttl) {
+        try {
+            binaryRedisTemplate.opsForValue().set(key, value, ttl);
+        } catch (Exception e) {
+            recordError("setBytes");
+            log.error("Redis setBytes 실패 - key: {}", key, e);
+        }
+    }
+
+    // 인코딩된 값 그대로 조회 (GET) - 없으면 null
+    public byte[] getBytes(String key) {
+        try {
+            return binaryRedisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            recordError("getBytes");
+            log.error("Redis getBytes 실패 - key: {}", key, e);
+            return null;
+        }
+    }
+
+    // 채널에 메시지 발행 (PUBLISH)
+    public void publish(String channel, String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            recordError("publish");
+            log.error("Redis publish 실패 - channel: {}", channel, e);
+        }
+    }
+
     // 키 삭제 (DELETE)
     public void delete(String key) {
         try {
             redisTemplate.delete(key);
         } catch (Exception e) {
+            recordError("delete");
             log.error("Redis delete 실패 - key: {}", key, e);
         }
     }
@@ -110,17 +206,361 @@ public class RedisUtil {
         try {
             return redisTemplate.opsForValue().increment(key);
         } catch (Exception e) {
+            recordError("increment");
             log.error("Redis increment 실패 - key: {}", key, e);
             return null;
         }
     }
 
+    // 카운터 설정 (SET with TTL, 문자열 그대로)
+    public void setCounter(String key, long value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(value), ttl);
+        } catch (Exception e) {
+            recordError("setCounter");
+            log.error("Redis setCounter 실패 - key: {}", key, e);
+        }
+    }
+
+    // 카운터 여러 개 조회 (MGET) - 없는 키는 null, 실패 시 모두 null
+    public List<Long> getCounters(List<String> keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            List<Long> result = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                result.add(value != null ? Long.parseLong(value) : null);
+            }
+            return result;
+        } catch (Exception e) {
+            recordError("getCounters");
+            log.error("Redis getCounters 실패 - keys: {}", keys, e);
+            return Collections.nCopies(keys.size(), null);
+        }
+    }
+
     // 만료 시간 설정 (EXPIRE)
     public void setExpire(String key, Duration duration) {
         try {
             redisTemplate.expire(key, duration);
         } catch (Exception e) {
+            recordError("setExpire");
             log.error("Redis setExpire 실패 - key: {}", key, e);
         }
     }
-}
\ No newline at end of file
+
+    // 해시 전체 조회 (HGETALL)
+    public Map<String, String> getHashEntries(String key) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            Map<String, String> result = new HashMap<>();
+            entries.forEach((field, value) -> result.put(String.valueOf(field), String.valueOf(value)));
+            return result;
+        } catch (Exception e) {
+            recordError("getHashEntries");
+            log.error("Redis getHashEntries 실패 - key: {}", key, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    // 해시 필드 여러 개 조회 (HMGET) - 없는 필드는 null
+    public List<String> getHashValues(String key, List<String> fields) {
+        if (fields.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key, new ArrayList<>(fields));
+            List<String> result = new ArrayList<>(values.size());
+            values.forEach(value -> result.add(value != null ? String.valueOf(value) : null));
+            return result;
+        } catch (Exception e) {
+            recordError("getHashValues");
+            log.error("Redis getHashValues 실패 - key: {}", key, e);
+            return Collections.nCopies(fields.size(), null);
+        }
+    }
+
+    // 집합 멤버 조회 (SMEMBERS)
+    public Set<String> getSetMembers(String key) {
+        try {
+            Set<String> result = redisTemplate.opsForSet().members(key);
+            return result != null ? result : Collections.emptySet();
+        } catch (Exception e) {
+            recordError("getSetMembers");
+            log.error("Redis getSetMembers 실패 - key: {}", key, e);
+            return Collections.emptySet();
+        }
+    }
+
+    // 집합 멤버 추가 (SADD)
+    public void addToSet(String key, String... members) {
+        try {
+            redisTemplate.opsForSet().add(key, members);
+        } catch (Exception e) {
+            recordError("addToSet");
+            log.error("Redis addToSet 실패 - key: {}", key, e);
+        }
+    }
+
+    // 집합 멤버 제거 (SREM)
+    public void removeFromSet(String key, String member) {
+        try {
+            redisTemplate.opsForSet().remove(key, member);
+        } catch (Exception e) {
+            recordError("removeFromSet");
+            log.error("Redis removeFromSet 실패 - key: {}, member: {}", key, member, e);
+        }
+    }
+
+    // 리스트 구간 조회 (LRANGE)
+    public List<String> getListRange(String key, long start, long end) {
+        try {
+            List<String> result = redisTemplate.opsForList().range(key, start, end);
+            return result != null ? result : Collections.emptyList();
+        } catch (Exception e) {
+            recordError("getListRange");
+            log.error("Redis getListRange 실패 - key: {}", key, e);
+            return Collections.emptyList();
+        }
+    }
+
+    // 리스트 앞부분 제거 (LTRIM) - 처리 완료된 항목 삭제
+    public void trimList(String key, long start, long end) {
+        try {
+            redisTemplate.opsForList().trim(key, start, end);
+        } catch (Exception e) {
+            recordError("trimList");
+            log.error("Redis trimList 실패 - key: {}", key, e);
+        }
+    }
+
+    // 키 존재 여부 (EXISTS)
+    public boolean hasKey(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (Exception e) {
+            recordError("hasKey");
+            log.error("Redis hasKey 실패 - key: {}", key, e);
+            return false;
+        }
+    }
+
+    // 키가 없을 때만 저장 (SET NX + TTL) - 분산 락 용도
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        try {
+            Boolean result = redisTemplate.opsForValue().setIfAbsent(key, value, ttl);
+            return Boolean.TRUE.equals(result);
+        } catch (Exception e) {
+            recordError("setIfAbsent");
+            log.error("Redis setIfAbsent 실패 - key: {}", key, e);
+            return false;
+        }
+    }
+
+    // 락 해제 - setIfAbsent로 저장한 토큰이 그대로일 때만 삭제 (실패하면 TTL로 풀림)
+    public boolean releaseLock(String key, String token) {
+        try {
+            Long deleted = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(key), token);
+            return deleted != null && deleted > 0;
+        } catch (Exception e) {
+            recordError("releaseLock");
+            log.error("Redis releaseLock 실패 - key: {}", key, e);
+            return false;
+        }
+    }
+
+    // 여러 키 한 번에 조회 (MGET) - 코덱으로 디코딩, 없거나 디코딩에 실패한 키는 제외
+    public <T> Map<String, T> multiGet(List<String> keys, Class<T> clazz) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<byte[]> values;
+        try {
+            values = binaryRedisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            recordError("multiGet");
+            log.error("Redis multiGet 실패 - size: {}", keys.size(), e);
+            return Collections.emptyMap();
+        }
+
+        Map<String, T> result = new HashMap<>();
+        int failed = 0;
+        for (int i = 0; values != null && i < keys.size(); i++) {
+            byte[] value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                result.put(keys.get(i), valueCodec.decode(value, clazz));
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            recordError("multiGet");
+            log.error("Redis multiGet 역직렬화 실패 - type: {}, failed: {}/{}", clazz.getSimpleName(), failed, keys.size());
+        }
+        return result;
+    }
+
+    // 여러 객체 한 번에 저장 (파이프라인 SET with TTL)
+    public <T> void setAll(Map<String, T> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<String, byte[]> encoded = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<String, T> entry : values.entrySet()) {
+                encoded.put(entry.getKey(), valueCodec.encode(entry.getKey(), entry.getValue()));
+            }
+            binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> binaryOperations = (RedisOperations<String, byte[]>) operations;
+                    encoded.forEach((key, value) -> binaryOperations.opsForValue().set(key, value, ttl));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            recordError("setAll");
+            log.error("Redis setAll 실패 - size: {}", values.size(), e);
+        }
+    }
+
+    // 여러 멤버 점수 한 번에 증가 (파이프라인 ZINCRBY)
+    public void incrementScores(String key, Map<String, ? extends Number> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        pipelined("incrementScores", ops ->
+                deltas.forEach((member, delta) -> ops.incrementScore(key, member, delta.doubleValue())));
+    }
+
+    // 여러 멤버 순위 한 번에 조회 (파이프라인 ZRANK) - 점수 오름차순 0-based, 없는 멤버는 제외
+    public Map<String, Long> getRanks(String key, List<String> members) {
+        if (members.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object> ranks = pipelined("getRanks", ops -> members.forEach(member -> ops.rank(key, member)));
+        Map<String, Long> result = new HashMap<>();
+        for (int i = 0; i < ranks.size(); i++) {
+            if (ranks.get(i) != null) {
+                result.put(members.get(i), ((Number) ranks.get(i)).longValue());
+            }
+        }
+        return result;
+    }
+
+    // 여러 해시 전체 조회 (파이프라인 HGETALL) - 키 → 필드/값 (없는 키는 빈 맵)
+    public Map<String, Map<String, String>> getHashEntries(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object> entries = pipelined("getHashEntries", ops -> keys.forEach(ops::getHashEntries));
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Map<String, String> hash = new HashMap<>();
+            if (i < entries.size() && entries.get(i) instanceof Map<?, ?> map) {
+                map.forEach((field, value) -> hash.put(String.valueOf(field), String.valueOf(value)));
+            }
+            result.put(keys.get(i), hash);
+        }
+        return result;
+    }
+
+    // 파이프라인 실행 - 명령을 모아 한 번에 보내고 결과를 명령 순서대로 반환 (실패 시 빈 목록)
+    public List<Object> pipeline(Consumer<RedisOps> commands) {
+        return pipelined("pipeline", commands);
+    }
+
+    // Lua 스크립트 실행 (EVALSHA)
+    // 값 직렬화가 StringRedisSerializer이므로 인자는 문자열로 전달해야 함
+    // 스크립트 실패는 호출 측에서 판단해야 하므로 예외를 그대로 전파함
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    // Lua 스크립트 실행 - 인자를 바이트 배열 그대로 전달 (인코딩된 캐시 값 등 문자열이 아닌 값)
+    // executeScript와 마찬가지로 예외를 그대로 전파함
+    public <T> T executeBinaryScript(RedisScript<T> script, List<String> keys, byte[]... args) {
+        return binaryRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    private List<Object> pipelined(String operation, Consumer<RedisOps> commands) {
+        try {
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    commands.accept(new PipelinedOps((RedisOperations<String, String>) operations));
+                    return null;
+                }
+            });
+            return results != null ? results : Collections.emptyList();
+        } catch (Exception e) {
+            recordError(operation);
+            log.error("Redis {} 실패", operation, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private void recordError(String operation) {
+        meterRegistry.counter("redis.errors", "operation", operation).increment();
+    }
+
+    // 파이프라인 세션에서 명령만 쌓는 RedisOps 구현 (반환값은 파이프라인 결과로 받음)
+    private static class PipelinedOps implements RedisOps {
+
+        private final RedisOperations<String, String> operations;
+
+        PipelinedOps(RedisOperations<String, String> operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public void get(String key) {
+            operations.opsForValue().get(key);
+        }
+
+        @Override
+        public void set(String key, String value, Duration ttl) {
+            operations.opsForValue().set(key, value, ttl);
+        }
+
+        @Override
+        public void delete(String key) {
+            operations.delete(key);
+        }
+
+        @Override
+        public void incrementScore(String key, String member, double delta) {
+            operations.opsForZSet().incrementScore(key, member, delta);
+        }
+
+        @Override
+        public void rank(String key, String member) {
+            operations.opsForZSet().rank(key, member);
+        }
+
+        @Override
+        public void rangeWithScores(String key, long start, long end) {
+            operations.opsForZSet().rangeWithScores(key, start, end);
+        }
+
+        @Override
+        public void score(String key, String member) {
+            operations.opsForZSet().score(key, member);
+        }
+
+        @Override
+        public void getHashEntries(String key) {
+            operations.opsForHash().entries(key);
+        }
+
+        @Override
+        public void incrementHash(String key, String field, long delta) {
+            operations.opsForHash().increment(key, field, delta);
+        }
+    }
+}
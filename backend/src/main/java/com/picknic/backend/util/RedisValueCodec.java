@@ -0,0 +1,182 @@
+package com.picknic.backend.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 객체 캐시 값 인코딩 (RedisUtil.set/get)
+ *
+ * 저장 형식: [형식 버전 1B][코덱 ID 1B][플래그 1B][(LZ4면) 원본 길이 4B][본문]
+ *
+ * - 키 접두사별로 코덱을 고른다 (redis.codec.prefixes, 없으면 redis.codec.default)
+ * - 본문이 redis.codec.compress-threshold-bytes 이상이면 LZ4로 압축 (줄어드는 경우에만)
+ * - 압축 해제는 입력 범위를 검사하는 safe 디코더로 하고, 헤더의 원본 길이가
+ *   redis.codec.max-decompressed-bytes 를 넘거나 실제 해제 길이와 다르면 거부한다
+ * - 읽을 때는 설정이 아니라 헤더의 코덱 ID로 해석하므로 코덱 설정을 바꿔도 Redis를 비울 필요가 없다
+ * - 헤더가 없는 값(이전에 JSON 문자열로 저장된 값)은 JSON으로 읽는다
+ */
+@Slf4j
+@Component
+public class RedisValueCodec {
+
+    static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private final Map<Byte, ValueCodec> codecsById = new HashMap<>();
+    private final ValueCodec defaultCodec;
+    private final List<Map.Entry<String, ValueCodec>> prefixCodecs = new ArrayList<>();
+    private final int compressThresholdBytes;
+    private final int maxDecompressedBytes;
+
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4Factory.fastestInstance().safeDecompressor();
+
+    public RedisValueCodec(List<ValueCodec> codecs,
+                           @Value("${redis.codec.default:json}") String defaultCodecName,
+                           @Value("${redis.codec.prefixes:}") String prefixCodecNames,
+                           @Value("${redis.codec.compress-threshold-bytes:1024}") int compressThresholdBytes,
+                           @Value("${redis.codec.max-decompressed-bytes:16777216}") int maxDecompressedBytes) {
+        Map<String, ValueCodec> codecsByName = new HashMap<>();
+        for (ValueCodec codec : codecs) {
+            if (codecsById.put(codec.id(), codec) != null) {
+                throw new IllegalStateException("중복된 Redis 코덱 ID: " + codec.id());
+            }
+            codecsByName.put(codec.name(), codec);
+        }
+        if (!codecsById.containsKey(JsonValueCodec.ID)) {
+            throw new IllegalStateException("JSON 코덱이 없으면 헤더 없는 기존 값을 읽을 수 없습니다.");
+        }
+
+        this.defaultCodec = findCodec(codecsByName, defaultCodecName);
+
+        // "접두사=코덱" 목록, 긴 접두사가 먼저 일치하도록 정렬
+        for (String entry : prefixCodecNames.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("redis.codec.prefixes 형식 오류 (접두사=코덱): " + entry);
+            }
+            prefixCodecs.add(Map.entry(entry.substring(0, separator).trim(),
+                    findCodec(codecsByName, entry.substring(separator + 1).trim())));
+        }
+        prefixCodecs.sort(Comparator.comparingInt((Map.Entry<String, ValueCodec> e) -> e.getKey().length()).reversed());
+
+        this.compressThresholdBytes = compressThresholdBytes;
+        this.maxDecompressedBytes = maxDecompressedBytes;
+        log.info("Redis 값 코덱 - 기본: {}, 접두사별: {}, 압축 기준: {}B", defaultCodec.name(),
+                prefixCodecs.stream().map(e -> e.getKey() + "=" + e.getValue().name()).toList(), compressThresholdBytes);
+    }
+
+    /**
+     * 키에 맞는 코덱으로 인코딩
+     *
+     * @param key Redis 키 (코덱 선택용)
+     * @param value 저장할 객체
+     * @return 헤더를 포함한 저장 값
+     */
+    public byte[] encode(String key, Object value) throws Exception {
+        ValueCodec codec = codecFor(key);
+        byte[] body = codec.encode(value);
+
+        if (body.length >= compressThresholdBytes) {
+            byte[] compressed = new byte[HEADER_SIZE + 4 + compressor.maxCompressedLength(body.length)];
+            int compressedLength = compressor.compress(body, 0, body.length, compressed, HEADER_SIZE + 4);
+            if (compressedLength < body.length) {
+                writeHeader(compressed, codec, FLAG_LZ4);
+                ByteBuffer.wrap(compressed, HEADER_SIZE, 4).putInt(body.length);
+                return Arrays.copyOf(compressed, HEADER_SIZE + 4 + compressedLength);
+            }
+        }
+
+        byte[] encoded = new byte[HEADER_SIZE + body.length];
+        writeHeader(encoded, codec, (byte) 0);
+        System.arraycopy(body, 0, encoded, HEADER_SIZE, body.length);
+        return encoded;
+    }
+
+    /**
+     * 저장 값 디코딩 (헤더의 코덱 ID 기준)
+     *
+     * @param bytes 저장 값
+     * @param type 대상 타입
+     * @return 객체
+     */
+    public <T> T decode(byte[] bytes, Class<T> type) throws Exception {
+        return decode(bytes, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    /**
+     * 저장 값 디코딩 (제네릭 타입, 예: List<SchoolDto>)
+     */
+    public <T> T decode(byte[] bytes, JavaType type) throws Exception {
+        if (bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            // 헤더 없는 기존 JSON 값 (JSON 텍스트는 0x01로 시작하지 않음)
+            return codecsById.get(JsonValueCodec.ID).decode(bytes, 0, bytes.length, type);
+        }
+
+        ValueCodec codec = codecsById.get(bytes[1]);
+        if (codec == null) {
+            throw new IllegalStateException("알 수 없는 Redis 코덱 ID: " + bytes[1]);
+        }
+
+        if ((bytes[2] & FLAG_LZ4) != 0) {
+            if (bytes.length < HEADER_SIZE + 4) {
+                throw new IllegalStateException("LZ4 값의 길이 헤더가 없습니다: " + bytes.length + "B");
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, 4).getInt();
+            if (originalLength < 0 || originalLength > maxDecompressedBytes) {
+                throw new IllegalStateException("LZ4 원본 길이가 허용 범위를 벗어났습니다: " + originalLength
+                        + "B (최대 " + maxDecompressedBytes + "B)");
+            }
+            byte[] body = new byte[originalLength];
+            int decompressedLength = decompressor.decompress(
+                    bytes, HEADER_SIZE + 4, bytes.length - HEADER_SIZE - 4, body, 0, originalLength);
+            if (decompressedLength != originalLength) {
+                throw new IllegalStateException("LZ4 해제 길이가 헤더와 다릅니다: " + decompressedLength
+                        + "B (헤더 " + originalLength + "B)");
+            }
+            return codec.decode(body, 0, body.length, type);
+        }
+        return codec.decode(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, type);
+    }
+
+    private ValueCodec codecFor(String key) {
+        for (Map.Entry<String, ValueCodec> entry : prefixCodecs) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return defaultCodec;
+    }
+
+    private void writeHeader(byte[] target, ValueCodec codec, byte flags) {
+        target[0] = FORMAT_VERSION;
+        target[1] = codec.id();
+        target[2] = flags;
+    }
+
+    private ValueCodec findCodec(Map<String, ValueCodec> codecsByName, String name) {
+        ValueCodec codec = codecsByName.get(name);
+        if (codec == null) {
+            throw new IllegalStateException("알 수 없는 Redis 코덱: " + name + " (사용 가능: " + codecsByName.keySet() + ")");
+        }
+        return codec;
+    }
+}
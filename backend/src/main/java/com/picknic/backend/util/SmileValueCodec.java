@@ -0,0 +1,44 @@
+package com.picknic.backend.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Jackson Smile (바이너리 JSON)
+ *
+ * 같은 DTO 매핑(Spring ObjectMapper 설정)을 그대로 쓰면서
+ * 반복되는 필드명과 짧은 문자열을 참조로 저장해 JSON보다 작고 파싱이 빠르다.
+ */
+@Component
+public class SmileValueCodec implements ValueCodec {
+
+    static final byte ID = 2;
+
+    private final ObjectMapper smileMapper;
+
+    public SmileValueCodec(ObjectMapper objectMapper) {
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return "smile";
+    }
+
+    @Override
+    public byte[] encode(Object value) throws Exception {
+        return smileMapper.writeValueAsBytes(value);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws Exception {
+        return smileMapper.readValue(bytes, offset, length, type);
+    }
+}
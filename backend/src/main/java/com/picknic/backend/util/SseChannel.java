@@ -0,0 +1,169 @@
+package com.picknic.backend.util;
+
+import com.picknic.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 묶음 (키별: 사용자 ID, 투표 ID 등)
+ *
+ * 연결은 SseEmitter(서블릿 비동기 요청)로 유지하므로 클라이언트마다 스레드를 잡아 두지 않는다.
+ * 이벤트는 한 번만 직렬화(event())하고 같은 바이트를 모든 연결에 보낸다.
+ *
+ * - 서버당 최대 연결 수를 넘으면 ServiceUnavailableException (503, 클라이언트는 잠시 후 재연결)
+ * - 키당 최대 연결 수를 넘으면 가장 오래된 연결을 닫음 (탭을 여러 개 연 경우 등)
+ * - 보내기에 실패한 연결은 닫고 목록에서 뺌
+ *
+ * 메트릭: sse.connections (channel)
+ */
+@Slf4j
+public class SseChannel {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final String name;
+    private final int maxConnections;
+    private final int maxConnectionsPerKey;
+    private final long timeoutMs;
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public SseChannel(String name, int maxConnections, int maxConnectionsPerKey, long timeoutMs,
+                      MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerKey = maxConnectionsPerKey;
+        this.timeoutMs = timeoutMs;
+
+        Gauge.builder("sse.connections", connections, AtomicInteger::get)
+                .tag("channel", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 직렬화 (한 번 만든 결과를 여러 연결에 그대로 보냄)
+     *
+     * @param id 이벤트 ID (재연결 시 Last-Event-ID로 돌아옴, 없으면 null)
+     * @param event 이벤트 이름
+     * @param json 데이터 (직렬화된 JSON)
+     */
+    public static Set<DataWithMediaType> event(String id, String event, String json) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event).data(json, MediaType.APPLICATION_JSON);
+        if (id != null) {
+            builder.id(id);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 연결 등록
+     *
+     * @param key 연결 키
+     * @return 컨트롤러에서 그대로 반환할 SseEmitter
+     * @throws ServiceUnavailableException 서버당 최대 연결 수 초과
+     */
+    public SseEmitter open(String key) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new ServiceUnavailableException("실시간 연결이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(key, emitter));
+
+        SseEmitter[] oldest = new SseEmitter[1];
+        emitters.compute(key, (k, set) -> {
+            if (set == null) {
+                set = new CopyOnWriteArraySet<>();
+            }
+            set.add(emitter);
+            if (set.size() > maxConnectionsPerKey) {
+                oldest[0] = set.iterator().next();
+            }
+            return set;
+        });
+        if (oldest[0] != null) {
+            remove(key, oldest[0]);
+            oldest[0].complete();
+        }
+        return emitter;
+    }
+
+    /**
+     * 한 연결에 보내기 (재연결 시 놓친 이벤트 재전송 등)
+     *
+     * @return 보냈으면 true, 실패해서 연결을 닫았으면 false
+     */
+    public boolean send(String key, SseEmitter emitter, Set<DataWithMediaType> event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 끝난 연결
+            remove(key, emitter);
+            emitter.complete();
+            return false;
+        }
+    }
+
+    /**
+     * 키의 모든 연결에 보내기
+     */
+    public void send(String key, Set<DataWithMediaType> event) {
+        Set<SseEmitter> targets = emitters.get(key);
+        if (targets != null) {
+            targets.forEach(emitter -> send(key, emitter, event));
+        }
+    }
+
+    /**
+     * 모든 연결에 보내기
+     */
+    public void sendAll(Set<DataWithMediaType> event) {
+        emitters.forEach((key, targets) -> targets.forEach(emitter -> send(key, emitter, event)));
+    }
+
+    /**
+     * 모든 연결에 하트비트 (프록시·로드밸런서의 유휴 연결 종료 방지, 끊긴 연결 정리)
+     */
+    public void heartbeat() {
+        sendAll(HEARTBEAT);
+    }
+
+    /**
+     * 키에 연결이 하나라도 있는지
+     */
+    public boolean hasConnections(String key) {
+        return emitters.containsKey(key);
+    }
+
+    public int size() {
+        return connections.get();
+    }
+
+    private void remove(String key, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        emitters.computeIfPresent(key, (k, set) -> {
+            removed[0] = set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+            log.debug("SSE 연결 종료 - channel: {}, key: {}, 연결 수: {}", name, key, connections.get());
+        }
+    }
+}
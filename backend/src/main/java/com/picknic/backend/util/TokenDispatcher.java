@@ -0,0 +1,107 @@
+package com.picknic.backend.util;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.picknic.backend.dto.auth.TokenVerification;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bearer 토큰을 발급처에 맞는 검증기로 보냄
+ *
+ * 헤더(alg, kid)만 보고 분기하므로 자체 발급 토큰이 Cognito 검증 실패(예외)를 거치지 않는다.
+ * - RS256 + kid → Cognito ID 토큰 (issuer, token_use는 Cognito 검증기가 확인)
+ * - HS256/384/512 → 자체 발급 토큰 (JwtTokenProvider)
+ *
+ * 같은 발급처의 토큰은 헤더 세그먼트가 같으므로 헤더 → 발급처를 캐시해 헤더도 처음 한 번만 파싱한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenDispatcher {
+
+    // 헤더 → 발급처 캐시 상한 (헤더를 바꿔 보내는 요청으로 캐시가 커지지 않도록)
+    private static final int MAX_CACHED_HEADERS = 32;
+
+    private enum Route {
+        COGNITO, LOCAL, UNSUPPORTED
+    }
+
+    private final CognitoTokenValidator cognitoTokenValidator;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Route> routesByHeader = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 검증
+     *
+     * @param token Bearer 토큰
+     * @return 검증 결과 (실패도 예외 대신 결과 값으로 반환)
+     */
+    public TokenVerification verify(String token) {
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            return TokenVerification.invalid("malformed token");
+        }
+
+        switch (route(token.substring(0, headerEnd))) {
+            case COGNITO: {
+                DecodedJWT verified = cognitoTokenValidator.verify(token);
+                if (verified == null) {
+                    return TokenVerification.invalid("invalid cognito token");
+                }
+                return TokenVerification.cognito(
+                        cognitoTokenValidator.getEmailFromToken(verified),
+                        cognitoTokenValidator.getCognitoSubFromToken(verified),
+                        verified.getExpiresAt());
+            }
+            case LOCAL: {
+                Claims claims = jwtTokenProvider.parseValidClaims(token);
+                if (claims == null) {
+                    return TokenVerification.invalid("invalid local token");
+                }
+                return TokenVerification.local(claims.getSubject(), claims.getExpiration());
+            }
+            default:
+                return TokenVerification.invalid("unsupported token header");
+        }
+    }
+
+    private Route route(String header) {
+        Route cached = routesByHeader.get(header);
+        if (cached != null) {
+            return cached;
+        }
+
+        Route route = parseRoute(header);
+        if (routesByHeader.size() < MAX_CACHED_HEADERS) {
+            routesByHeader.put(header, route);
+        }
+        return route;
+    }
+
+    private Route parseRoute(String header) {
+        try {
+            JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(header));
+            String alg = node.path("alg").asText("");
+            boolean hasKid = node.hasNonNull("kid");
+
+            if ("RS256".equals(alg) && hasKid) {
+                return Route.COGNITO;
+            }
+            if (alg.startsWith("HS")) {
+                return Route.LOCAL;
+            }
+            return Route.UNSUPPORTED;
+        } catch (Exception e) {
+            // 디코딩할 수 없는 헤더
+            return Route.UNSUPPORTED;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package com.picknic.backend.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 2단 캐시 (L1: 서버 로컬 Caffeine, L2: Redis)
+ *
+ * 조회: L1 → L2(cache:{region}:{key}) → loader 순서로 찾고, 아래 단계에서 찾은 값은 위 단계에 채운다.
+ * 캐시 쇄도 방지: 값이 없을 때 loader는 서버 안에서 키당 한 번(single-flight), 서버 간에는
+ * cache:{region}:{key}:lock 을 잡은 서버에서만 실행되고, 나머지는 L2에 남은 값(만료 전이면 이전 값도)이 있으면
+ * 그 값을 쓰고 없으면 계산한 서버가 cache:loaded 채널로 보내는 완료 알림을 기다린다 (폴링하지 않음).
+ * 소프트 만료(soft-ttl)가 지난 값은 바로 반환하고 백그라운드에서 한 번만 다시 계산한다 (stale-while-revalidate).
+ * 무효화: evict()가 L1, L2를 지우고 cache:invalidate 채널로 알려 다른 서버의 L1도 지운다.
+ * 트랜잭션 안에서 호출하면 커밋 후에 지우므로 커밋 전 값이 다시 채워지지 않는다.
+ * evict()는 키의 세대(cache:{region}:{key}:gen)도 올리며, loader는 시작할 때 읽은 세대가 그대로일 때만
+ * L2, L1에 저장한다. 그래서 무효화 전에 시작해 이전 값을 읽은 계산이 무효화 뒤에 이전 값을 다시 채우지 않는다.
+ *
+ * 영역(region)별 설정 (없으면 기본값):
+ * - cache.{region}.enabled        false면 캐시 없이 loader만 호출
+ * - cache.{region}.l1-max-size    L1 최대 항목 수
+ * - cache.{region}.l1-max-bytes   L1 최대 용량 (인코딩된 크기 기준)
+ * - cache.{region}.l1-ttl-seconds L1 만료
+ * - cache.{region}.l2-ttl-seconds L2 만료 (하드 만료)
+ * - cache.{region}.soft-ttl-seconds 이 시간이 지난 값은 이전 값을 주면서 다시 계산 (기본: L2 만료와 같음 = 사용 안 함)
+ * - cache.{region}.lock-ttl-ms    서버 간 계산 락 만료
+ * - cache.{region}.lock-wait-ms   다른 서버의 계산 결과를 기다리는 최대 시간
+ *
+ * 메트릭: cache.requests (region, tier=l1|l2, result=hit|miss), cache.l1.size (region),
+ *        cache.loads (region, result=computed|coalesced|remote|discarded), cache.stale.served (region)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoTierCache {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    // 서버 간 계산 완료 알림 (메시지: L2 키)
+    private static final String LOADED_CHANNEL = "cache:loaded";
+    private static final String KEY_PREFIX = "cache:";
+    private static final char MESSAGE_SEPARATOR = '|';
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String GENERATION_SUFFIX = ":gen";
+    // 세대 키 만료 (진행 중인 계산보다 충분히 길게 - 만료되면 진행 중이던 계산은 저장되지 않을 뿐)
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    // 세대(KEYS[2])가 계산 시작 때 읽은 값(ARGV[1])과 같을 때만 저장 (ARGV[2]: 값, ARGV[3]: 만료 ms)
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 값(KEYS[1]) 삭제 + 세대(KEYS[2]) 증가 (ARGV[1]: 세대 키 만료 ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "local generation = redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return generation",
+            Long.class);
+
+    private final RedisUtil redisUtil;
+    private final RedisValueCodec valueCodec;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Executor taskExecutor;
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    // 다른 서버의 계산 완료를 기다리는 L2 키 → 알림 (cache:loaded 수신 시 완료)
+    private final Map<String, CompletableFuture<Void>> remoteLoads = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onLoaded(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(LOADED_CHANNEL));
+    }
+
+    public <T> T get(String region, String key, Class<T> type, Supplier<T> loader) {
+        return get(region, key, TypeFactory.defaultInstance().constructType(type), loader);
+    }
+
+    public <T> T get(String region, String key, TypeReference<T> type, Supplier<T> loader) {
+        return get(region, key, TypeFactory.defaultInstance().constructType(type), loader);
+    }
+
+    /**
+     * 캐시 조회 (없으면 loader로 만들어 L2, L1에 저장)
+     *
+     * 소프트 만료가 지난 값은 그대로 반환하고 백그라운드에서 한 번만 다시 만든다.
+     * 값이 없으면 같은 키의 동시 요청 중 하나만 loader를 실행하고 나머지는 그 결과를 기다린다.
+     *
+     * @param region 캐시 영역
+     * @param key 영역 안의 키
+     * @param type 값 타입 (L2 디코딩용)
+     * @param loader 원본 조회 (null을 반환하면 캐시하지 않음)
+     * @return 값
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T get(String region, String key, JavaType type, Supplier<T> loader) {
+        Region cache = region(region);
+        if (!cache.enabled) {
+            return loader.get();
+        }
+
+        // 1. L1
+        Entry cached = cache.l1.getIfPresent(key);
+        if (cached != null) {
+            cache.l1Hit.increment();
+            return (T) serve(region, cache, key, type, loader, cached);
+        }
+        cache.l1Miss.increment();
+
+        // 2. L2
+        Entry stored = readL2(redisKey(region, key), type);
+        if (stored != null) {
+            cache.l2Hit.increment();
+            cache.l1.put(key, stored);
+            return (T) serve(region, cache, key, type, loader, stored);
+        }
+        cache.l2Miss.increment();
+
+        // 3. 원본 (single-flight)
+        Entry loaded = load(region, cache, key, type, loader, false);
+        return loaded != null ? (T) loaded.value : null;
+    }
+
+    // 소프트 만료가 지났으면 이전 값을 주고 백그라운드 재계산 시작
+    private Object serve(String region, Region cache, String key, JavaType type, Supplier<?> loader, Entry entry) {
+        if (entry.isStale(System.currentTimeMillis())) {
+            cache.staleServed.increment();
+            refreshAsync(region, cache, key, type, loader);
+        }
+        return entry.value;
+    }
+
+    private void refreshAsync(String region, Region cache, String key, JavaType type, Supplier<?> loader) {
+        if (cache.inflight.containsKey(key)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    load(region, cache, key, type, loader, true);
+                } catch (Exception e) {
+                    log.warn("캐시 백그라운드 갱신 실패 (이전 값 유지) - region: {}, key: {}, error: {}",
+                            region, key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 스레드 풀이 가득 참 - 다음 요청에서 다시 시도
+            log.debug("캐시 백그라운드 갱신 건너뜀 (스레드 풀 포화) - region: {}, key: {}", region, key);
+        }
+    }
+
+    /**
+     * 서버 안 single-flight: 같은 키를 이미 계산 중이면 그 결과를 함께 기다림
+     *
+     * @param refresh 백그라운드 갱신인 경우 true (다른 서버가 계산 중이면 기다리지 않고 끝냄)
+     * @return 계산(또는 다른 서버에서 받아 온) 항목, loader가 null을 반환했으면 null
+     */
+    private Entry load(String region, Region cache, String key, JavaType type, Supplier<?> loader, boolean refresh) {
+        CompletableFuture<Entry> flight = new CompletableFuture<>();
+        CompletableFuture<Entry> running = cache.inflight.putIfAbsent(key, flight);
+        if (running != null) {
+            cache.coalesced.increment();
+            Entry entry = await(running);
+            if (entry == null && !refresh) {
+                // 진행 중이던 것이 다른 서버에 양보하고 끝난 백그라운드 갱신인 경우 - 직접 다시 시도
+                return load(region, cache, key, type, loader, false);
+            }
+            return entry;
+        }
+
+        try {
+            Entry entry = loadAcrossNodes(region, cache, key, type, loader, refresh);
+            flight.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            cache.inflight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 서버 간 single-flight: 짧은 Redis 락을 잡은 서버만 계산하고 나머지는 계산 완료 알림을 기다렸다가 L2에서 읽음
+     * 알림이 와도 L2에 값이 없거나(저장 실패, 무효화) 기다리는 시간 안에 알림이 없으면 (락 보유 서버 장애 등) 직접 계산
+     */
+    private Entry loadAcrossNodes(String region, Region cache, String key, JavaType type, Supplier<?> loader,
+                                  boolean refresh) {
+        String redisKey = redisKey(region, key);
+        String lockKey = redisKey + LOCK_SUFFIX;
+
+        if (refresh) {
+            // 다른 서버가 이미 갱신했으면 그 값을 받아 씀
+            Entry stored = readL2(redisKey, type);
+            if (stored != null && !stored.isStale(System.currentTimeMillis())) {
+                cache.remoteLoaded.increment();
+                cache.l1.put(key, stored);
+                return stored;
+            }
+        }
+
+        // 락 값은 호출마다 다른 토큰 - 락 TTL이 지나 다른 서버가 잡은 락을 지우지 않도록
+        String lockToken = UUID.randomUUID().toString();
+        if (!redisUtil.setIfAbsent(lockKey, lockToken, cache.lockTtl)) {
+            if (refresh) {
+                // 다른 서버가 갱신 중 - 호출 측은 이전 값을 계속 제공
+                return null;
+            }
+            Entry stored = awaitRemoteLoad(redisKey, type, cache.lockWait);
+            if (stored != null) {
+                cache.remoteLoaded.increment();
+                cache.l1.put(key, stored);
+                return stored;
+            }
+            log.debug("다른 서버의 캐시 계산 대기 시간 초과 - 직접 계산 - key: {}", redisKey);
+            return loadAndStore(cache, key, redisKey, loader);
+        }
+
+        try {
+            return loadAndStore(cache, key, redisKey, loader);
+        } finally {
+            redisUtil.releaseLock(lockKey, lockToken);
+            // 기다리는 서버에 알림 (저장하지 못했으면 각자 L2를 확인하고 직접 계산)
+            redisUtil.publish(LOADED_CHANNEL, redisKey);
+        }
+    }
+
+    private Entry loadAndStore(Region cache, String key, String redisKey, Supplier<?> loader) {
+        cache.computed.increment();
+        // 계산 전에 세대를 읽어 둠 - 계산 중에 무효화되면 결과를 저장하지 않음
+        String generationKey = redisKey + GENERATION_SUFFIX;
+        Long generation = redisUtil.getCounters(List.of(generationKey)).get(0);
+        Object value = loader.get();
+        if (value == null) {
+            return null;
+        }
+
+        long softExpireAt = System.currentTimeMillis() + cache.softTtl.toMillis();
+        byte[] encoded;
+        try {
+            encoded = valueCodec.encode(redisKey, value);
+        } catch (Exception e) {
+            log.error("캐시 인코딩 실패 - key: {}", redisKey, e);
+            return new Entry(value, 0, softExpireAt);
+        }
+
+        Entry entry = new Entry(value, encoded.length, softExpireAt);
+        if (storeL2(cache, redisKey, generationKey, generation != null ? generation : 0L, encoded, softExpireAt)) {
+            cache.l1.put(key, entry);
+        } else {
+            // 계산하는 동안 무효화됨 - 이번 호출에는 돌려주되 캐시에는 남기지 않음
+            cache.discarded.increment();
+            log.debug("무효화된 캐시 계산 결과 버림 - key: {}", redisKey);
+        }
+        return entry;
+    }
+
+    // L2 저장 (세대가 바뀌었으면 저장하지 않고 false)
+    private boolean storeL2(Region cache, String redisKey, String generationKey, long generation,
+                            byte[] encoded, long softExpireAt) {
+        byte[] stored = ByteBuffer.allocate(Long.BYTES + encoded.length)
+                .putLong(softExpireAt)
+                .put(encoded)
+                .array();
+        try {
+            Long result = redisUtil.executeBinaryScript(STORE_SCRIPT, List.of(redisKey, generationKey),
+                    bytes(String.valueOf(generation)), stored, bytes(String.valueOf(cache.l2Ttl.toMillis())));
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            // L2에 못 썼을 뿐 값은 최신 - L1에는 둠 (다른 서버의 무효화 메시지로 지워짐)
+            log.error("L2 캐시 저장 실패 - key: {}", redisKey, e);
+            return true;
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // L2 값: [소프트 만료 시각 epoch ms 8바이트][RedisValueCodec 인코딩 값]
+    private Entry readL2(String redisKey, JavaType type) {
+        byte[] stored = redisUtil.getBytes(redisKey);
+        if (stored == null || stored.length <= Long.BYTES) {
+            return null;
+        }
+        try {
+            long softExpireAt = ByteBuffer.wrap(stored, 0, Long.BYTES).getLong();
+            byte[] encoded = Arrays.copyOfRange(stored, Long.BYTES, stored.length);
+            return new Entry(valueCodec.decode(encoded, type), encoded.length, softExpireAt);
+        } catch (Exception e) {
+            // 타입이 바뀐 이전 값 등 - 원본에서 다시 만들어 덮어씀
+            log.warn("L2 캐시 디코딩 실패 (다시 조회) - key: {}, error: {}", redisKey, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 다른 서버의 계산 결과 기다리기
+     *
+     * L2에 값이 있으면 (소프트 만료가 지난 이전 값이라도) 바로 쓰고, 없으면 cache:loaded 알림을 기다린 뒤 L2를 읽는다.
+     * 알림을 먼저 등록하고 L2를 확인하므로 그 사이에 끝난 계산도 놓치지 않는다.
+     *
+     * @return L2 값, 기다리는 시간 안에 알림이 없거나 알림 후에도 값이 없으면 null
+     */
+    private Entry awaitRemoteLoad(String redisKey, JavaType type, Duration wait) {
+        CompletableFuture<Void> signal = remoteLoads.computeIfAbsent(redisKey, k -> new CompletableFuture<>());
+        try {
+            Entry stored = readL2(redisKey, type);
+            if (stored != null) {
+                return stored;
+            }
+            signal.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+            return readL2(redisKey, type);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            remoteLoads.remove(redisKey, signal);
+        }
+    }
+
+    // 다른 서버(자기 자신 포함)의 계산 완료 알림 - 기다리는 요청을 깨움
+    private void onLoaded(String redisKey) {
+        CompletableFuture<Void> signal = remoteLoads.remove(redisKey);
+        if (signal != null) {
+            signal.complete(null);
+        }
+    }
+
+    private Entry await(CompletableFuture<Entry> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 무효화 (모든 서버의 L1 + L2)
+     *
+     * @param region 캐시 영역
+     * @param key 영역 안의 키
+     */
+    public void evict(String region, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(region, key);
+                }
+            });
+            return;
+        }
+        evictNow(region, key);
+    }
+
+    private void evictNow(String region, String key) {
+        Region cache = regions.get(region);
+        if (cache != null) {
+            cache.l1.invalidate(key);
+        }
+        String redisKey = redisKey(region, key);
+        try {
+            redisUtil.executeScript(EVICT_SCRIPT, List.of(redisKey, redisKey + GENERATION_SUFFIX),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+        } catch (Exception e) {
+            log.error("L2 캐시 무효화 실패 - key: {}", redisKey, e);
+        }
+        redisUtil.publish(INVALIDATION_CHANNEL, region + MESSAGE_SEPARATOR + key);
+    }
+
+    // 다른 서버(자기 자신 포함)에서 보낸 무효화 메시지 - L1만 지움
+    private void onInvalidation(String message) {
+        int separator = message.indexOf(MESSAGE_SEPARATOR);
+        if (separator <= 0) {
+            return;
+        }
+        Region cache = regions.get(message.substring(0, separator));
+        if (cache != null) {
+            cache.l1.invalidate(message.substring(separator + 1));
+        }
+    }
+
+    private Region region(String name) {
+        return regions.computeIfAbsent(name, this::createRegion);
+    }
+
+    private Region createRegion(String name) {
+        String prefix = "cache." + name + ".";
+        boolean enabled = environment.getProperty(prefix + "enabled", Boolean.class, true);
+        long maxSize = environment.getProperty(prefix + "l1-max-size", Long.class, 1000L);
+        long maxBytes = environment.getProperty(prefix + "l1-max-bytes", Long.class, 16L * 1024 * 1024);
+        long l1TtlSeconds = environment.getProperty(prefix + "l1-ttl-seconds", Long.class, 30L);
+        long l2TtlSeconds = environment.getProperty(prefix + "l2-ttl-seconds", Long.class, 300L);
+        long softTtlSeconds = environment.getProperty(prefix + "soft-ttl-seconds", Long.class, l2TtlSeconds);
+        long lockTtlMs = environment.getProperty(prefix + "lock-ttl-ms", Long.class, 5000L);
+        long lockWaitMs = environment.getProperty(prefix + "lock-wait-ms", Long.class, 2000L);
+
+        // 항목 수와 용량을 함께 제한: 항목 하나의 무게를 최소 (용량 / 최대 항목 수)로 잡음
+        long minWeight = Math.max(1, maxBytes / maxSize);
+        Cache<String, Entry> l1 = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, Math.max(minWeight, entry.weight)))
+                .expireAfterWrite(Duration.ofSeconds(l1TtlSeconds))
+                .build();
+
+        Region region = new Region(name, enabled, l1,
+                Duration.ofSeconds(l2TtlSeconds),
+                Duration.ofSeconds(Math.min(softTtlSeconds, l2TtlSeconds)),
+                Duration.ofMillis(lockTtlMs),
+                Duration.ofMillis(lockWaitMs),
+                meterRegistry);
+        Gauge.builder("cache.l1.size", l1, Cache::estimatedSize)
+                .tag("region", name)
+                .register(meterRegistry);
+
+        log.info("캐시 영역 생성 - region: {}, enabled: {}, L1: {}개/{}B/{}s, L2: {}s (soft {}s)",
+                name, enabled, maxSize, maxBytes, l1TtlSeconds, l2TtlSeconds, region.softTtl.toSeconds());
+        return region;
+    }
+
+    private String redisKey(String region, String key) {
+        return KEY_PREFIX + region + ":" + key;
+    }
+
+    private static class Region {
+
+        private final boolean enabled;
+        private final Cache<String, Entry> l1;
+        // 키별 진행 중인 계산 (서버 안 single-flight)
+        private final Map<String, CompletableFuture<Entry>> inflight = new ConcurrentHashMap<>();
+        private final Duration l2Ttl;
+        private final Duration softTtl;
+        private final Duration lockTtl;
+        private final Duration lockWait;
+        private final Counter l1Hit;
+        private final Counter l1Miss;
+        private final Counter l2Hit;
+        private final Counter l2Miss;
+        private final Counter computed;
+        private final Counter coalesced;
+        private final Counter remoteLoaded;
+        private final Counter staleServed;
+        private final Counter discarded;
+
+        Region(String name, boolean enabled, Cache<String, Entry> l1, Duration l2Ttl, Duration softTtl,
+               Duration lockTtl, Duration lockWait, MeterRegistry meterRegistry) {
+            this.enabled = enabled;
+            this.l1 = l1;
+            this.l2Ttl = l2Ttl;
+            this.softTtl = softTtl;
+            this.lockTtl = lockTtl;
+            this.lockWait = lockWait;
+            this.l1Hit = counter(meterRegistry, name, "l1", "hit");
+            this.l1Miss = counter(meterRegistry, name, "l1", "miss");
+            this.l2Hit = counter(meterRegistry, name, "l2", "hit");
+            this.l2Miss = counter(meterRegistry, name, "l2", "miss");
+            this.computed = meterRegistry.counter("cache.loads", "region", name, "result", "computed");
+            this.coalesced = meterRegistry.counter("cache.loads", "region", name, "result", "coalesced");
+            this.remoteLoaded = meterRegistry.counter("cache.loads", "region", name, "result", "remote");
+            this.staleServed = meterRegistry.counter("cache.stale.served", "region", name);
+            this.discarded = meterRegistry.counter("cache.loads", "region", name, "result", "discarded");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String region, String tier, String result) {
+            return meterRegistry.counter("cache.requests", "region", region, "tier", tier, "result", result);
+        }
+    }
+
+    // L1 항목 (무게 = 인코딩된 크기, 소프트 만료 시각은 L2 값과 같음)
+    private static class Entry {
+
+        private final Object value;
+        private final int weight;
+        private final long softExpireAt;
+
+        Entry(Object value, int weight, long softExpireAt) {
+            this.value = value;
+            this.weight = weight;
+            this.softExpireAt = softExpireAt;
+        }
+
+        boolean isStale(long now) {
+            return now >= softExpireAt;
+        }
+    }
+}
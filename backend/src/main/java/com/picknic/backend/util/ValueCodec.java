@@ -0,0 +1,26 @@
+package com.picknic.backend.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+
+/**
+ * Redis 값 직렬화 방식 (RedisValueCodec에 빈으로 등록)
+ *
+ * id는 저장된 값의 헤더에 기록되므로 한 번 정하면 바꾸지 않는다.
+ * 새 방식을 추가해도 기존 값은 헤더의 id로 원래 방식을 찾아 읽을 수 있다.
+ */
+public interface ValueCodec {
+
+    /**
+     * 헤더에 기록되는 코덱 ID (1~127, 코덱마다 고유)
+     */
+    byte id();
+
+    /**
+     * 설정에서 쓰는 이름 (redis.codec.default, redis.codec.prefixes)
+     */
+    String name();
+
+    byte[] encode(Object value) throws Exception;
+
+    <T> T decode(byte[] bytes, int offset, int length, JavaType type) throws Exception;
+}
@@ -0,0 +1,31 @@
+-- 전체 사용자 대상 알림 (Hot 투표 등): 사용자별 행 대신 알림당 한 행
+-- 읽음 여부는 사용자별 커서(notification_cursors) + 커서 뒤의 개별 읽음 기록(broadcast_notification_reads)
+-- 백엔드와 Lambda 모두 nextval로 직접 INSERT 하므로 시퀀스는 1씩 증가
+-- 여러 번 실행해도 안전함
+
+CREATE SEQUENCE IF NOT EXISTS broadcast_notifications_seq INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS broadcast_notifications (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    vote_id BIGINT,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_broadcast_notifications_type_vote UNIQUE (type, vote_id)
+);
+
+CREATE TABLE IF NOT EXISTS notification_cursors (
+    user_id VARCHAR(255) PRIMARY KEY,
+    last_read_broadcast_id BIGINT NOT NULL
+);
+
+CREATE SEQUENCE IF NOT EXISTS broadcast_notification_reads_seq INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS broadcast_notification_reads (
+    id BIGINT PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    broadcast_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_broadcast_notification_reads_user_broadcast UNIQUE (user_id, broadcast_id)
+);
@@ -0,0 +1,25 @@
+-- ID 생성 방식 전환: IDENTITY → SEQUENCE (pooled optimizer, allocationSize 50)
+-- IDENTITY는 INSERT 후에야 ID를 알 수 있어 Hibernate JDBC 배치가 꺼지므로
+-- 쓰기가 많은 엔티티는 시퀀스에서 50개씩 ID를 미리 할당받아 배치 INSERT 한다.
+--
+-- 시퀀스 값은 기존 최대 ID보다 뒤로 맞춰서 충돌하지 않도록 한다. (이미 앞서 있으면 되돌리지 않음)
+-- (기존 IDENTITY 컬럼은 GENERATED BY DEFAULT 이므로 명시적인 ID INSERT를 그대로 받음)
+-- 여러 번 실행해도 안전함
+
+CREATE SEQUENCE IF NOT EXISTS votes_seq INCREMENT BY 50;
+SELECT setval('votes_seq', GREATEST((SELECT last_value FROM votes_seq), COALESCE((SELECT MAX(id) FROM votes), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS vote_options_seq INCREMENT BY 50;
+SELECT setval('vote_options_seq', GREATEST((SELECT last_value FROM vote_options_seq), COALESCE((SELECT MAX(id) FROM vote_options), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS vote_records_seq INCREMENT BY 50;
+SELECT setval('vote_records_seq', GREATEST((SELECT last_value FROM vote_records_seq), COALESCE((SELECT MAX(id) FROM vote_records), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS point_history_seq INCREMENT BY 50;
+SELECT setval('point_history_seq', GREATEST((SELECT last_value FROM point_history_seq), COALESCE((SELECT MAX(id) FROM point_history), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS notifications_seq INCREMENT BY 50;
+SELECT setval('notifications_seq', GREATEST((SELECT last_value FROM notifications_seq), COALESCE((SELECT MAX(id) FROM notifications), 0) + 50));
+
+CREATE SEQUENCE IF NOT EXISTS school_seq INCREMENT BY 50;
+SELECT setval('school_seq', GREATEST((SELECT last_value FROM school_seq), COALESCE((SELECT MAX(id) FROM school), 0) + 50));
@@ -0,0 +1,5 @@
+-- 알림함 키셋 페이지네이션용 인덱스 (createdAt DESC, id DESC 정렬)
+-- 여러 번 실행해도 안전함
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_at_id ON notifications (user_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_broadcast_notifications_created_at_id ON broadcast_notifications (created_at, id);
@@ -0,0 +1,5 @@
+-- 투표 피드 키셋 페이지네이션용 인덱스 (createdAt DESC, id DESC 정렬)
+-- 여러 번 실행해도 안전함
+
+CREATE INDEX IF NOT EXISTS idx_votes_created_at_id ON votes (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_votes_creator_created_at_id ON votes (creator_id, created_at, id);
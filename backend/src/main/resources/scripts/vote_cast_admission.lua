@@ -0,0 +1,65 @@
+-- 투표 참여 승인 (cast admission)
+-- 중복 투표 확인, 선택지 검증, 일일 포인트 제한, 투표 수 증분, 투표 기록 적재를 한 번에 원자적으로 처리
+-- (분석 결과는 VoteDemographicsService 카운터로 계산하므로 투표마다 캐시를 지우지 않음)
+--
+-- KEYS[1] vote:voters:{voteId}   투표 참여자 집합
+-- KEYS[2] vote:options:{voteId}  유효한 선택지 ID 집합 (캐시)
+-- KEYS[3] limit:{date}          일일 포인트 카운터 해시 (필드: VOTE:{userId}, DailyLimitService와 같은 규칙)
+-- KEYS[4] vote:tally:{voteId}    미반영 투표 수 증분 해시
+-- KEYS[5] vote:tally:dirty       증분 반영 대기 목록
+-- KEYS[6] vote:records:queue     DB 저장 대기 중인 투표 기록
+--
+-- ARGV[1] userId, ARGV[2] optionId, ARGV[3] voteId, ARGV[4] 일일 제한 (로컬에서 소진 확인 시 0), ARGV[5] 카운터 만료 시각(epoch 초),
+-- ARGV[6] votedAt, ARGV[7] 선택지 캐시 TTL(초), ARGV[8..] 선택지 ID 목록 (캐시 초기화용)
+--
+-- 반환값: 1 = 승인 (포인트 지급), 0 = 승인 (일일 제한 초과로 포인트 미지급)
+--        -1 = 참여자 집합 미초기화, -2 = 중복 투표, -3 = 잘못된 선택지
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    return -2
+end
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    for i = 8, #ARGV do
+        redis.call('SADD', KEYS[2], ARGV[i])
+    end
+    redis.call('EXPIRE', KEYS[2], ARGV[7])
+end
+
+if redis.call('SISMEMBER', KEYS[2], ARGV[2]) == 0 then
+    return -3
+end
+
+redis.call('SADD', KEYS[1], ARGV[1])
+
+local pointsAdmitted = false
+local limitField = 'VOTE:' .. ARGV[1]
+local count = tonumber(redis.call('HGET', KEYS[3], limitField) or '0')
+if count < tonumber(ARGV[4]) then
+    redis.call('HINCRBY', KEYS[3], limitField, 1)
+    if redis.call('TTL', KEYS[3]) < 0 then
+        redis.call('EXPIREAT', KEYS[3], ARGV[5])
+    end
+    pointsAdmitted = true
+end
+
+redis.call('HINCRBY', KEYS[4], 'total', 1)
+redis.call('HINCRBY', KEYS[4], ARGV[2], 1)
+redis.call('SADD', KEYS[5], ARGV[3])
+
+redis.call('RPUSH', KEYS[6], cjson.encode({
+    voteId = ARGV[3],
+    optionId = ARGV[2],
+    userId = ARGV[1],
+    votedAt = ARGV[6],
+    pointsAdmitted = pointsAdmitted
+}))
+
+if pointsAdmitted then
+    return 1
+end
+return 0
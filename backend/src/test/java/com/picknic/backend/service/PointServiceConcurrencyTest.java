@@ -0,0 +1,109 @@
+package com.picknic.backend.service;
+
+import com.picknic.backend.domain.PointType;
+import com.picknic.backend.domain.UserPoint;
+import com.picknic.backend.entity.User;
+import com.picknic.backend.repository.UserPointRepository;
+import com.picknic.backend.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자에 대한 동시 적립이 하나도 빠지지 않는지 확인
+ *
+ * 적립은 user_points에 INSERT ... ON CONFLICT DO UPDATE로 더하는 PostgreSQL 전용 쿼리라
+ * H2가 아닌 실제 PostgreSQL(Testcontainers)에서 실행한다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "aws.sns.publisher=memory",
+        "logging.level.com.picknic.backend.service=WARN"
+})
+class PointServiceConcurrencyTest {
+
+    private static final int EARN_COUNT = 10_000;
+    private static final int THREADS = 32;
+    private static final int AMOUNT = 3;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 사용자에게 동시에 10,000번 적립해도 현재/누적 포인트가 모두 반영된다")
+    void concurrentEarnsAreAllApplied() throws Exception {
+        String userId = "concurrency@picknic.com";
+        userRepository.save(User.builder()
+                .email(userId)
+                .nickname("동시성테스트")
+                .schoolName("경기고등학교")
+                .gender("MALE")
+                .birthYear(2008)
+                .provider(User.AuthProvider.LOCAL)
+                .build());
+
+        // 모든 스레드가 준비된 뒤 한꺼번에 시작해 같은 행에 대한 INSERT 충돌이 실제로 일어나게 함
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>(EARN_COUNT);
+        try {
+            for (int i = 0; i < EARN_COUNT; i++) {
+                String referenceId = String.valueOf(i);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    pointService.earnPoints(userId, PointType.EVENT, AMOUNT, null, referenceId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long expected = (long) EARN_COUNT * AMOUNT;
+        UserPoint userPoint = userPointRepository.findByUserId(userId).orElseThrow();
+        assertThat(userPoint.getCurrentPoints()).isEqualTo(expected);
+        assertThat(userPoint.getTotalAccumulatedPoints()).isEqualTo(expected);
+
+        Integer historyCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE user_id = ?", Integer.class, userId);
+        assertThat(historyCount).isEqualTo(EARN_COUNT);
+    }
+}
@@ -0,0 +1,253 @@
+package com.picknic.backend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * SnsBatchPublisher - aws.sns.endpoint를 로컬 SNS 대체 서버(JDK HttpServer)로 지정해 실제 SnsAsyncClient로 전송
+ *
+ * 대체 서버는 PublishBatch 요청(Query 프로토콜)의 항목 수를 기록하고, 테스트마다 정한 응답을 돌려준다.
+ */
+class SnsBatchPublisherTest {
+
+    private static final Pattern ENTRY_PARAM = Pattern.compile("PublishBatchRequestEntries\\.member\\.(\\d+)\\.(Id|Message)");
+    private static final int MAX_ATTEMPTS = 3;
+
+    private HttpServer server;
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private volatile Function<Map<String, String>, StubResponse> responder;
+
+    private MeterRegistry meterRegistry;
+    private SnsBatchPublisher publisher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        responder = entries -> StubResponse.ok(batchResponse(entries.keySet(), List.of(), false));
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            Map<String, String> entries = parseEntries(
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            batchSizes.add(entries.size());
+            StubResponse response = responder.apply(entries);
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/xml");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        publisher = createPublisher(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("대기열의 메시지를 최대 10건씩 PublishBatch로 묶어 보낸다")
+    void batchesIntoGroupsOfTen() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            assertThat(publisher.publish("subject", "message-" + i)).isTrue();
+        }
+
+        publisher.flush();
+        awaitUntil(() -> count("sent") == 25);
+
+        assertThat(batchSizes).containsExactlyInAnyOrder(10, 10, 5);
+        assertThat(count("retried")).isZero();
+        assertThat(count("failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 항목 실패는 백오프 후 다시 보내 전송한다")
+    void retriesRetryableEntryFailures() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        responder = entries -> requests.incrementAndGet() == 1
+                ? StubResponse.ok(batchResponse(List.of(), entries.keySet(), false))
+                : StubResponse.ok(batchResponse(entries.keySet(), List.of(), false));
+
+        publisher.publish("subject", "flaky");
+        awaitUntil(() -> {
+            publisher.flush();
+            return count("sent") == 1;
+        });
+
+        assertThat(count("retried")).isEqualTo(1);
+        assertThat(count("failed")).isZero();
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-attempts번 실패한 메시지는 버리고 failed로 센다")
+    void givesUpAfterMaxAttempts() throws Exception {
+        responder = entries -> StubResponse.ok(batchResponse(List.of(), entries.keySet(), false));
+
+        publisher.publish("subject", "always-failing");
+        awaitUntil(() -> {
+            publisher.flush();
+            return count("failed") == 1;
+        });
+
+        assertThat(count("retried")).isEqualTo(MAX_ATTEMPTS - 1);
+        assertThat(count("sent")).isZero();
+        assertThat(batchSizes).hasSize(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("메시지 자체가 잘못된 항목(senderFault)은 재시도하지 않는다")
+    void doesNotRetrySenderFaults() throws Exception {
+        responder = entries -> StubResponse.ok(batchResponse(List.of(), entries.keySet(), true));
+
+        publisher.publish("subject", "invalid");
+        publisher.flush();
+        awaitUntil(() -> count("failed") == 1);
+
+        assertThat(count("retried")).isZero();
+        assertThat(batchSizes).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 요청 오류(4xx)는 배치 전체를 failed로 센다")
+    void failsWholeBatchOnClientError() throws Exception {
+        responder = entries -> new StubResponse(400, "<ErrorResponse>"
+                + "<Error><Type>Sender</Type><Code>InvalidParameter</Code><Message>Invalid parameter</Message></Error>"
+                + "<RequestId>test</RequestId></ErrorResponse>");
+
+        for (int i = 0; i < 3; i++) {
+            publisher.publish("subject", "message-" + i);
+        }
+        publisher.flush();
+        awaitUntil(() -> count("failed") == 3);
+
+        assertThat(count("retried")).isZero();
+        assertThat(count("sent")).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 메시지를 버리고 overflow로 센다")
+    void countsOverflowWhenBufferIsFull() {
+        publisher.shutdown();
+        publisher = createPublisher(2);
+
+        assertThat(publisher.publish("subject", "1")).isTrue();
+        assertThat(publisher.publish("subject", "2")).isTrue();
+        assertThat(publisher.publish("subject", "3")).isFalse();
+
+        assertThat(count("overflow")).isEqualTo(1);
+    }
+
+    private SnsBatchPublisher createPublisher(int bufferSize) {
+        meterRegistry = new SimpleMeterRegistry();
+        SnsBatchPublisher created = new SnsBatchPublisher(meterRegistry, bufferSize);
+        ReflectionTestUtils.setField(created, "topicArn", "arn:aws:sns:ap-northeast-2:000000000000:test");
+        ReflectionTestUtils.setField(created, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(created, "accessKey", "test");
+        ReflectionTestUtils.setField(created, "secretKey", "test");
+        ReflectionTestUtils.setField(created, "endpoint", "http://localhost:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(created, "maxInFlight", 4);
+        ReflectionTestUtils.setField(created, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(created, "retryBaseDelayMs", 1L);
+        ReflectionTestUtils.setField(created, "retryMaxDelayMs", 5L);
+        ReflectionTestUtils.setField(created, "shutdownTimeoutMs", 200L);
+        created.init();
+        return created;
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("sns.publish.messages", "result", result).count();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건을 기다리다 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    // 요청 본문(form)에서 항목 ID → 메시지 (요청 순서)
+    private static Map<String, String> parseEntries(String body) {
+        Map<Integer, String[]> members = new TreeMap<>();
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String name = URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8);
+            Matcher matcher = ENTRY_PARAM.matcher(name);
+            if (matcher.matches()) {
+                String[] member = members.computeIfAbsent(Integer.parseInt(matcher.group(1)), k -> new String[2]);
+                member["Id".equals(matcher.group(2)) ? 0 : 1] =
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        Map<String, String> entries = new LinkedHashMap<>();
+        members.values().forEach(member -> entries.put(member[0], member[1]));
+        return entries;
+    }
+
+    private static String batchResponse(Collection<String> successfulIds, Collection<String> failedIds,
+                                        boolean senderFault) {
+        StringBuilder xml = new StringBuilder(
+                "<PublishBatchResponse xmlns=\"http://sns.amazonaws.com/doc/2010-03-31/\"><PublishBatchResult><Successful>");
+        for (String id : successfulIds) {
+            xml.append("<member><Id>").append(id).append("</Id><MessageId>message-").append(id)
+                    .append("</MessageId></member>");
+        }
+        xml.append("</Successful><Failed>");
+        for (String id : failedIds) {
+            xml.append("<member><Id>").append(id).append("</Id><Code>InternalError</Code>")
+                    .append("<Message>stub failure</Message><SenderFault>").append(senderFault)
+                    .append("</SenderFault></member>");
+        }
+        xml.append("</Failed></PublishBatchResult>")
+                .append("<ResponseMetadata><RequestId>test</RequestId></ResponseMetadata></PublishBatchResponse>");
+        return xml.toString();
+    }
+
+    private static class StubResponse {
+
+        private final int status;
+        private final String body;
+
+        StubResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static StubResponse ok(String body) {
+            return new StubResponse(200, body);
+        }
+    }
+}
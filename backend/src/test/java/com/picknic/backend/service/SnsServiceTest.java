@@ -0,0 +1,62 @@
+package com.picknic.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SnsService + aws.sns.publisher 설정별 발행기 선택
+ *
+ * memory면 AWS 클라이언트 없이 InMemorySnsPublisher에 쌓이고 배치 발행기, 스케줄러는 만들어지지 않는다.
+ */
+class SnsServiceTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(ObjectMapper.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withUserConfiguration(SnsService.class, InMemorySnsPublisher.class,
+                    SnsBatchPublisher.class, SnsPublishScheduler.class);
+
+    @Test
+    @DisplayName("aws.sns.publisher=memory면 메모리 발행기만 등록된다")
+    void usesInMemoryPublisher() {
+        contextRunner
+                .withPropertyValues("aws.sns.publisher=memory")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(SnsPublisher.class);
+                    assertThat(context.getBean(SnsPublisher.class)).isInstanceOf(InMemorySnsPublisher.class);
+                    assertThat(context).doesNotHaveBean(SnsBatchPublisher.class);
+                    assertThat(context).doesNotHaveBean(SnsPublishScheduler.class);
+                });
+    }
+
+    @Test
+    @DisplayName("Hot 투표 알림은 메모리 발행기에 JSON 메시지로 쌓인다")
+    void publishesHotVoteNotification() {
+        contextRunner
+                .withPropertyValues("aws.sns.publisher=memory")
+                .run(context -> {
+                    InMemorySnsPublisher publisher = context.getBean(InMemorySnsPublisher.class);
+                    context.getBean(SnsService.class).publishHotVoteNotification(42L, "급식 만족도", "학교생활");
+
+                    assertThat(publisher.getPublished()).hasSize(1);
+                    InMemorySnsPublisher.PublishedMessage published = publisher.getPublished().get(0);
+                    assertThat(published.getSubject()).isEqualTo("Hot Vote Notification");
+
+                    JsonNode message = new ObjectMapper().readTree(published.getMessage());
+                    assertThat(message.path("type").asText()).isEqualTo("HOT_VOTE");
+                    assertThat(message.path("voteId").asLong()).isEqualTo(42L);
+                    assertThat(message.path("voteTitle").asText()).isEqualTo("급식 만족도");
+                    assertThat(message.path("category").asText()).isEqualTo("학교생활");
+
+                    publisher.clear();
+                    assertThat(publisher.getPublished()).isEmpty();
+                });
+    }
+}
@@ -31,7 +31,7 @@ import { NotificationPopover } from "./components/NotificationPopover";
 import { Toaster } from "./components/ui/sonner";
 import { toast } from "sonner";
 import { userService } from "./services/userService";
-import { voteService } from "./services/voteService";
+import { voteService, type VoteFeedOptions } from "./services/voteService";
 import { pointService } from "./services/pointService";
 import { notificationService, type NotificationDisplay } from "./services/notificationService";
 import { apiClient } from "./lib/api";
@@ -40,6 +40,11 @@ import type { DailyLimitResponse } from "./types/point";
 
 // Helper function removed as voteService now returns formatted data
 
+// 피드 한 페이지 크기 (나머지는 "더 보기"로 다음 페이지 조회)
+const VOTE_FEED_PAGE_SIZE = 50;
+// HOT 탭에 보여줄 투표 수
+const HOT_VOTES_SIZE = 10;
+
 export default function App() {
   const auth = useAuth();
   const [authStep, setAuthStep] = useState<"LOGIN" | "SIGNUP" | "APP">("LOGIN");
@@ -64,6 +69,9 @@ export default function App() {
   const [filterMyVotes, setFilterMyVotes] = useState<boolean>(false);
   const [filterParticipatedVotes, setFilterParticipatedVotes] = useState<boolean>(false);
   const [allVotesData, setAllVotesData] = useState<VoteType[]>([]);
+  const [hotVotesData, setHotVotesData] = useState<VoteType[]>([]);
+  // 피드 다음 페이지 커서 (null이면 마지막 페이지)
+  const [votesCursor, setVotesCursor] = useState<string | null>(null);
   const voteRefs = useRef<{ [key: string]: HTMLDivElement | null }>({});
   const [dailyLimit, setDailyLimit] = useState<DailyLimitResponse>({
     voteRemaining: 10,
@@ -92,27 +100,97 @@ export default function App() {
     loadInitialData();
   }, [authStep]);
 
-  // Load notifications with polling
+  // 전체 탭 피드 조건 - 학교, 작성자, 카테고리, 미참여는 서버에서 거름 (투표 타입만 불러온 목록에서 거름)
+  const feedSchoolName = filterSchool ? verifiedSchool : undefined;
+  const feedCreatorId: string | null | undefined = filterMyVotes ? userProfile?.userId ?? null : undefined;
+  const feedCategory = filterCategory !== "all" ? filterCategory : undefined;
+  // 인증된 학교가 없거나 프로필을 아직 못 불러온 경우 조회할 투표가 없음
+  const feedUnavailable = feedSchoolName === null || feedCreatorId === null;
+  const feedOptions: VoteFeedOptions = {
+    schoolName: feedSchoolName ?? undefined,
+    creatorId: feedCreatorId ?? undefined,
+    category: feedCategory,
+    excludeVoted: filterParticipatedVotes || undefined,
+  };
+
+  // 조건이 바뀌면 첫 페이지부터 다시 조회
   useEffect(() => {
-    const loadNotifications = async () => {
-      if (authStep !== "APP") return;
+    if (authStep !== "APP" || feedUnavailable) return;
+
+    let cancelled = false;
+    voteService.getVoteFeed({
+      schoolName: feedSchoolName ?? undefined,
+      creatorId: feedCreatorId ?? undefined,
+      category: feedCategory,
+      excludeVoted: filterParticipatedVotes || undefined,
+      size: VOTE_FEED_PAGE_SIZE,
+    })
+      .then(page => {
+        if (cancelled) return;
+        setAllVotesData(page.votes as unknown as VoteType[]);
+        setVotesCursor(page.nextCursor);
+      })
+      .catch(error => {
+        console.error('Failed to load votes:', error);
+        if (!cancelled) toast.error('투표를 불러오지 못했습니다.');
+      });
+
+    return () => {
+      cancelled = true;
+    };
+  }, [authStep, feedUnavailable, feedSchoolName, feedCreatorId, feedCategory, filterParticipatedVotes]);
 
+  // Load notifications, then receive new ones over SSE (poll the unread count only while disconnected)
+  useEffect(() => {
+    if (authStep !== "APP") return;
+
+    let lastUnreadCount = -1;
+    const pollUnreadCount = async () => {
       try {
-        const data = await notificationService.getNotifications();
-        setNotifications(data);
+        const count = await notificationService.getUnreadCount();
+        setUnreadCount(count);
+        // 새 알림이 생겼을 때만 첫 페이지를 다시 조회
+        if (count > lastUnreadCount) {
+          await loadNotifications();
+        }
+        lastUnreadCount = count;
       } catch (error) {
-        console.error('Failed to load notifications:', error);
+        console.error('Failed to load unread notification count:', error);
       }
     };
 
-    if (authStep === "APP") {
-      // Initial load
-      loadNotifications();
+    // Initial load
+    pollUnreadCount();
+
+    let interval: ReturnType<typeof setInterval> | undefined;
+    const unsubscribe = notificationService.subscribe(
+      (notification) => {
+        // 재연결 때 다시 받았거나 목록 조회로 이미 받은 알림은 건너뜀 (안 읽은 수도 늘리지 않음)
+        if (notificationsRef.current.some(notif => notif.id === notification.id)) return;
+        notificationsRef.current = [notification, ...notificationsRef.current];
+        setNotifications(prev =>
+          prev.some(notif => notif.id === notification.id) ? prev : [notification, ...prev]
+        );
+        setUnreadCount(prev => prev + 1);
+        lastUnreadCount += 1;
+      },
+      (connected) => {
+        clearInterval(interval);
+        interval = undefined;
+        if (connected) {
+          // 끊겨 있던 동안의 변경 반영 후 폴링 중단
+          pollUnreadCount();
+        } else {
+          // Poll every 30 seconds until the stream reconnects
+          interval = setInterval(pollUnreadCount, 30000);
+        }
+      }
+    );
 
-      // Poll every 30 seconds
-      const interval = setInterval(loadNotifications, 30000);
-      return () => clearInterval(interval);
-    }
+    return () => {
+      unsubscribe();
+      clearInterval(interval);
+    };
   }, [authStep]);
 
   const loadInitialData = async () => {
@@ -121,9 +199,10 @@ export default function App() {
     setIsLoadingData(true);
     try {
       // OPTIMIZATION: Load all data in parallel instead of sequentially
-      const [profile, votes, limit] = await Promise.all([
+      // 전체 탭 피드는 조건에 따라 따로 조회 (위 effect)
+      const [profile, hotPage, limit] = await Promise.all([
         userService.getMyProfile(),
-        voteService.getVotes(), // 모든 투표 가져오기 (마감된 투표도 포함)
+        voteService.getVoteFeed({ hot: true, size: HOT_VOTES_SIZE }),
         pointService.getDailyLimit()
       ]);
 
@@ -132,7 +211,7 @@ export default function App() {
       setUserPoints(profile.points);
       setUserRank(profile.rank);
       setVerifiedSchool(profile.verifiedSchool);
-      setAllVotesData(votes as unknown as VoteType[]);
+      setHotVotesData(hotPage.votes as unknown as VoteType[]);
       setDailyLimit(limit);
     } catch (error: any) {
       console.error('Failed to load initial data:', error);
@@ -148,8 +227,69 @@ export default function App() {
     }
   };
 
+  const loadHotVotes = async () => {
+    try {
+      const page = await voteService.getVoteFeed({ hot: true, size: HOT_VOTES_SIZE });
+      setHotVotesData(page.votes as unknown as VoteType[]);
+    } catch (error) {
+      console.error('Failed to load hot votes:', error);
+    }
+  };
+
+  // 전체 탭 피드 다음 페이지 (같은 조건)
+  const handleLoadMoreVotes = async () => {
+    if (!votesCursor) return;
+    try {
+      const page = await voteService.getVoteFeed({ ...feedOptions, cursor: votesCursor, size: VOTE_FEED_PAGE_SIZE });
+      const loaded = page.votes as unknown as VoteType[];
+      setAllVotesData(prev => [...prev, ...loaded.filter(vote => !prev.some(existing => existing.id === vote.id))]);
+      setVotesCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Failed to load more votes:', error);
+      toast.error('투표를 더 불러오지 못했습니다.');
+    }
+  };
+
   // 알림 상태
   const [notifications, setNotifications] = useState<NotificationDisplay[]>([]);
+  const [notificationsCursor, setNotificationsCursor] = useState<string | null>(null);
+  const [unreadCount, setUnreadCount] = useState(0);
+  // SSE 핸들러에서 최신 알림 목록을 보기 위한 참조
+  const notificationsRef = useRef(notifications);
+  useEffect(() => {
+    notificationsRef.current = notifications;
+  }, [notifications]);
+
+  const loadNotifications = async () => {
+    try {
+      const page = await notificationService.getNotifications();
+      setNotifications(page.items);
+      setNotificationsCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Failed to load notifications:', error);
+    }
+  };
+
+  const handleLoadMoreNotifications = async () => {
+    if (!notificationsCursor) return;
+    try {
+      const page = await notificationService.getNotifications(notificationsCursor);
+      setNotifications(prev => [...prev, ...page.items]);
+      setNotificationsCursor(page.nextCursor);
+    } catch (error) {
+      console.error('Failed to load more notifications:', error);
+    }
+  };
+
+  const handleMarkAllAsRead = async () => {
+    try {
+      await notificationService.markAllAsRead();
+      setNotifications(prev => prev.map(notif => ({ ...notif, isRead: true })));
+      setUnreadCount(0);
+    } catch (error) {
+      console.error('Failed to mark all notifications as read:', error);
+    }
+  };
 
   const handleNotificationClick = (voteId: string) => {
     // 전체 탭으로 이동
@@ -172,6 +312,9 @@ export default function App() {
   const handleMarkAsRead = async (notificationId: string) => {
     try {
       await notificationService.markAsRead(notificationId);
+      if (notifications.some(notif => notif.id === notificationId && !notif.isRead)) {
+        setUnreadCount(prev => Math.max(0, prev - 1));
+      }
       setNotifications(prev =>
         prev.map(notif =>
           notif.id === notificationId ? { ...notif, isRead: true } : notif
@@ -278,9 +421,8 @@ export default function App() {
   }
 
   // Computed values based on loaded data
-  const hotVotes = allVotesData.filter(vote => vote.isHot).slice(0, 10);
-  const schoolVotes = allVotesData.filter(vote => vote.schoolName);
-  const allVotes = allVotesData;
+  const hotVotes = hotVotesData;
+  const allVotes = feedUnavailable ? [] : allVotesData;
 
   const refreshUserData = async () => {
     if (!auth.isAuthenticated && !localStorage.getItem("token")) return;
@@ -309,11 +451,10 @@ export default function App() {
       const updatedVote = await voteService.castVote(Number(voteId), { optionId });
 
       // Update local state
-      setAllVotesData(prevVotes =>
-        prevVotes.map(vote =>
-          vote.id === voteId ? (updatedVote as unknown as VoteType) : vote
-        )
-      );
+      const replaceVote = (votes: VoteType[]) =>
+        votes.map(vote => vote.id === voteId ? (updatedVote as unknown as VoteType) : vote);
+      setAllVotesData(replaceVote);
+      setHotVotesData(replaceVote);
 
       // Refresh user profile and daily limit
       const data = await refreshUserData();
@@ -385,6 +526,7 @@ export default function App() {
 
       // Remove from local state
       setAllVotesData(prev => prev.filter(vote => vote.id !== voteId));
+      setHotVotesData(prev => prev.filter(vote => vote.id !== voteId));
 
       toast.success("투표가 삭제되었습니다.");
     } catch (error) {
@@ -400,6 +542,8 @@ export default function App() {
         vote.id === voteId ? updatedVote : vote
       )
     );
+    // HOT 목록은 서버 기준으로 다시 조회
+    await loadHotVotes();
   };
 
   const navItems = [
@@ -416,7 +560,11 @@ export default function App() {
     setVerifiedSchool(null);
     setActiveTab("hot");
     setAllVotesData([]);
+    setHotVotesData([]);
+    setVotesCursor(null);
     setNotifications([]);
+    setNotificationsCursor(null);
+    setUnreadCount(0);
 
     // LOCAL 사용자용
     localStorage.removeItem("token");
@@ -617,8 +765,12 @@ export default function App() {
                 {/* Notification Popover */}
                 <NotificationPopover
                   notifications={notifications}
+                  unreadCount={unreadCount}
+                  hasMore={notificationsCursor !== null}
                   onNotificationClick={handleNotificationClick}
                   onMarkAsRead={handleMarkAsRead}
+                  onMarkAllAsRead={handleMarkAllAsRead}
+                  onLoadMore={handleLoadMoreNotifications}
                 />
 
                 <Button
@@ -931,6 +1083,7 @@ export default function App() {
                   </div>
 
                   <div className="grid grid-cols-1 lg:grid-cols-2 gap-4">
+                    {/* 학교, 작성자, 카테고리, 미참여는 서버에서 이미 걸렀고 이 화면에서 만들거나 참여한 투표를 위해 한 번 더 확인 */}
                     {allVotes
                       .filter((vote) => {
                         const typeMatch = filterType === "all" || vote.type === filterType;
@@ -960,6 +1113,14 @@ export default function App() {
                         </div>
                       ))}
                   </div>
+                  {votesCursor && !feedUnavailable && (
+                    <button
+                      onClick={handleLoadMoreVotes}
+                      className="w-full mt-4 p-3 text-center text-sm text-zinc-400 hover:bg-zinc-800 hover:text-white rounded-lg transition-colors"
+                    >
+                      더 보기
+                    </button>
+                  )}
                 </div>
               )}
 
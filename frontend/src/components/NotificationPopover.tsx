@@ -21,16 +21,23 @@ interface Notification {
 
 interface NotificationPopoverProps {
   notifications: Notification[];
+  unreadCount: number;
+  hasMore: boolean;
   onNotificationClick: (voteId: string) => void;
   onMarkAsRead: (notificationId: string) => void;
+  onMarkAllAsRead: () => void;
+  onLoadMore: () => void;
 }
 
 export function NotificationPopover({
   notifications,
+  unreadCount,
+  hasMore,
   onNotificationClick,
   onMarkAsRead,
+  onMarkAllAsRead,
+  onLoadMore,
 }: NotificationPopoverProps) {
-  const unreadCount = notifications.filter((n) => !n.isRead).length;
   const [open, setOpen] = useState(false);
 
   const handleNotificationClick = (voteId: string, notificationId: string) => {
@@ -62,6 +69,14 @@ export function NotificationPopover({
             <DialogDescription className="text-xs text-lime-400 text-left">
               {unreadCount > 0 ? `${unreadCount}개의 새로운 알림` : '최근 알림 내역'}
             </DialogDescription>
+            {unreadCount > 0 && (
+              <button
+                onClick={onMarkAllAsRead}
+                className="self-end text-xs text-zinc-400 hover:text-white transition-colors"
+              >
+                모두 읽음
+              </button>
+            )}
           </DialogHeader>
           
           <div className="overflow-y-auto flex-1 bg-zinc-900">
@@ -105,6 +120,14 @@ export function NotificationPopover({
                     </div>
                   </button>
                 ))}
+                {hasMore && (
+                  <button
+                    onClick={onLoadMore}
+                    className="w-full p-3 text-center text-xs text-zinc-400 hover:bg-zinc-800 hover:text-white transition-colors"
+                  >
+                    더 보기
+                  </button>
+                )}
               </div>
             )}
           </div>
@@ -71,6 +71,27 @@ export const VoteAnalysisModal = memo(function VoteAnalysisModal({ isOpen, onClo
         }
     }, [isOpen, vote?.id]); // Only re-run when vote.id changes, not the entire vote object
 
+    // 열려 있는 동안 투표 수는 실시간 현황(SSE)으로 갱신 (분석 데이터는 처음 조회한 값 유지)
+    useEffect(() => {
+        if (!isOpen || !vote) return;
+
+        return voteService.subscribeLive(Number(vote.id), (tally) => {
+            setResults(prev => {
+                if (!prev) return prev;
+                const counts = new Map(tally.options.map(option => [option.id, option]));
+                return {
+                    ...prev,
+                    totalVotes: tally.totalVotes,
+                    isActive: tally.isActive,
+                    results: prev.results?.map(result => {
+                        const live = counts.get(result.optionId);
+                        return live ? { ...result, voteCount: live.voteCount, percentage: live.percentage } : result;
+                    }),
+                };
+            });
+        });
+    }, [isOpen, vote?.id]);
+
     if (!vote) return null;
 
     if (isLoading || error || !results) {
@@ -9,6 +9,18 @@ export interface ApiResponse<T> {
   };
 }
 
+export interface StreamEvent {
+  id?: string;
+  event: string;
+  data: string;
+}
+
+export interface StreamHandlers {
+  onEvent: (event: StreamEvent) => void;
+  onOpen?: () => void;
+  onClose?: () => void;
+}
+
 class ApiClient {
   private baseURL: string;
   private defaultHeaders: HeadersInit;
@@ -26,12 +38,7 @@ class ApiClient {
     this.getTokenCallback = callback;
   }
 
-  private async request<T>(
-    endpoint: string,
-    options: RequestInit = {}
-  ): Promise<T> {
-    const url = `${this.baseURL}${endpoint}`;
-
+  private resolveToken(): string | null {
     // 1. react-oidc-context에서 ID 토큰 가져오기 시도
     let token: string | null = null;
     if (this.getTokenCallback) {
@@ -42,6 +49,15 @@ class ApiClient {
     if (!token) {
       token = localStorage.getItem('token');
     }
+    return token;
+  }
+
+  private async request<T>(
+    endpoint: string,
+    options: RequestInit = {}
+  ): Promise<T> {
+    const url = `${this.baseURL}${endpoint}`;
+    const token = this.resolveToken();
 
     const headers: HeadersInit = {
       ...this.defaultHeaders,
@@ -136,6 +152,96 @@ class ApiClient {
       method: 'DELETE',
     });
   }
+
+  /**
+   * SSE 구독 (EventSource는 Authorization 헤더를 보낼 수 없어 fetch로 읽음)
+   * 연결이 끊기면 Last-Event-ID와 함께 다시 연결하고, 반환된 함수를 호출하면 구독을 끝냄
+   * 재연결 간격은 실패할 때마다 두 배 (baseRetryMs ~ maxRetryMs) + 지터 - 서버 재시작 시 모든 클라이언트가
+   * 같은 순간에 몰리지 않도록 하고, 연결에 성공하면 다시 baseRetryMs부터 시작
+   */
+  stream(endpoint: string, handlers: StreamHandlers, baseRetryMs = 1000, maxRetryMs = 30000): () => void {
+    const controller = new AbortController();
+    let lastEventId: string | undefined;
+    let retryTimer: ReturnType<typeof setTimeout> | undefined;
+    let attempt = 0;
+
+    // 상한의 절반 ~ 상한 사이에서 무작위 (equal jitter)
+    const nextDelay = () => {
+      const ceiling = Math.min(maxRetryMs, baseRetryMs * 2 ** attempt);
+      attempt += 1;
+      return ceiling / 2 + Math.random() * (ceiling / 2);
+    };
+
+    const connect = async () => {
+      const token = this.resolveToken();
+      const headers: Record<string, string> = {};
+      if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+      }
+      if (lastEventId) {
+        headers['Last-Event-ID'] = lastEventId;
+      }
+
+      try {
+        const response = await fetch(`${this.baseURL}${endpoint}`, {
+          headers,
+          signal: controller.signal,
+        });
+        if (!response.ok || !response.body) {
+          throw new Error(`HTTP error! status: ${response.status}`);
+        }
+        attempt = 0;
+        handlers.onOpen?.();
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+
+          // 이벤트는 빈 줄로 구분
+          let boundary;
+          while ((boundary = buffer.search(/\r?\n\r?\n/)) >= 0) {
+            const block = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, '');
+
+            let id: string | undefined;
+            let event = 'message';
+            const data: string[] = [];
+            for (const line of block.split(/\r?\n/)) {
+              if (line.startsWith(':')) continue; // 주석 (하트비트)
+              const colon = line.indexOf(':');
+              const field = colon >= 0 ? line.slice(0, colon) : line;
+              const fieldValue = colon >= 0 ? line.slice(colon + 1).replace(/^ /, '') : '';
+              if (field === 'id') id = fieldValue;
+              else if (field === 'event') event = fieldValue;
+              else if (field === 'data') data.push(fieldValue);
+            }
+            if (id) lastEventId = id;
+            if (data.length > 0) {
+              handlers.onEvent({ id, event, data: data.join('\n') });
+            }
+          }
+        }
+      } catch (error: any) {
+        if (error.name === 'AbortError') return;
+        console.error('Stream connection failed:', error);
+      }
+
+      handlers.onClose?.();
+      if (!controller.signal.aborted) {
+        retryTimer = setTimeout(connect, nextDelay());
+      }
+    };
+
+    connect();
+
+    return () => {
+      controller.abort();
+      clearTimeout(retryTimer);
+    };
+  }
 }
 
 export const apiClient = new ApiClient(API_BASE_URL);
@@ -2,7 +2,7 @@ import { apiClient, type ApiResponse } from '../lib/api';
 
 export interface Notification {
   id: number;
-  userId: string;
+  broadcast: boolean;
   type: string;
   title: string;
   message: string;
@@ -11,6 +11,16 @@ export interface Notification {
   createdAt: string;
 }
 
+export interface NotificationPage {
+  items: Notification[];
+  nextCursor: string | null;
+}
+
+export interface NotificationDisplayPage {
+  items: NotificationDisplay[];
+  nextCursor: string | null;
+}
+
 export interface NotificationDisplay {
   id: string;
   title: string;
@@ -20,6 +30,9 @@ export interface NotificationDisplay {
   isRead: boolean;
 }
 
+// 개인 알림과 전체 알림은 ID가 겹칠 수 있으므로 전체 알림은 접두사를 붙여 구분
+const BROADCAST_ID_PREFIX = 'broadcast-';
+
 /**
  * 백엔드 Notification을 프론트엔드 NotificationDisplay 형식으로 변환
  */
@@ -44,7 +57,7 @@ function convertToNotificationDisplay(notification: Notification): NotificationD
   }
 
   return {
-    id: notification.id.toString(),
+    id: notification.broadcast ? `${BROADCAST_ID_PREFIX}${notification.id}` : notification.id.toString(),
     title: notification.title,
     message: notification.message,
     time: timeText,
@@ -55,17 +68,65 @@ function convertToNotificationDisplay(notification: Notification): NotificationD
 
 export const notificationService = {
   /**
-   * 내 알림 목록 조회
+   * 내 알림 목록 조회 (키셋 페이지네이션 - 다음 페이지는 nextCursor 전달)
+   */
+  async getNotifications(cursor?: string | null, limit = 20): Promise<NotificationDisplayPage> {
+    const params = new URLSearchParams({ limit: String(limit) });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+    const response = await apiClient.get<ApiResponse<NotificationPage>>(`/notifications?${params.toString()}`);
+    return {
+      items: response.data.items.map(convertToNotificationDisplay),
+      nextCursor: response.data.nextCursor,
+    };
+  },
+
+  /**
+   * 안 읽은 알림 수 조회 (폴링용)
    */
-  async getNotifications(): Promise<NotificationDisplay[]> {
-    const response = await apiClient.get<ApiResponse<Notification[]>>('/notifications');
-    return response.data.map(convertToNotificationDisplay);
+  async getUnreadCount(): Promise<number> {
+    const response = await apiClient.get<ApiResponse<number>>('/notifications/unread-count');
+    return response.data;
   },
 
   /**
    * 알림 읽음 처리
    */
   async markAsRead(id: string): Promise<void> {
+    if (id.startsWith(BROADCAST_ID_PREFIX)) {
+      await apiClient.patch<ApiResponse<string>>(`/notifications/broadcasts/${id.slice(BROADCAST_ID_PREFIX.length)}/read`);
+      return;
+    }
     await apiClient.patch<ApiResponse<string>>(`/notifications/${id}/read`);
   },
+
+  /**
+   * 새 알림 실시간 수신 (SSE) - 반환된 함수를 호출하면 구독 종료
+   * 연결 상태는 onConnectionChange로 알림 (끊긴 동안에는 호출 측에서 폴링)
+   */
+  subscribe(
+    onNotification: (notification: NotificationDisplay) => void,
+    onConnectionChange?: (connected: boolean) => void
+  ): () => void {
+    return apiClient.stream('/notifications/stream', {
+      onEvent: (event) => {
+        if (event.event !== 'notification') return;
+        try {
+          onNotification(convertToNotificationDisplay(JSON.parse(event.data) as Notification));
+        } catch (error) {
+          console.error('Failed to parse notification event:', error);
+        }
+      },
+      onOpen: () => onConnectionChange?.(true),
+      onClose: () => onConnectionChange?.(false),
+    });
+  },
+
+  /**
+   * 알림 모두 읽음 처리
+   */
+  async markAllAsRead(): Promise<void> {
+    await apiClient.patch<ApiResponse<string>>('/notifications/read-all');
+  },
 };
@@ -4,6 +4,7 @@ import type {
   VoteResponse,
   CreateVoteRequest,
   CastVoteRequest,
+  VoteLiveResponse,
   VoteResultResponse
 } from '../types/vote';
 
@@ -33,6 +34,22 @@ const convertToVote = (backendVote: any): any => {
   };
 };
 
+export interface VoteFeedOptions {
+  status?: string;
+  creatorId?: string;
+  hot?: boolean;
+  schoolName?: string;
+  category?: string;
+  excludeVoted?: boolean; // 내가 참여한 투표 제외
+  cursor?: string | null;
+  size?: number;
+}
+
+export interface VoteFeedPage {
+  votes: VoteResponse[];
+  nextCursor: string | null;
+}
+
 export const voteService = {
   async uploadImage(imageFile: File): Promise<string> {
     const formData = new FormData();
@@ -46,18 +63,30 @@ export const voteService = {
     return response.data.imageUrl;
   },
 
-  async getVotes(status?: string, creatorId?: string): Promise<VoteResponse[]> {
+  // 투표 피드 (키셋 페이지네이션) - nextCursor가 null이면 마지막 페이지
+  // 조건은 서버에서 걸러지므로 어느 페이지에 있는 투표든 첫 페이지부터 나옴
+  async getVoteFeed(options: VoteFeedOptions = {}): Promise<VoteFeedPage> {
     const params = new URLSearchParams();
-    if (status) params.append('status', status);
-    if (creatorId) params.append('creatorId', creatorId);
+    if (options.status) params.append('status', options.status);
+    if (options.creatorId) params.append('creatorId', options.creatorId);
+    if (options.hot) params.append('hot', 'true');
+    if (options.schoolName) params.append('schoolName', options.schoolName);
+    if (options.category) params.append('category', options.category);
+    if (options.excludeVoted) params.append('excludeVoted', 'true');
+    if (options.cursor) params.append('cursor', options.cursor);
+    if (options.size) params.append('size', String(options.size));
 
     const queryString = params.toString();
     const endpoint = queryString ? `/votes?${queryString}` : '/votes';
 
-    const response = await apiClient.get<ApiResponse<any[]>>(endpoint);
-    return response.data.map(convertToVote);
+    const response = await apiClient.get<ApiResponse<{ items: any[]; nextCursor: string | null }>>(endpoint);
+    return {
+      votes: response.data.items.map(convertToVote),
+      nextCursor: response.data.nextCursor,
+    };
   },
 
+
   async getVote(id: number): Promise<VoteResponse> {
     const response = await apiClient.get<ApiResponse<any>>(`/votes/${id}`);
     return convertToVote(response.data);
@@ -117,4 +146,20 @@ export const voteService = {
     const response = await apiClient.get<ApiResponse<VoteResultResponse>>(`/votes/${id}/results`);
     return response.data;
   },
+
+  /**
+   * 실시간 투표 현황 수신 (SSE) - 결과를 반복 조회하는 대신 사용, 반환된 함수를 호출하면 구독 종료
+   */
+  subscribeLive(id: number, onTally: (tally: VoteLiveResponse) => void): () => void {
+    return apiClient.stream(`/votes/${id}/live`, {
+      onEvent: (event) => {
+        if (event.event !== 'tally') return;
+        try {
+          onTally(JSON.parse(event.data) as VoteLiveResponse);
+        } catch (error) {
+          console.error('Failed to parse vote tally event:', error);
+        }
+      },
+    });
+  },
 };
@@ -70,6 +70,20 @@ export interface VoteResponse {
   creatorId: string;
 }
 
+// GET /votes/{id}/live 이벤트 (실시간 투표 현황)
+export interface VoteLiveResponse {
+  id: number;
+  totalVotes: number;
+  isActive: boolean;
+  options: Array<{
+    id: number;
+    optionText: string;
+    voteCount: number;
+    imageUrl?: string;
+    percentage: number;
+  }>;
+}
+
 export interface VoteResultResponse {
   id: number;
   title: string;
@@ -1,7 +1,10 @@
 /**
  * Picknic Hot Vote Notification Handler (AWS Lambda)
  *
- * SNS에서 Hot 투표 알림을 수신하여 모든 사용자에게 알림을 생성하는 Lambda 함수
+ * SNS에서 Hot 투표 알림을 수신하여 전체 알림(broadcast_notifications) 한 건을 생성하는 Lambda 함수
+ *
+ * 사용자 수와 무관하게 INSERT 한 번으로 끝나며, 사용자는 알림 조회 시 개인 알림과 합쳐서 받는다.
+ * 백엔드도 같은 알림을 만들 수 있으므로 (type, vote_id)가 이미 있으면 아무것도 하지 않는다.
  *
  * Environment Variables:
  * - DB_HOST: PostgreSQL RDS 호스트
@@ -50,51 +53,32 @@ exports.handler = async (event) => {
         await client.connect();
         console.log('Connected to PostgreSQL database');
 
-        // 3. 모든 사용자 조회
-        const usersQuery = 'SELECT email FROM users';
-        const usersResult = await client.query(usersQuery);
-        const users = usersResult.rows;
-
-        console.log(`Found ${users.length} users to notify`);
-
-        // 4. 각 사용자에게 알림 생성
-        const notificationTitle = '🔥 HOT';
-        const notificationMessage = `${voteTitle} - ${category} 투표가 HOT으로 선정되었습니다!`;
+        // 3. 전체 알림 생성 (이미 있으면 무시)
+        const notificationTitle = '🔥 HOT 투표!';
+        const notificationMessage = `"${voteTitle}" 투표가 인기 급상승 중이에요! 지금 바로 참여해보세요!`;
 
         const insertQuery = `
-            INSERT INTO notifications (user_id, type, title, message, vote_id, is_read, created_at)
-            VALUES ($1, $2, $3, $4, $5, $6, NOW())
+            INSERT INTO broadcast_notifications (id, type, title, message, vote_id, created_at)
+            VALUES (nextval('broadcast_notifications_seq'), $1, $2, $3, $4, NOW())
+            ON CONFLICT (type, vote_id) DO NOTHING
         `;
 
-        let successCount = 0;
-        let failureCount = 0;
-
-        for (const user of users) {
-            try {
-                await client.query(insertQuery, [
-                    user.email,
-                    'HOT_VOTE',
-                    notificationTitle,
-                    notificationMessage,
-                    voteId,
-                    false
-                ]);
-                successCount++;
-            } catch (error) {
-                console.error(`Failed to insert notification for user ${user.email}:`, error);
-                failureCount++;
-            }
-        }
+        const result = await client.query(insertQuery, [
+            'HOT_VOTE',
+            notificationTitle,
+            notificationMessage,
+            voteId
+        ]);
+        const created = result.rowCount > 0;
 
-        console.log(`Notifications created: ${successCount} success, ${failureCount} failures`);
+        console.log(`Broadcast notification ${created ? 'created' : 'already exists'} - voteId: ${voteId}, category: ${category}`);
 
         return {
             statusCode: 200,
             body: JSON.stringify({
-                message: 'Notifications created successfully',
+                message: created ? 'Broadcast notification created' : 'Broadcast notification already exists',
                 voteId,
-                usersNotified: successCount,
-                failures: failureCount
+                created
             })
         };
 
@@ -108,7 +92,7 @@ exports.handler = async (event) => {
             })
         };
     } finally {
-        // 5. 연결 종료
+        // 4. 연결 종료
         await client.end();
         console.log('PostgreSQL connection closed');
     }